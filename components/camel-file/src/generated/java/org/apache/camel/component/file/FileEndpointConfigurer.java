@@ -99,6 +99,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "jailStartingDirectory": target.setJailStartingDirectory(property(camelContext, boolean.class, value)); return true;
         case "keeplastmodified":
         case "keepLastModified": target.setKeepLastModified(property(camelContext, boolean.class, value)); return true;
+        case "lazylisting":
+        case "lazyListing": target.setLazyListing(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "localworkdirectory":
@@ -275,6 +277,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "jailStartingDirectory": return boolean.class;
         case "keeplastmodified":
         case "keepLastModified": return boolean.class;
+        case "lazylisting":
+        case "lazyListing": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "localworkdirectory":
@@ -452,6 +456,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "jailStartingDirectory": return target.isJailStartingDirectory();
         case "keeplastmodified":
         case "keepLastModified": return target.isKeepLastModified();
+        case "lazylisting":
+        case "lazyListing": return target.isLazyListing();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "localworkdirectory":
@@ -21,7 +21,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(95);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -67,6 +67,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("initialDelay");
         props.add("jailStartingDirectory");
         props.add("keepLastModified");
+        props.add("lazyListing");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
         props.add("maxDepth");
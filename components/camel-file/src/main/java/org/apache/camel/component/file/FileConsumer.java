@@ -18,8 +18,11 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -72,6 +75,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     }
 
     private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+        if (isLazyListing()) {
+            return pollDirectoryLazy(directory, fileList, depth);
+        }
+
         depth++;
 
         if (LOG.isTraceEnabled()) {
@@ -121,13 +128,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                     LOG.trace("Adding valid file: {}", file);
                     // matched file so add
                     if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
+                        setExtendedAttributes(file, file.toPath(), gf);
                     }
 
                     fileList.add(gf);
@@ -139,6 +140,83 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return true;
     }
 
+    /**
+     * Polls the directory by iterating the directory entries lazily using a {@link DirectoryStream}, which stops as
+     * soon as no more files can be polled, instead of listing all the files in the directory up front.
+     */
+    private boolean pollDirectoryLazy(File directory, List<GenericFile<File>> fileList, int depth) {
+        depth++;
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polling directory (lazy): {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+
+                File file = path.toFile();
+                BasicFileAttributes attributes;
+                try {
+                    // read all the attributes at once
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // the file may have been deleted in the mean time
+                    LOG.trace("Cannot read attributes of file: {} due to: {}. Will skip this file.", file, e.getMessage());
+                    continue;
+                }
+
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Found file: {} [isDirectory: {}, isRegularFile: {}]", file, attributes.isDirectory(),
+                            attributes.isRegularFile());
+                }
+
+                GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(),
+                        getEndpoint().isProbeContentType());
+
+                if (resumeStrategy instanceof GenericFileResumeStrategy) {
+                    ((GenericFileResumeStrategy<File>) resumeStrategy).resume(gf);
+                }
+
+                if (attributes.isDirectory()) {
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                        boolean canPollMore = pollDirectoryLazy(file, fileList, depth);
+                        if (!canPollMore) {
+                            return false;
+                        }
+                    }
+                } else if (depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+                    LOG.trace("Adding valid file: {}", file);
+                    if (extendedAttributes != null) {
+                        setExtendedAttributes(file, path, gf);
+                    }
+                    fileList.add(gf);
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Error listing files in directory: {} due to: {}", directory.getPath(), e.getMessage());
+        }
+
+        return true;
+    }
+
+    private boolean isLazyListing() {
+        // pre sort and file set resume strategies need all the files up front
+        return getEndpoint().isLazyListing() && !getEndpoint().isPreSort()
+                && !(resumeStrategy instanceof FileSetResumeStrategy);
+    }
+
+    private void setExtendedAttributes(File file, Path path, GenericFile<File> gf) {
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            readAttributes(file, path, allAttributes, attribute);
+        }
+        gf.setExtendedAttributes(allAttributes);
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
@@ -211,6 +289,15 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the directory is listed lazily, so check the done file directly
+            if (new File(doneFileName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
+
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -231,6 +318,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, null, charset, probeContentType);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  attributes       the already read attributes of the file, or <tt>null</tt> to read from the file
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -239,8 +340,15 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        if (attributes != null) {
+            answer.setFileLength(attributes.size());
+            answer.setDirectory(attributes.isDirectory());
+            answer.setLastModified(attributes.lastModifiedTime().toMillis());
+        } else {
+            answer.setFileLength(file.length());
+            answer.setDirectory(file.isDirectory());
+            answer.setLastModified(file.lastModified());
+        }
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -252,7 +360,6 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
 
         // compute the file path as relative to the starting directory
         File path;
@@ -75,6 +75,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean lazyListing;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -360,6 +362,20 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isLazyListing() {
+        return lazyListing;
+    }
+
+    /**
+     * Whether to list the files in the directory lazily using a {@link java.nio.file.DirectoryStream}, which stops
+     * listing as soon as maxMessagesPerPoll files have been found (when eagerMaxMessagesPerPoll is enabled), instead of
+     * listing all the files in the directory on every poll. This is recommended for directories with a large number of
+     * files. This option is not in use together with preSort.
+     */
+    public void setLazyListing(boolean lazyListing) {
+        this.lazyListing = lazyListing;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -18,9 +18,17 @@ package org.apache.camel.component.jms.reply;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
@@ -28,17 +36,41 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which has been timed out, and thus should
  * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well. Zero (or negative) timeout means infinite
  * but is actually encoded as {@link Integer#MAX_VALUE} which is 24 days.
+ * <p/>
+ * The correlation ids are spread over a number of shards, which each has its own lock and timer wheel, so the producers
+ * and reply consumers does not all contend on a single lock when there are many in-flight request-replies. The shards
+ * are purged by a single background task.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CorrelationTimeoutMap.class);
+
+    private static final int MAX_SHARDS = 64;
 
     private final BiConsumer<ReplyHandler, String> evictionTask;
+    private final ScheduledExecutorService executor;
+    private final long purgePollTime;
+    private final Shard[] shards;
+    private volatile ScheduledFuture<?> future;
 
     CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
                 : (handler, key) -> executorService.submit(() -> handler.onTimeout(key));
+
+        // a power of two number of shards, so a shard can be selected by masking the hash code
+        int count = 1;
+        while (count < MAX_SHARDS && count < Runtime.getRuntime().availableProcessors() * 2) {
+            count <<= 1;
+        }
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(executor, requestMapPollTimeMillis);
+        }
         addListener(this::listener);
     }
 
@@ -48,23 +80,108 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
     private void listener(Listener.Type type, String key, ReplyHandler handler) {
         if (type == Put) {
-            log.trace("Added correlationID: {}", key);
+            LOG.trace("Added correlationID: {}", key);
         } else if (type == Remove) {
-            log.trace("Removed correlationID: {}", key);
+            LOG.trace("Removed correlationID: {}", key);
         } else if (type == Evict) {
             evictionTask.accept(handler, key);
-            log.trace("Evicted correlationID: {}", key);
+            LOG.trace("Evicted correlationID: {}", key);
         }
     }
 
+    private Shard shard(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    @Override
+    public ReplyHandler get(String key) {
+        return shard(key).get(key);
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        return shard(key).put(key, value, encode(timeoutMillis));
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        return shard(key).putIfAbsent(key, value, encode(timeoutMillis));
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        return shard(key).remove(key);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        for (Shard shard : shards) {
+            shard.addListener(listener);
+        }
     }
 
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            LOG.trace("Purge task not allowed to run");
+            return;
+        }
+
+        for (Shard shard : shards) {
+            try {
+                shard.purgeExpired();
+            } catch (Throwable t) {
+                // must catch and log exception otherwise the executor will not schedule next purgeTask
+                LOG.warn("Exception occurred during purge task. This exception will be ignored.", t);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        for (Shard shard : shards) {
+            ServiceHelper.startService(shard);
+        }
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        for (Shard shard : shards) {
+            ServiceHelper.stopService(shard);
+        }
+    }
+
+    /**
+     * A shard of the correlation ids, which is purged by the correlation map instead of its own background task
+     */
+    private static final class Shard extends DefaultTimeoutMap<String, ReplyHandler> {
+
+        Shard(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+            super(executor, requestMapPollTimeMillis);
+        }
+
+        @Override
+        protected void schedulePoll() {
+            // purged by the correlation map
+        }
+
+        void purgeExpired() {
+            purge();
+        }
+    }
 }
@@ -72,13 +72,14 @@ public class QueueReplyManager extends ReplyManagerSupport {
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
-        ReplyHandler handler = correlation.get(correlationID);
-        if (handler == null && endpoint.isUseMessageIDAsCorrelationID()) {
-            handler = waitForProvisionCorrelationToBeUpdated(correlationID, message);
+        // lookup and remove in one operation, so concurrent reply consumers cannot both handle the same reply
+        ReplyHandler handler = correlation.remove(correlationID);
+        if (handler == null && endpoint.isUseMessageIDAsCorrelationID()
+                && waitForProvisionCorrelationToBeUpdated(correlationID, message) != null) {
+            handler = correlation.remove(correlationID);
         }
 
         if (handler != null) {
-            correlation.remove(correlationID);
             handler.onReply(correlationID, message, session);
         } else {
             // we could not correlate the received reply message to a matching request and therefore
@@ -215,17 +216,10 @@ public class QueueReplyManager extends ReplyManagerSupport {
         answer.setBeanName(name);
 
         if (endpoint.getReplyToConcurrentConsumers() > 1) {
-            if (ReplyToType.Shared == type) {
-                // warn if using concurrent consumer with shared reply queue as that may not work properly
-                log.warn(
-                        "Using {} concurrent consumer on {} with shared queue {} may not work properly with all message brokers.",
-                        endpoint.getReplyToConcurrentConsumers(), name,
-                        endpoint.getReplyTo());
-            } else {
-                // log that we are using concurrent consumers
-                log.info("Using {} concurrent consumers on {}",
-                        endpoint.getReplyToConcurrentConsumers(), name);
-            }
+            // log that we are using concurrent consumers, which is also safe for a shared queue as the simple
+            // listener always uses a fixed message selector
+            log.info("Using {} concurrent consumers on {}",
+                    endpoint.getReplyToConcurrentConsumers(), name);
         }
 
         return answer;
@@ -333,8 +327,9 @@ public class QueueReplyManager extends ReplyManagerSupport {
         answer.setBeanName(name);
 
         if (answer.getConcurrentConsumers() > 1) {
-            if (ReplyToType.Shared == type) {
-                // warn if using concurrent consumer with shared reply queue as that may not work properly
+            if (ReplyToType.Shared == type && dynamicMessageSelector != null) {
+                // warn if using concurrent consumer with shared reply queue and a dynamic message selector
+                // as that may not work properly (a fixed message selector is safe to use concurrently)
                 log.warn(
                         "Using {}-{} concurrent consumer on {} with shared queue {} may not work properly with all message brokers.",
                         answer.getConcurrentConsumers(), answer.getMaxConcurrentConsumers(), name,
@@ -77,13 +77,14 @@ public class TemporaryQueueReplyManager extends ReplyManagerSupport {
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
-        ReplyHandler handler = correlation.get(correlationID);
-        if (handler == null && endpoint.isUseMessageIDAsCorrelationID()) {
-            handler = waitForProvisionCorrelationToBeUpdated(correlationID, message);
+        // lookup and remove in one operation, so concurrent reply consumers cannot both handle the same reply
+        ReplyHandler handler = correlation.remove(correlationID);
+        if (handler == null && endpoint.isUseMessageIDAsCorrelationID()
+                && waitForProvisionCorrelationToBeUpdated(correlationID, message) != null) {
+            handler = correlation.remove(correlationID);
         }
 
         if (handler != null) {
-            correlation.remove(correlationID);
             handler.onReply(correlationID, message, session);
         } else {
             // we could not correlate the received reply message to a matching request and therefore
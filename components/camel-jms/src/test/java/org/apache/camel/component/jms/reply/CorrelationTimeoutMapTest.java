@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.reply;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CorrelationTimeoutMapTest {
+
+    private ScheduledExecutorService executor;
+    private CorrelationTimeoutMap map;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(1);
+        map = new CorrelationTimeoutMap(executor, 50, null);
+        map.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        map.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        Set<String> removed = Collections.synchronizedSet(new HashSet<>());
+        map.addListener((type, key, value) -> {
+            if (type == Remove) {
+                removed.add(key);
+            }
+        });
+
+        ReplyHandler[] handlers = new ReplyHandler[1000];
+        for (int i = 0; i < handlers.length; i++) {
+            handlers[i] = new MyReplyHandler(null);
+            assertNull(map.putIfAbsent("ID-" + i, handlers[i], 60000));
+        }
+        assertEquals(1000, map.size());
+        assertSame(handlers[0], map.putIfAbsent("ID-0", new MyReplyHandler(null), 60000));
+
+        for (int i = 0; i < handlers.length; i++) {
+            assertSame(handlers[i], map.get("ID-" + i));
+            assertSame(handlers[i], map.remove("ID-" + i));
+            assertNull(map.remove("ID-" + i));
+        }
+        assertEquals(0, map.size());
+        assertEquals(1000, removed.size());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            map.put("ID-" + i, new MyReplyHandler(latch), 100);
+        }
+        map.put("ID-other", new MyReplyHandler(null), 60000);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, map.size());
+    }
+
+    private static final class MyReplyHandler implements ReplyHandler {
+
+        private final CountDownLatch latch;
+
+        MyReplyHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onReply(String correlationId, Message reply, Session session) {
+        }
+
+        @Override
+        public void onTimeout(String correlationId) {
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+    }
+}
@@ -40,6 +40,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": getOrCreateConfiguration(target).setBatchingIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -115,6 +118,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": getOrCreateConfiguration(target).setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxblockms":
         case "maxBlockMs": getOrCreateConfiguration(target).setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": getOrCreateConfiguration(target).setMaxInFlightExchanges(property(camelContext, int.class, value)); return true;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": getOrCreateConfiguration(target).setMaxInFlightRecords(property(camelContext, int.class, value)); return true;
         case "maxinflightrequest":
         case "maxInFlightRequest": getOrCreateConfiguration(target).setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpartitionfetchbytes":
@@ -158,6 +165,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": getOrCreateConfiguration(target).setReconnectBackoffMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "recordmetadata":
         case "recordMetadata": getOrCreateConfiguration(target).setRecordMetadata(property(camelContext, boolean.class, value)); return true;
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": getOrCreateConfiguration(target).setRecordProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": getOrCreateConfiguration(target).setRecordProcessingThreads(property(camelContext, int.class, value)); return true;
         case "requestrequiredacks":
         case "requestRequiredAcks": getOrCreateConfiguration(target).setRequestRequiredAcks(property(camelContext, java.lang.String.class, value)); return true;
         case "requesttimeoutms":
@@ -258,6 +269,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return java.lang.Integer.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -333,6 +347,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": return java.lang.Integer.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": return int.class;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return int.class;
         case "maxinflightrequest":
         case "maxInFlightRequest": return java.lang.Integer.class;
         case "maxpartitionfetchbytes":
@@ -376,6 +394,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": return java.lang.Integer.class;
         case "recordmetadata":
         case "recordMetadata": return boolean.class;
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": return java.lang.String.class;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return int.class;
         case "requestrequiredacks":
         case "requestRequiredAcks": return java.lang.String.class;
         case "requesttimeoutms":
@@ -472,6 +494,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return getOrCreateConfiguration(target).getBatchingIntervalMs();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -547,6 +572,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": return getOrCreateConfiguration(target).getLingerMs();
         case "maxblockms":
         case "maxBlockMs": return getOrCreateConfiguration(target).getMaxBlockMs();
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": return getOrCreateConfiguration(target).getMaxInFlightExchanges();
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return getOrCreateConfiguration(target).getMaxInFlightRecords();
         case "maxinflightrequest":
         case "maxInFlightRequest": return getOrCreateConfiguration(target).getMaxInFlightRequest();
         case "maxpartitionfetchbytes":
@@ -590,6 +619,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": return getOrCreateConfiguration(target).getReconnectBackoffMs();
         case "recordmetadata":
         case "recordMetadata": return getOrCreateConfiguration(target).isRecordMetadata();
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": return getOrCreateConfiguration(target).getRecordProcessingOrdering();
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return getOrCreateConfiguration(target).getRecordProcessingThreads();
         case "requestrequiredacks":
         case "requestRequiredAcks": return getOrCreateConfiguration(target).getRequestRequiredAcks();
         case "requesttimeoutms":
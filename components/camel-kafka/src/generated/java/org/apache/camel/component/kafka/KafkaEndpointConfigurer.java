@@ -31,6 +31,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": target.getConfiguration().setAutoCommitIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": target.getConfiguration().setBatchingIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -105,6 +108,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": target.getConfiguration().setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxblockms":
         case "maxBlockMs": target.getConfiguration().setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": target.getConfiguration().setMaxInFlightExchanges(property(camelContext, int.class, value)); return true;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": target.getConfiguration().setMaxInFlightRecords(property(camelContext, int.class, value)); return true;
         case "maxinflightrequest":
         case "maxInFlightRequest": target.getConfiguration().setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpartitionfetchbytes":
@@ -146,6 +153,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": target.getConfiguration().setReconnectBackoffMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "recordmetadata":
         case "recordMetadata": target.getConfiguration().setRecordMetadata(property(camelContext, boolean.class, value)); return true;
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": target.getConfiguration().setRecordProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": target.getConfiguration().setRecordProcessingThreads(property(camelContext, int.class, value)); return true;
         case "requestrequiredacks":
         case "requestRequiredAcks": target.getConfiguration().setRequestRequiredAcks(property(camelContext, java.lang.String.class, value)); return true;
         case "requesttimeoutms":
@@ -233,6 +244,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return java.lang.Integer.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return java.lang.Integer.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -307,6 +321,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": return java.lang.Integer.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": return int.class;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return int.class;
         case "maxinflightrequest":
         case "maxInFlightRequest": return java.lang.Integer.class;
         case "maxpartitionfetchbytes":
@@ -348,6 +366,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": return java.lang.Integer.class;
         case "recordmetadata":
         case "recordMetadata": return boolean.class;
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": return java.lang.String.class;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return int.class;
         case "requestrequiredacks":
         case "requestRequiredAcks": return java.lang.String.class;
         case "requesttimeoutms":
@@ -436,6 +458,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return target.getConfiguration().getAutoCommitIntervalMs();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return target.getConfiguration().getBatchingIntervalMs();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -510,6 +535,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": return target.getConfiguration().getLingerMs();
         case "maxblockms":
         case "maxBlockMs": return target.getConfiguration().getMaxBlockMs();
+        case "maxinflightexchanges":
+        case "maxInFlightExchanges": return target.getConfiguration().getMaxInFlightExchanges();
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return target.getConfiguration().getMaxInFlightRecords();
         case "maxinflightrequest":
         case "maxInFlightRequest": return target.getConfiguration().getMaxInFlightRequest();
         case "maxpartitionfetchbytes":
@@ -551,6 +580,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": return target.getConfiguration().getReconnectBackoffMs();
         case "recordmetadata":
         case "recordMetadata": return target.getConfiguration().isRecordMetadata();
+        case "recordprocessingordering":
+        case "recordProcessingOrdering": return target.getConfiguration().getRecordProcessingOrdering();
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return target.getConfiguration().getRecordProcessingThreads();
         case "requestrequiredacks":
         case "requestRequiredAcks": return target.getConfiguration().getRequestRequiredAcks();
         case "requesttimeoutms":
@@ -145,6 +145,16 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
     @UriParam(label = "consumer", defaultValue = "5000", javaType = "java.time.Duration")
     private Long commitTimeoutMs = 5000L;
+    @UriParam(label = "consumer")
+    private int recordProcessingThreads;
+    @UriParam(label = "consumer", defaultValue = "key", enums = "key,partition")
+    private String recordProcessingOrdering = "key";
+    @UriParam(label = "consumer", defaultValue = "1000")
+    private int maxInFlightRecords = 1000;
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer")
+    private Integer batchingIntervalMs;
 
     // Producer configuration properties
     @UriParam(label = "producer", defaultValue = KafkaConstants.KAFKA_DEFAULT_PARTITIONER)
@@ -214,6 +224,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     // max.in.flight.requests.per.connection
     @UriParam(label = "producer", defaultValue = "5")
     private Integer maxInFlightRequest = 5;
+    @UriParam(label = "producer")
+    private int maxInFlightExchanges;
     // metadata.max.age.ms
     @UriParam(label = "producer", defaultValue = "300000")
     private Integer metadataMaxAgeMs = 300000;
@@ -451,7 +463,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         addPropertyIfNotEmpty(props, ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, getInterceptorClasses());
         addPropertyIfNotEmpty(props, ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, getAutoOffsetReset());
         addPropertyIfNotEmpty(props, ConsumerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, getConnectionMaxIdleMs());
-        addPropertyIfNotEmpty(props, ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, getAutoCommitEnable());
+        addPropertyIfNotEmpty(props, ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG,
+                isCommitProcessedOffsets() ? Boolean.FALSE : getAutoCommitEnable());
         addPropertyIfNotEmpty(props, ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, getPartitionAssignor());
         addPropertyIfNotEmpty(props, ConsumerConfig.RECEIVE_BUFFER_CONFIG, getReceiveBufferBytes());
         addPropertyIfNotEmpty(props, ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, getConsumerRequestTimeoutMs());
@@ -694,6 +707,15 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         return autoCommitEnable;
     }
 
+    /**
+     * Whether the consumer commits the offsets of the processed records itself, as the records are processed in
+     * parallel or in batches, so the auto commit of the Kafka consumer (which commits the offsets of the polled
+     * records) is turned off
+     */
+    public boolean isCommitProcessedOffsets() {
+        return recordProcessingThreads > 0 || batching;
+    }
+
     /**
      * If true, periodically commit to ZooKeeper the offset of messages already fetched by the consumer. This committed
      * offset will be used when the process fails as the position from which the new consumer will begin.
@@ -1810,4 +1832,89 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     public void setCommitTimeoutMs(Long commitTimeoutMs) {
         this.commitTimeoutMs = commitTimeoutMs;
     }
+
+    public int getRecordProcessingThreads() {
+        return recordProcessingThreads;
+    }
+
+    /**
+     * The number of threads which process the records of each consumer, which allows processing the records of a
+     * partition in parallel, while the records with the same key (or of the same partition, see
+     * recordProcessingOrdering) are processed in order. The offsets are committed up to the last record where all the
+     * previous records of the partition have been processed, as the records may complete out of order.
+     *
+     * The default 0 processes the records on the consumer thread. This cannot be used together with allowManualCommit
+     * or breakOnFirstError.
+     */
+    public void setRecordProcessingThreads(int recordProcessingThreads) {
+        this.recordProcessingThreads = recordProcessingThreads;
+    }
+
+    public String getRecordProcessingOrdering() {
+        return recordProcessingOrdering;
+    }
+
+    /**
+     * Which records are processed in order when using recordProcessingThreads. With key, the records with the same key
+     * are processed in order, and with partition, all the records of a partition are processed in order. Records
+     * without a key are processed in order of their partition.
+     */
+    public void setRecordProcessingOrdering(String recordProcessingOrdering) {
+        this.recordProcessingOrdering = recordProcessingOrdering;
+    }
+
+    public int getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    /**
+     * The maximum number of records of each consumer which are waiting for or being processed when using
+     * recordProcessingThreads. When the limit is reached the consumer pauses fetching records until records have been
+     * processed.
+     */
+    public void setMaxInFlightRecords(int maxInFlightRecords) {
+        this.maxInFlightRecords = maxInFlightRecords;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route the polled records as a single exchange, where the message body is a list of exchanges, one for
+     * each record, with the record headers. The offsets are committed when the exchange has been processed. The number
+     * of records in a batch is limited by maxPollRecords. This cannot be used together with allowManualCommit or
+     * recordProcessingThreads.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public Integer getBatchingIntervalMs() {
+        return batchingIntervalMs;
+    }
+
+    /**
+     * The time in millis to collect records from several polls into a batch when using batching, before the batch is
+     * routed, unless the batch is full (maxPollRecords) before. If not set, the records of each poll are routed as a
+     * batch.
+     */
+    public void setBatchingIntervalMs(Integer batchingIntervalMs) {
+        this.batchingIntervalMs = batchingIntervalMs;
+    }
+
+    public int getMaxInFlightExchanges() {
+        return maxInFlightExchanges;
+    }
+
+    /**
+     * The maximum number of exchanges which the producer is sending, and waiting for the acknowledgement of the broker,
+     * when using asynchronous processing. When the limit is reached then new exchanges are blocked until sends have
+     * completed, which slows down the routes (backpressure) instead of buffering an unbounded number of records.
+     *
+     * The default 0 does not limit the number of exchanges.
+     */
+    public void setMaxInFlightExchanges(int maxInFlightExchanges) {
+        this.maxInFlightExchanges = maxInFlightExchanges;
+    }
 }
@@ -49,6 +49,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    private ExecutorService recordProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private KafkaHealthCheckRepository healthCheckRepository;
@@ -119,6 +120,14 @@ public class KafkaConsumer extends DefaultConsumer
         return tasks;
     }
 
+    /**
+     * The thread pool which processes the records in parallel, or <tt>null</tt> if the records are processed by the
+     * consumer threads
+     */
+    public ExecutorService getRecordProcessingExecutorService() {
+        return recordProcessingExecutor;
+    }
+
     @Override
     protected void doStart() throws Exception {
         LOG.info("Starting Kafka consumer on topic: {} with breakOnFirstError: {}", endpoint.getConfiguration().getTopic(),
@@ -145,6 +154,27 @@ public class KafkaConsumer extends DefaultConsumer
             }
         }
 
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.isBatching()
+                && (configuration.isAllowManualCommit() || configuration.getRecordProcessingThreads() > 0)) {
+            throw new IllegalArgumentException(
+                    "The batching option cannot be used together with allowManualCommit or recordProcessingThreads");
+        }
+        if (configuration.getRecordProcessingThreads() > 0) {
+            if (configuration.isAllowManualCommit() || configuration.isBreakOnFirstError()) {
+                throw new IllegalArgumentException(
+                        "The recordProcessingThreads option cannot be used together with allowManualCommit"
+                                                   + " or breakOnFirstError");
+            }
+            if (!"key".equals(configuration.getRecordProcessingOrdering())
+                    && !"partition".equals(configuration.getRecordProcessingOrdering())) {
+                throw new IllegalArgumentException(
+                        "The recordProcessingOrdering option must be key or partition, was: "
+                                                   + configuration.getRecordProcessingOrdering());
+            }
+            recordProcessingExecutor = endpoint.createRecordProcessingExecutor();
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -205,6 +235,13 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (recordProcessingExecutor != null) {
+            // the consumer threads has waited for the records being processed, so shutdown the record processing threads
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(recordProcessingExecutor,
+                    endpoint.getConfiguration().getShutdownTimeout());
+            recordProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
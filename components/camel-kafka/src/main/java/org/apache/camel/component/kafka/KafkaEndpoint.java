@@ -186,6 +186,12 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumersCount());
     }
 
+    public ExecutorService createRecordProcessingExecutor() {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                "KafkaConsumer[" + configuration.getTopic() + "]-RecordProcessing",
+                configuration.getRecordProcessingThreads());
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
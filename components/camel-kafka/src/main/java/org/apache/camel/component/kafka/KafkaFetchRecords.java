@@ -29,7 +29,10 @@ import org.apache.camel.component.kafka.consumer.CommitManager;
 import org.apache.camel.component.kafka.consumer.CommitManagers;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaErrorStrategies;
+import org.apache.camel.component.kafka.consumer.support.ContiguousOffsetTracker;
 import org.apache.camel.component.kafka.consumer.support.KafkaConsumerResumeStrategy;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordBatchingProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordParallelProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.PartitionAssignmentListener;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
@@ -66,6 +69,7 @@ public class KafkaFetchRecords implements Runnable {
     private CommitManager commitManager;
     private Exception lastError;
     private final KafkaConsumerListener consumerListener;
+    private final ContiguousOffsetTracker offsetTracker;
 
     private boolean terminated;
     private long currentBackoffInterval;
@@ -82,6 +86,9 @@ public class KafkaFetchRecords implements Runnable {
         this.consumerListener = consumerListener;
         this.threadId = topicName + "-" + "Thread " + id;
         this.kafkaProps = kafkaProps;
+        // the offsets of the records processed in parallel are tracked, so they can be committed in order
+        this.offsetTracker = kafkaConsumer.getRecordProcessingExecutorService() != null
+                ? new ContiguousOffsetTracker() : null;
 
         this.pollExceptionStrategy = KafkaErrorStrategies.strategies(this, kafkaConsumer.getEndpoint(), consumer);
     }
@@ -261,7 +268,7 @@ public class KafkaFetchRecords implements Runnable {
 
         PartitionAssignmentListener listener = new PartitionAssignmentListener(
                 threadId, kafkaConsumer.getEndpoint().getConfiguration(), lastProcessedOffset,
-                this::isRunnable, commitManager, resumeStrategy);
+                this::isRunnable, commitManager, resumeStrategy, offsetTracker);
 
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
@@ -290,12 +297,24 @@ public class KafkaFetchRecords implements Runnable {
                 LOG.trace("Polling {} from {} with timeout: {}", threadId, getPrintableTopic(), pollTimeoutMs);
             }
 
-            KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
-                    kafkaConsumer, lastProcessedOffset, threadId, commitManager, consumerListener);
+            KafkaRecordProcessorFacade recordProcessorFacade = null;
+            KafkaRecordParallelProcessorFacade parallelProcessorFacade = null;
+            KafkaRecordBatchingProcessorFacade batchingProcessorFacade = null;
+            if (offsetTracker != null) {
+                parallelProcessorFacade = new KafkaRecordParallelProcessorFacade(
+                        kafkaConsumer, lastProcessedOffset, threadId, commitManager, offsetTracker);
+            } else if (kafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+                batchingProcessorFacade = new KafkaRecordBatchingProcessorFacade(
+                        kafkaConsumer, lastProcessedOffset, threadId, commitManager, consumerListener);
+            } else {
+                recordProcessorFacade = new KafkaRecordProcessorFacade(
+                        kafkaConsumer, lastProcessedOffset, threadId, commitManager, consumerListener);
+            }
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             while (isKafkaConsumerRunnable() && isConnected() && pollExceptionStrategy.canContinue()) {
-                ConsumerRecords<Object, Object> allRecords = consumer.poll(pollDuration);
+                ConsumerRecords<Object, Object> allRecords = consumer.poll(batchingProcessorFacade != null
+                        ? batchingProcessorFacade.nextPollDuration(pollDuration) : pollDuration);
                 if (consumerListener != null) {
                     if (!consumerListener.afterConsume(consumer)) {
                         continue;
@@ -304,7 +323,14 @@ public class KafkaFetchRecords implements Runnable {
 
                 commitManager.processAsyncCommits();
 
-                ProcessingResult result = recordProcessorFacade.processPolledRecords(allRecords, consumer);
+                ProcessingResult result;
+                if (parallelProcessorFacade != null) {
+                    result = parallelProcessorFacade.processPolledRecords(allRecords, consumer);
+                } else if (batchingProcessorFacade != null) {
+                    result = batchingProcessorFacade.processPolledRecords(allRecords, consumer);
+                } else {
+                    result = recordProcessorFacade.processPolledRecords(allRecords, consumer);
+                }
 
                 if (result.isBreakOnErrorHit()) {
                     LOG.debug("We hit an error ... setting flags to force reconnect");
@@ -315,6 +341,11 @@ public class KafkaFetchRecords implements Runnable {
 
             }
 
+            if (parallelProcessorFacade != null) {
+                // commit the offsets of the records which are still being processed
+                parallelProcessorFacade.awaitCompletion(kafkaConsumer.getEndpoint().getConfiguration().getShutdownTimeout());
+            }
+
             if (!isConnected()) {
                 LOG.debug("Not reconnecting, check whether to auto-commit or not ...");
                 commitManager.commit();
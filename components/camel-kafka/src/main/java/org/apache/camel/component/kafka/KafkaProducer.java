@@ -26,6 +26,8 @@ import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -72,6 +74,8 @@ public class KafkaProducer extends DefaultAsyncProducer {
     private final String endpointTopic;
     private final Integer configPartitionKey;
     private final String configKey;
+    // limits the number of exchanges being sent when using asynchronous processing
+    private Semaphore inFlightExchanges;
 
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
@@ -162,6 +166,10 @@ public class KafkaProducer extends DefaultAsyncProducer {
             shutdownWorkerPool = true;
         }
 
+        if (!configuration.isSynchronous() && configuration.getMaxInFlightExchanges() > 0) {
+            inFlightExchanges = new Semaphore(configuration.getMaxInFlightExchanges());
+        }
+
         // init client id which we may need to get from the kafka producer via reflection
         if (clientId == null) {
             clientId = getProps().getProperty(CommonClientConfigs.CLIENT_ID_CONFIG);
@@ -198,6 +206,8 @@ public class KafkaProducer extends DefaultAsyncProducer {
             kafkaProducer = null;
         }
 
+        inFlightExchanges = null;
+
         if (shutdownWorkerPool && workerPool != null) {
             int timeout = configuration.getShutdownTimeout();
             LOG.debug("Shutting down Kafka producer worker threads with timeout {} millis", timeout);
@@ -432,6 +442,32 @@ public class KafkaProducer extends DefaultAsyncProducer {
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        final Semaphore permits = inFlightExchanges;
+        if (permits == null) {
+            return doProcess(exchange, callback);
+        }
+
+        try {
+            // block the route until there is room for the exchange (backpressure)
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        final AtomicBoolean released = new AtomicBoolean();
+        return doProcess(exchange, doneSync -> {
+            // release the permit before continue routing, so the next exchange can be sent
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+            callback.done(doneSync);
+        });
+    }
+
+    private boolean doProcess(Exchange exchange, AsyncCallback callback) {
         final KafkaProducerCallBack producerCallBack
                 = new KafkaProducerCallBack(exchange, callback, workerPool, configuration.isRecordMetadata());
 
@@ -54,6 +54,10 @@ public final class CommitManagers {
                 LOG.debug("Using a commit-to-offset manager for commit management");
                 return new CommitToOffsetManager(consumer, kafkaConsumer, threadId, printableTopic);
             }
+            if (configuration.isCommitProcessedOffsets()) {
+                LOG.debug("Using a commit manager which commits the offsets of the processed records");
+                return new ProcessedOffsetCommitManager(consumer, kafkaConsumer, threadId, printableTopic);
+            }
         }
 
         LOG.debug("Using a NO-OP commit manager with auto-commit enabled on the Kafka consumer");
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.camel.component.kafka.consumer;
+
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits (using commitSync) the offsets of the records which have been processed, when the records are processed in
+ * parallel or in batches, and so the auto commit of the Kafka consumer is turned off.
+ */
+public class ProcessedOffsetCommitManager extends SyncCommitManager {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessedOffsetCommitManager.class);
+
+    public ProcessedOffsetCommitManager(Consumer<?, ?> consumer, KafkaConsumer kafkaConsumer, String threadId,
+                                        String printableTopic) {
+        super(consumer, kafkaConsumer, threadId, printableTopic);
+    }
+
+    @Override
+    public void commit() {
+        // the position of the consumer includes the records which are not processed yet, so only the offsets of the
+        // processed records are committed
+        LOG.debug("Not committing the position of {} from {} as only the offsets of processed records are committed",
+                threadId, printableTopic);
+    }
+}
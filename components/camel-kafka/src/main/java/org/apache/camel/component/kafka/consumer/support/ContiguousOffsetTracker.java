@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.common.TopicPartition;
+
+import static org.apache.camel.component.kafka.consumer.AbstractCommitManager.START_OFFSET;
+
+/**
+ * Tracks the offsets of the records which are processed in parallel, so the offsets can be committed up to the last
+ * record where all the previous records of the partition have been processed, as the records may complete out of order.
+ * <p/>
+ * The records are added by the consumer thread in the order of their offsets, and are completed by the threads
+ * processing the records.
+ */
+public class ContiguousOffsetTracker {
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+    private final Map<TopicPartition, PartitionOffsets> partitions = new HashMap<>();
+    private int inflight;
+
+    /**
+     * Adds a record which is about to be processed
+     *
+     * @param  partition the partition of the record
+     * @param  offset    the offset of the record
+     * @return           the tracked offset, which must be completed when the record has been processed
+     */
+    public TrackedOffset add(TopicPartition partition, long offset) {
+        lock.lock();
+        try {
+            PartitionOffsets offsets = partitions.computeIfAbsent(partition, p -> new PartitionOffsets());
+            if (offsets.pending.add(offset)) {
+                inflight++;
+            }
+            offsets.lastAdded = Math.max(offsets.lastAdded, offset);
+            return new TrackedOffset(offsets, offset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the offset of the last record of the partition, where all the previous records have been processed
+     *
+     * @return the offset, or {@link org.apache.camel.component.kafka.consumer.AbstractCommitManager#START_OFFSET} if no
+     *         records of the partition have been processed
+     */
+    public long getContiguousOffset(TopicPartition partition) {
+        lock.lock();
+        try {
+            PartitionOffsets offsets = partitions.get(partition);
+            if (offsets == null) {
+                return START_OFFSET;
+            }
+            return offsets.pending.isEmpty() ? offsets.lastAdded : offsets.pending.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The partitions which records has been added
+     */
+    public Set<TopicPartition> getPartitions() {
+        lock.lock();
+        try {
+            return new HashSet<>(partitions.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of records which has been added but not completed
+     */
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the number of records which has not been completed is below the limit
+     *
+     * @return <tt>true</tt> if the number of records is below the limit, or <tt>false</tt> if the timeout elapsed
+     */
+    public boolean awaitInflightBelow(int limit, long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (inflight >= limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = completed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all the records of the partitions has been completed
+     *
+     * @return <tt>true</tt> if all the records has been completed, or <tt>false</tt> if the timeout elapsed
+     */
+    public boolean awaitCompletion(Collection<TopicPartition> partitions, long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (hasPending(partitions)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = completed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops tracking the partition, such as when the partition is revoked. Records of the partition which completes
+     * afterwards are ignored.
+     */
+    public void remove(TopicPartition partition) {
+        lock.lock();
+        try {
+            PartitionOffsets offsets = partitions.remove(partition);
+            if (offsets != null) {
+                inflight -= offsets.pending.size();
+                offsets.pending.clear();
+                completed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasPending(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionOffsets offsets = this.partitions.get(partition);
+            if (offsets != null && !offsets.pending.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void complete(PartitionOffsets offsets, long offset) {
+        lock.lock();
+        try {
+            // the offset is not pending if the partition has been removed meanwhile
+            if (offsets.pending.remove(offset)) {
+                inflight--;
+                completed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class PartitionOffsets {
+        private final TreeSet<Long> pending = new TreeSet<>();
+        private long lastAdded = START_OFFSET;
+    }
+
+    /**
+     * The offset of a record which is being processed
+     */
+    public final class TrackedOffset {
+        private final PartitionOffsets offsets;
+        private final long offset;
+
+        private TrackedOffset(PartitionOffsets offsets, long offset) {
+            this.offsets = offsets;
+            this.offset = offset;
+        }
+
+        /**
+         * Marks the record as processed
+         */
+        public void complete() {
+            ContiguousOffsetTracker.this.complete(offsets, offset);
+        }
+    }
+}
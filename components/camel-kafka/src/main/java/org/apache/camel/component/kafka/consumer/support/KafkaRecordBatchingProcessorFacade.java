@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Routes the polled records as a single exchange, where the message body is a list of exchanges, one for each record.
+ * <p/>
+ * The records can be collected from several polls (batchingIntervalMs), and the offsets are committed when the batch
+ * has been processed. When the batch fails, or the route sets an exception on the exchanges of some records, then the
+ * exceptions are handled by the exception handler, or with breakOnFirstError the offsets are committed up to the first
+ * failed record of each partition and the consumer re-connects to process the failed records again.
+ */
+public class KafkaRecordBatchingProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordBatchingProcessorFacade.class);
+    // the default of the max.poll.records Kafka consumer property
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final Map<String, Long> lastProcessedOffset;
+    private final String threadId;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final CommitManager commitManager;
+    private final KafkaConsumerListener consumerListener;
+    private final boolean breakOnFirstError;
+    private final int maxRecords;
+    private final long intervalMs;
+    // the records which are collected for the next batch
+    private final List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+    private long batchStartTime;
+
+    public KafkaRecordBatchingProcessorFacade(KafkaConsumer camelKafkaConsumer, Map<String, Long> lastProcessedOffset,
+                                              String threadId, CommitManager commitManager,
+                                              KafkaConsumerListener consumerListener) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.lastProcessedOffset = lastProcessedOffset;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+        this.consumerListener = consumerListener;
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.breakOnFirstError = configuration.isBreakOnFirstError();
+        this.maxRecords = configuration.getMaxPollRecords() != null
+                ? configuration.getMaxPollRecords() : DEFAULT_MAX_POLL_RECORDS;
+        this.intervalMs = configuration.getBatchingIntervalMs() != null ? configuration.getBatchingIntervalMs() : 0;
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), commitManager);
+    }
+
+    private boolean isStopping() {
+        return camelKafkaConsumer.isStopping();
+    }
+
+    /**
+     * The duration of the next poll, which is shortened so the collected records are routed when the batching interval
+     * has elapsed
+     */
+    public Duration nextPollDuration(Duration pollDuration) {
+        if (records.isEmpty() || intervalMs <= 0) {
+            return pollDuration;
+        }
+        long remaining = Math.max(0, batchStartTime + intervalMs - System.currentTimeMillis());
+        return remaining < pollDuration.toMillis() ? Duration.ofMillis(remaining) : pollDuration;
+    }
+
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords, Consumer<?, ?> consumer) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to process", threadId, allRecords.count());
+        }
+
+        collectRecords(allRecords);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        while (!records.isEmpty() && !result.isBreakOnErrorHit() && !isStopping() && isBatchComplete()) {
+            List<ConsumerRecord<Object, Object>> head = records.subList(0, Math.min(records.size(), maxRecords));
+            List<ConsumerRecord<Object, Object>> batch = new ArrayList<>(head);
+            head.clear();
+            batchStartTime = System.currentTimeMillis();
+
+            // the records of revoked partitions are polled again by the consumer the partitions are assigned to
+            Set<TopicPartition> assignment = consumer.assignment();
+            batch.removeIf(record -> !assignment.contains(new TopicPartition(record.topic(), record.partition())));
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            result = processBatch(batch);
+
+            if (consumerListener != null && !consumerListener.afterProcess(result)) {
+                records.clear();
+                return result;
+            }
+        }
+
+        if (result.isBreakOnErrorHit()) {
+            // the records are polled again after the consumer has re-connected
+            records.clear();
+        }
+
+        return result;
+    }
+
+    private void collectRecords(ConsumerRecords<Object, Object> allRecords) {
+        if (allRecords.isEmpty()) {
+            return;
+        }
+        if (records.isEmpty()) {
+            batchStartTime = System.currentTimeMillis();
+        }
+        for (TopicPartition partition : allRecords.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            if (!records.isEmpty()) {
+                // a partition which has been revoked and assigned again is polled from the committed offset
+                long firstOffset = partitionRecords.get(0).offset();
+                records.removeIf(record -> record.partition() == partition.partition()
+                        && record.topic().equals(partition.topic()) && record.offset() >= firstOffset);
+            }
+            records.addAll(partitionRecords);
+        }
+    }
+
+    private boolean isBatchComplete() {
+        return records.size() >= maxRecords || System.currentTimeMillis() - batchStartTime >= intervalMs;
+    }
+
+    private ProcessingResult processBatch(List<ConsumerRecord<Object, Object>> batch) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing batch of {} records on thread {}", batch.size(), threadId);
+        }
+
+        List<Exchange> exchanges = new ArrayList<>(batch.size());
+        for (ConsumerRecord<Object, Object> record : batch) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                        record.offset(), record.key(), record.value());
+            }
+            Exchange recordExchange = camelKafkaConsumer.getEndpoint().createExchange();
+            kafkaRecordProcessor.setupExchange(recordExchange, record);
+            exchanges.add(recordExchange);
+        }
+
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        exchange.getMessage().setBody(exchanges);
+        try {
+            camelKafkaConsumer.getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        // the last record, and the first failed record, of each partition
+        Map<TopicPartition, Long> lastOffsets = new LinkedHashMap<>();
+        Map<TopicPartition, Long> failedOffsets = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ConsumerRecord<Object, Object> record = batch.get(i);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            lastOffsets.put(partition, record.offset());
+            if (exchange.getException() != null || exchanges.get(i).getException() != null) {
+                failedOffsets.putIfAbsent(partition, record.offset());
+            }
+        }
+
+        if (!failedOffsets.isEmpty() && !breakOnFirstError) {
+            // will handle/log the exceptions and then continue to the next batch
+            if (exchange.getException() != null) {
+                camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                        exchange.getException());
+            } else {
+                for (Exchange recordExchange : exchanges) {
+                    if (recordExchange.getException() != null) {
+                        camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", recordExchange,
+                                recordExchange.getException());
+                    }
+                }
+            }
+            failedOffsets.clear();
+        }
+
+        for (Map.Entry<TopicPartition, Long> entry : lastOffsets.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            Long failedOffset = failedOffsets.get(partition);
+            if (failedOffset == null) {
+                lastProcessedOffset.put(serializeOffsetKey(partition), entry.getValue());
+                commitManager.commitOffset(partition, entry.getValue());
+            } else {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error during processing batch {} from topic: {} on partition: {}", exchange, partition.topic(),
+                            partition.partition());
+                    LOG.warn("Will seek consumer to offset {} and start polling again.", failedOffset);
+                }
+                if (failedOffset > 0) {
+                    lastProcessedOffset.put(serializeOffsetKey(partition), failedOffset - 1);
+                }
+                // force commit, so we resume on next poll where we failed
+                commitManager.commitOffsetForce(partition, failedOffset - 1);
+            }
+        }
+
+        boolean failed = exchange.getException() != null || exchanges.stream().anyMatch(e -> e.getException() != null);
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return new ProcessingResult(!failedOffsets.isEmpty(), batch.get(batch.size() - 1).offset(), failed);
+    }
+}
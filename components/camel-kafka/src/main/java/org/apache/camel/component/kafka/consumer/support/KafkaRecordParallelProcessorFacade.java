@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.AbstractCommitManager.START_OFFSET;
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Processes the polled records in parallel using the record processing thread pool, where the records with the same key
+ * (or of the same partition) are processed in order.
+ * <p/>
+ * The offsets are committed by the consumer thread (as the Kafka consumer is not thread-safe) up to the last record
+ * where all the previous records of the partition have been processed. When too many records are being processed the
+ * partitions are paused, so the consumer keeps polling (and stays in the consumer group) without fetching more records.
+ */
+public class KafkaRecordParallelProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessorFacade.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final Map<String, Long> lastProcessedOffset;
+    private final String threadId;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final CommitManager commitManager;
+    private final ContiguousOffsetTracker offsetTracker;
+    private final ExecutorService executorService;
+    private final boolean orderByKey;
+    private final int maxInFlightRecords;
+    private final long pollTimeoutMs;
+    // the records waiting for a record with the same ordering key to be processed
+    private final Map<Object, Deque<Runnable>> orderingQueues = new HashMap<>();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+
+    public KafkaRecordParallelProcessorFacade(KafkaConsumer camelKafkaConsumer, Map<String, Long> lastProcessedOffset,
+                                              String threadId, CommitManager commitManager,
+                                              ContiguousOffsetTracker offsetTracker) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.lastProcessedOffset = lastProcessedOffset;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+        this.offsetTracker = offsetTracker;
+        this.executorService = camelKafkaConsumer.getRecordProcessingExecutorService();
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.orderByKey = "key".equals(configuration.getRecordProcessingOrdering());
+        this.maxInFlightRecords = configuration.getMaxInFlightRecords();
+        this.pollTimeoutMs = configuration.getPollTimeoutMs();
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), commitManager);
+    }
+
+    private boolean isStopping() {
+        return camelKafkaConsumer.isStopping();
+    }
+
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords, Consumer<?, ?> consumer) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to process", threadId, allRecords.count());
+        }
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext() && !isStopping()) {
+            TopicPartition partition = partitionIterator.next();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = partitionRecords.iterator();
+            while (recordIterator.hasNext() && !isStopping()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                dispatchRecord(partition, partitionIterator.hasNext(), recordIterator.hasNext(), record);
+            }
+        }
+
+        try {
+            // wait for records to be processed, but not longer than the poll timeout, so the consumer keeps polling
+            boolean available = offsetTracker.awaitInflightBelow(maxInFlightRecords, pollTimeoutMs);
+            commitProcessedOffsets();
+            if (available) {
+                resumePartitions(consumer);
+            } else {
+                pausePartitions(consumer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return ProcessingResult.newUnprocessed();
+    }
+
+    /**
+     * Waits for the records being processed to complete, and commits their offsets
+     */
+    public void awaitCompletion(long timeoutMs) {
+        try {
+            if (!offsetTracker.awaitInflightBelow(1, timeoutMs)) {
+                LOG.warn("The processing of {} records on thread {} did not finish within {} millis",
+                        offsetTracker.getInflight(), threadId, timeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitProcessedOffsets();
+    }
+
+    private void dispatchRecord(
+            TopicPartition partition, boolean partitionHasNext, boolean recordHasNext, ConsumerRecord<Object, Object> record) {
+        ContiguousOffsetTracker.TrackedOffset trackedOffset = offsetTracker.add(partition, record.offset());
+        Runnable task = () -> processRecord(partition, partitionHasNext, recordHasNext, record, trackedOffset);
+
+        Object orderingKey = getOrderingKey(partition, record);
+        synchronized (orderingQueues) {
+            Deque<Runnable> queue = orderingQueues.get(orderingKey);
+            if (queue != null) {
+                // a record with the same ordering key is being processed so process this record afterwards
+                queue.add(task);
+                return;
+            }
+            orderingQueues.put(orderingKey, new ArrayDeque<>());
+        }
+        executorService.execute(() -> processInOrder(orderingKey, task));
+    }
+
+    private void processInOrder(Object orderingKey, Runnable task) {
+        Runnable next = task;
+        while (next != null) {
+            next.run();
+            synchronized (orderingQueues) {
+                next = orderingQueues.get(orderingKey).poll();
+                if (next == null) {
+                    orderingQueues.remove(orderingKey);
+                }
+            }
+        }
+    }
+
+    private Object getOrderingKey(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        Object key = record.key();
+        if (!orderByKey || key == null) {
+            return partition;
+        }
+        if (key instanceof byte[]) {
+            // arrays are not equal by their content
+            key = ByteBuffer.wrap((byte[]) key);
+        }
+        return Arrays.asList(partition, key);
+    }
+
+    private void processRecord(
+            TopicPartition partition, boolean partitionHasNext, boolean recordHasNext, ConsumerRecord<Object, Object> record,
+            ContiguousOffsetTracker.TrackedOffset trackedOffset) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                    record.offset(), record.key(), record.value());
+        }
+
+        try {
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            kafkaRecordProcessor.processExchange(exchange, partition, partitionHasNext, recordHasNext, record,
+                    ProcessingResult.newUnprocessed(), camelKafkaConsumer.getExceptionHandler());
+            camelKafkaConsumer.releaseExchange(exchange, false);
+        } catch (Exception e) {
+            camelKafkaConsumer.getExceptionHandler().handleException("Error processing record from partition " + partition,
+                    e);
+        } finally {
+            trackedOffset.complete();
+        }
+    }
+
+    private void commitProcessedOffsets() {
+        for (TopicPartition partition : offsetTracker.getPartitions()) {
+            long offset = offsetTracker.getContiguousOffset(partition);
+            String offsetKey = serializeOffsetKey(partition);
+            Long lastOffset = lastProcessedOffset.get(offsetKey);
+            if (offset > (lastOffset != null ? lastOffset : START_OFFSET)) {
+                lastProcessedOffset.put(offsetKey, offset);
+                commitManager.commitOffset(partition, offset);
+            }
+        }
+    }
+
+    private void pausePartitions(Consumer<?, ?> consumer) {
+        if (pausedPartitions.isEmpty()) {
+            // only pause (and later resume) the partitions which are not already paused
+            Set<TopicPartition> partitions = new HashSet<>(consumer.assignment());
+            partitions.removeAll(consumer.paused());
+            LOG.debug("Pausing {} partitions on thread {} as {} records are being processed", partitions.size(), threadId,
+                    offsetTracker.getInflight());
+            consumer.pause(partitions);
+            pausedPartitions.addAll(partitions);
+        }
+    }
+
+    private void resumePartitions(Consumer<?, ?> consumer) {
+        if (!pausedPartitions.isEmpty()) {
+            pausedPartitions.retainAll(consumer.assignment());
+            LOG.debug("Resuming {} partitions on thread {}", pausedPartitions.size(), threadId);
+            consumer.resume(pausedPartitions);
+            pausedPartitions.clear();
+        }
+    }
+}
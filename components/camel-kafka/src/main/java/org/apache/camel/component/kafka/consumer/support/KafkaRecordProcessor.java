@@ -80,6 +80,15 @@ public class KafkaRecordProcessor {
                         headerDeserializer.deserialize(header.key(), header.value())));
     }
 
+    /**
+     * Sets the record as the message body, and the record metadata and headers as message headers
+     */
+    void setupExchange(Exchange exchange, ConsumerRecord<Object, Object> record) {
+        setupExchangeMessage(exchange.getMessage(), record);
+
+        propagateHeaders(record, exchange);
+    }
+
     public ProcessingResult processExchange(
             Exchange exchange, TopicPartition partition, boolean partitionHasNext,
             boolean recordHasNext, ConsumerRecord<Object, Object> record, ProcessingResult lastResult,
@@ -87,9 +96,7 @@ public class KafkaRecordProcessor {
 
         Message message = exchange.getMessage();
 
-        setupExchangeMessage(message, record);
-
-        propagateHeaders(record, exchange);
+        setupExchange(exchange, record);
 
         // if not auto commit then we have additional information on the exchange
         if (!autoCommitEnabled) {
@@ -41,18 +41,26 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
     private final KafkaConsumerResumeStrategy resumeStrategy;
     private final CommitManager commitManager;
     private final Supplier<Boolean> stopStateSupplier;
+    private final ContiguousOffsetTracker offsetTracker;
 
     public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
                                        Map<String, Long> lastProcessedOffset,
                                        Supplier<Boolean> stopStateSupplier, CommitManager commitManager,
                                        KafkaConsumerResumeStrategy resumeStrategy) {
+        this(threadId, configuration, lastProcessedOffset, stopStateSupplier, commitManager, resumeStrategy, null);
+    }
+
+    public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
+                                       Map<String, Long> lastProcessedOffset,
+                                       Supplier<Boolean> stopStateSupplier, CommitManager commitManager,
+                                       KafkaConsumerResumeStrategy resumeStrategy, ContiguousOffsetTracker offsetTracker) {
         this.threadId = threadId;
         this.configuration = configuration;
         this.lastProcessedOffset = lastProcessedOffset;
         this.commitManager = commitManager;
         this.stopStateSupplier = stopStateSupplier;
         this.resumeStrategy = resumeStrategy;
-
+        this.offsetTracker = offsetTracker;
     }
 
     @Override
@@ -61,6 +69,10 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
         // if camel is stopping, or we are not running
         boolean stopping = stopStateSupplier.get();
 
+        if (offsetTracker != null) {
+            updateProcessedOffsets(partitions);
+        }
+
         for (TopicPartition partition : partitions) {
             LOG.debug("onPartitionsRevoked: {} from {}", threadId, partition.topic());
 
@@ -71,7 +83,7 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
             }
             try {
                 // only commit offsets if the component has control
-                if (!configuration.getAutoCommitEnable() && offset != -1L) {
+                if ((!configuration.getAutoCommitEnable() || configuration.isCommitProcessedOffsets()) && offset != -1L) {
                     if (stopping) {
                         commitManager.commitOffsetOnStop(partition, offset);
                     } else {
@@ -89,6 +101,29 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
         }
     }
 
+    private void updateProcessedOffsets(Collection<TopicPartition> partitions) {
+        // wait for the records of the partitions which are processed in parallel, so their offsets are committed
+        long timeout = configuration.getShutdownTimeout();
+        try {
+            if (!offsetTracker.awaitCompletion(partitions, timeout)) {
+                LOG.warn("The processing of the records of the revoked partitions on {} did not finish within {} millis",
+                        threadId, timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (TopicPartition partition : partitions) {
+            long offset = offsetTracker.getContiguousOffset(partition);
+            offsetTracker.remove(partition);
+            String offsetKey = serializeOffsetKey(partition);
+            Long lastOffset = lastProcessedOffset.get(offsetKey);
+            if (offset != -1L && (lastOffset == null || offset > lastOffset)) {
+                lastProcessedOffset.put(offsetKey, offset);
+            }
+        }
+    }
+
     @Override
     public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
 
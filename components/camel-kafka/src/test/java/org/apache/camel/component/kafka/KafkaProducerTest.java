@@ -23,8 +23,10 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.camel.AggregationStrategy;
@@ -50,6 +52,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -181,6 +184,38 @@ public class KafkaProducerTest {
         assertRecordMetadataExists();
     }
 
+    @Test
+    public void processAsyncWithMaxInFlightExchanges() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setMaxInFlightExchanges(1);
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getMessage()).thenReturn(in);
+
+        producer.start();
+        try {
+            assertFalse(producer.process(exchange, callback));
+
+            // the second exchange is blocked until the first exchange has been sent
+            CountDownLatch processed = new CountDownLatch(1);
+            Thread thread = new Thread(() -> {
+                producer.process(exchange, callback);
+                processed.countDown();
+            });
+            thread.start();
+            assertFalse(processed.await(200, TimeUnit.MILLISECONDS));
+
+            ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+            Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
+            callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+
+            assertTrue(processed.await(5, TimeUnit.SECONDS));
+            Mockito.verify(producer.getKafkaProducer(), Mockito.times(2)).send(any(ProducerRecord.class),
+                    any(Callback.class));
+        } finally {
+            producer.stop();
+        }
+    }
+
     @Test
     public void processSendsMessageWithTopicHeaderAndNoTopicInEndPoint() throws Exception {
         endpoint.getConfiguration().setTopic(null);
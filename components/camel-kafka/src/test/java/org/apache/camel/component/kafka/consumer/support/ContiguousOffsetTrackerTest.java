@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.Collections;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContiguousOffsetTrackerTest {
+
+    private final TopicPartition partition = new TopicPartition("test", 0);
+    private final ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+
+    @Test
+    public void testOutOfOrderCompletion() {
+        assertEquals(-1, tracker.getContiguousOffset(partition));
+
+        ContiguousOffsetTracker.TrackedOffset first = tracker.add(partition, 10);
+        ContiguousOffsetTracker.TrackedOffset second = tracker.add(partition, 11);
+        // offsets may have gaps such as from compacted topics
+        ContiguousOffsetTracker.TrackedOffset third = tracker.add(partition, 14);
+        assertEquals(3, tracker.getInflight());
+        assertEquals(9, tracker.getContiguousOffset(partition));
+
+        third.complete();
+        assertEquals(9, tracker.getContiguousOffset(partition));
+        second.complete();
+        assertEquals(9, tracker.getContiguousOffset(partition));
+        first.complete();
+        assertEquals(14, tracker.getContiguousOffset(partition));
+        assertEquals(0, tracker.getInflight());
+    }
+
+    @Test
+    public void testPartitionsAreTrackedSeparately() {
+        TopicPartition other = new TopicPartition("test", 1);
+
+        tracker.add(partition, 5);
+        tracker.add(other, 100).complete();
+
+        assertEquals(4, tracker.getContiguousOffset(partition));
+        assertEquals(100, tracker.getContiguousOffset(other));
+        assertEquals(2, tracker.getPartitions().size());
+    }
+
+    @Test
+    public void testAwait() throws Exception {
+        ContiguousOffsetTracker.TrackedOffset first = tracker.add(partition, 0);
+        tracker.add(partition, 1).complete();
+
+        assertTrue(tracker.awaitInflightBelow(2, 0));
+        assertFalse(tracker.awaitInflightBelow(1, 10));
+        assertFalse(tracker.awaitCompletion(Collections.singleton(partition), 10));
+
+        new Thread(first::complete).start();
+        assertTrue(tracker.awaitCompletion(Collections.singleton(partition), 5000));
+        assertEquals(1, tracker.getContiguousOffset(partition));
+    }
+
+    @Test
+    public void testRemovePartition() {
+        ContiguousOffsetTracker.TrackedOffset tracked = tracker.add(partition, 0);
+        tracker.remove(partition);
+        assertEquals(0, tracker.getInflight());
+        assertEquals(-1, tracker.getContiguousOffset(partition));
+
+        // a record completed after the partition was revoked does not affect the partition when assigned again
+        tracker.add(partition, 0);
+        tracked.complete();
+        assertEquals(1, tracker.getInflight());
+        assertEquals(-1, tracker.getContiguousOffset(partition));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManagers;
+import org.apache.camel.component.kafka.consumer.ProcessedOffsetCommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordBatchingProcessorFacadeTest {
+
+    private final TopicPartition partition = new TopicPartition("test", 0);
+    private final CamelContext context = new DefaultCamelContext();
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final List<List<String>> batches = new ArrayList<>();
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private String failingBody;
+
+    @BeforeEach
+    public void setup() {
+        configuration.setBatching(true);
+        configuration.setMaxPollRecords(3);
+        consumer.assign(Collections.singleton(partition));
+    }
+
+    @Test
+    public void testAutoCommitIsTurnedOff() {
+        assertTrue(configuration.getAutoCommitEnable());
+        assertEquals("false", configuration.createConsumerProperties().getProperty("enable.auto.commit"));
+    }
+
+    @Test
+    public void testBatchesAreLimitedByMaxPollRecords() {
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        ProcessingResult result = facade.processPolledRecords(createRecords(0, 7), consumer);
+
+        assertFalse(result.isFailed());
+        assertEquals(3, batches.size());
+        assertEquals(List.of("value-0", "value-1", "value-2"), batches.get(0));
+        assertEquals(List.of("value-3", "value-4", "value-5"), batches.get(1));
+        assertEquals(List.of("value-6"), batches.get(2));
+        assertEquals(7, getCommittedOffset());
+    }
+
+    @Test
+    public void testBatchingInterval() {
+        configuration.setBatchingIntervalMs(60000);
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        // the batch is neither full nor has the interval elapsed
+        facade.processPolledRecords(createRecords(0, 2), consumer);
+        assertEquals(0, batches.size());
+        assertEquals(-1, getCommittedOffset());
+
+        // the records from several polls are routed as a single batch when it is full
+        facade.processPolledRecords(createRecords(2, 2), consumer);
+        assertEquals(1, batches.size());
+        assertEquals(List.of("value-0", "value-1", "value-2"), batches.get(0));
+        assertEquals(3, getCommittedOffset());
+    }
+
+    @Test
+    public void testFailedRecordIsHandledByExceptionHandler() {
+        failingBody = "value-1";
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        ProcessingResult result = facade.processPolledRecords(createRecords(0, 3), consumer);
+
+        assertTrue(result.isFailed());
+        assertFalse(result.isBreakOnErrorHit());
+        // the failed record does not stop the offsets from being committed
+        assertEquals(3, getCommittedOffset());
+        verify(exceptionHandler).handleException(eq("Error during processing"), any(Exchange.class),
+                any(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void testBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        failingBody = "value-1";
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        ProcessingResult result = facade.processPolledRecords(createRecords(0, 6), consumer);
+
+        assertTrue(result.isBreakOnErrorHit());
+        // the next batch is not routed, and the offsets are committed up to the failed record
+        assertEquals(1, batches.size());
+        assertEquals(1, getCommittedOffset());
+    }
+
+    private KafkaRecordBatchingProcessorFacade createFacade() {
+        KafkaConsumer camelKafkaConsumer = mockCamelKafkaConsumer();
+        CommitManager commitManager = CommitManagers.createCommitManager(consumer, camelKafkaConsumer, "0", "test");
+        assertInstanceOf(ProcessedOffsetCommitManager.class, commitManager);
+
+        return new KafkaRecordBatchingProcessorFacade(camelKafkaConsumer, new HashMap<>(), "0", commitManager, null);
+    }
+
+    private ConsumerRecords<Object, Object> createRecords(int offset, int count) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = offset; i < offset + count; i++) {
+            records.add(new ConsumerRecord<>(partition.topic(), partition.partition(), i, "key-" + i, "value-" + i));
+        }
+        return new ConsumerRecords<>(Collections.singletonMap(partition, records));
+    }
+
+    private KafkaConsumer mockCamelKafkaConsumer() {
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.createExchange()).thenAnswer(invocation -> new DefaultExchange(context));
+
+        KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            List<String> bodies = new ArrayList<>();
+            List<?> recordExchanges = exchange.getMessage().getBody(List.class);
+            for (Object element : recordExchanges) {
+                Exchange recordExchange = (Exchange) element;
+                String body = recordExchange.getMessage().getBody(String.class);
+                if (body.equals(failingBody)) {
+                    recordExchange.setException(new IllegalArgumentException("Forced"));
+                }
+                bodies.add(body);
+            }
+            batches.add(bodies);
+        });
+        return camelKafkaConsumer;
+    }
+
+    private long getCommittedOffset() {
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Collections.singleton(partition));
+        OffsetAndMetadata offset = committed.get(partition);
+        return offset != null ? offset.offset() : -1;
+    }
+}
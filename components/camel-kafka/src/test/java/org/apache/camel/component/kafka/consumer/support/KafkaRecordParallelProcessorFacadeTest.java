@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManagers;
+import org.apache.camel.component.kafka.consumer.ProcessedOffsetCommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordParallelProcessorFacadeTest {
+
+    private final TopicPartition partition = new TopicPartition("test", 0);
+    private final CamelContext context = new DefaultCamelContext();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    @AfterEach
+    public void shutdown() {
+        blocked.countDown();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testAutoCommitIsTurnedOff() {
+        configuration.setRecordProcessingThreads(2);
+
+        assertTrue(configuration.getAutoCommitEnable());
+        assertEquals("false", configuration.createConsumerProperties().getProperty("enable.auto.commit"));
+    }
+
+    @Test
+    public void testCommitsOffsetsOfProcessedRecordsOnly() {
+        configuration.setRecordProcessingThreads(2);
+        configuration.setPollTimeoutMs(10L);
+
+        KafkaConsumer camelKafkaConsumer = mockCamelKafkaConsumer();
+        CommitManager commitManager = CommitManagers.createCommitManager(consumer, camelKafkaConsumer, "0", "test");
+        assertInstanceOf(ProcessedOffsetCommitManager.class, commitManager);
+
+        ContiguousOffsetTracker offsetTracker = new ContiguousOffsetTracker();
+        KafkaRecordParallelProcessorFacade facade = new KafkaRecordParallelProcessorFacade(
+                camelKafkaConsumer, new HashMap<>(), "0", commitManager, offsetTracker);
+
+        consumer.assign(Collections.singleton(partition));
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            // different keys so the records are processed in parallel
+            records.add(new ConsumerRecord<>(partition.topic(), partition.partition(), i, "key-" + i, "value-" + i));
+        }
+        facade.processPolledRecords(new ConsumerRecords<>(Collections.singletonMap(partition, records)), consumer);
+
+        // the record with offset 1 is still being processed, so only the offset of the first record can be committed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty(), consumer);
+            assertEquals(1, offsetTracker.getInflight());
+            assertEquals(1, getCommittedOffset());
+        });
+
+        // the position of the consumer is not committed as it includes the record being processed
+        commitManager.commit();
+        assertEquals(1, getCommittedOffset());
+
+        blocked.countDown();
+        facade.awaitCompletion(5000);
+        assertEquals(4, getCommittedOffset());
+    }
+
+    private KafkaConsumer mockCamelKafkaConsumer() {
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+
+        KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.getRecordProcessingExecutorService()).thenReturn(executorService);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            if (exchange.getMessage().getBody(String.class).equals("value-1")) {
+                assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            }
+        });
+        return camelKafkaConsumer;
+    }
+
+    private long getCommittedOffset() {
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Collections.singleton(partition));
+        OffsetAndMetadata offset = committed.get(partition);
+        return offset != null ? offset.offset() : -1;
+    }
+}
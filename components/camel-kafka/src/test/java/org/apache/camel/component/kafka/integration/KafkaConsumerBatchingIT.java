@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerBatchingIT extends BaseEmbeddedKafkaTestSupport {
+
+    public static final String TOPIC = "test-batching";
+
+    @EndpointInject("kafka:" + TOPIC
+                    + "?groupId=group1&autoOffsetReset=earliest&batching=true&maxPollRecords=5"
+                    + "&batchingIntervalMs=1000")
+    private Endpoint from;
+
+    @EndpointInject("mock:batch")
+    private MockEndpoint batch;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(from).routeId("batching").to(batch)
+                        .split(body()).transform(simple("${body.message.body}")).to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaRecordsAreConsumedInBatches() throws Exception {
+        to.expectedBodiesReceivedInAnyOrder("m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9", "m10");
+        batch.expectedMinimumMessageCount(2);
+
+        for (int k = 1; k <= 10; k++) {
+            String msg = "m" + k;
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, "1", msg);
+            producer.send(data);
+        }
+
+        to.assertIsSatisfied();
+        batch.assertIsSatisfied();
+
+        int records = 0;
+        for (Exchange exchange : batch.getReceivedExchanges()) {
+            List<?> exchanges = exchange.getMessage().getBody(List.class);
+            assertTrue(exchanges.size() <= 5, "The batch should not exceed maxPollRecords: " + exchanges.size());
+            for (Object recordExchange : exchanges) {
+                assertNotNull(((Exchange) recordExchange).getMessage().getHeader(KafkaConstants.OFFSET));
+            }
+            records += exchanges.size();
+        }
+        assertEquals(10, records);
+
+        // the offsets are committed by the consumer once the batches have been processed
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            Map<TopicPartition, OffsetAndMetadata> offsets
+                    = kafkaAdminClient.listConsumerGroupOffsets("group1").partitionsToOffsetAndMetadata().get();
+            OffsetAndMetadata offset = offsets.get(new TopicPartition(TOPIC, 0));
+            assertNotNull(offset);
+            assertEquals(10, offset.offset());
+        });
+    }
+}
@@ -18,8 +18,13 @@ package org.apache.camel.component.leveldb;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +32,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -55,6 +61,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     private int maximumRedeliveries;
     private String deadLetterUri;
     private boolean allowSerializedHeaders;
+    private boolean appendOnlyListBody;
     private LevelDBSerializer serializer;
 
     /**
@@ -104,30 +111,86 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         LOG.debug("Adding key [{}] -> {}", key, exchange);
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
-            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
 
             byte[] rc = null;
             if (isReturnOldExchange()) {
                 rc = levelDBFile.getDb().get(lDbKey);
             }
+            // only return old exchange if enabled
+            Exchange answer = null;
+            if (rc != null) {
+                answer = unmarshallExchange(camelContext, key, rc);
+            }
 
-            LOG.trace("Adding key index {} for repository {}", key, repositoryName);
-            levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
-            LOG.trace("Added key index {}", key);
+            if (isAppendOnlyListBody()) {
+                addWithListBody(camelContext, key, lDbKey, exchange);
+            } else {
+                final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
 
-            if (rc == null) {
-                return null;
+                LOG.trace("Adding key index {} for repository {}", key, repositoryName);
+                levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
+                LOG.trace("Added key index {}", key);
             }
 
-            // only return old exchange if enabled
-            if (isReturnOldExchange()) {
-                return codec().unmarshallExchange(camelContext, rc);
-            }
+            return answer;
         } catch (IOException e) {
             throw new RuntimeCamelException("Error adding to repository " + repositoryName + " with key " + key, e);
         }
+    }
+
+    private void addWithListBody(CamelContext camelContext, String key, byte[] lDbKey, Exchange exchange)
+            throws IOException {
+        Object body = exchange.getIn().getBody();
+        if (!(body instanceof List)) {
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+            WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+            try {
+                deleteSegments(key, batch);
+                batch.put(lDbKey, exchangeBuffer);
+                levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+            } finally {
+                batch.close();
+            }
+            return;
+        }
+
+        // the list is stored as segments of elements, and the exchange is stored without the list
+        List<?> list = (List<?>) body;
+        Exchange copy = exchange.copy();
+        copy.setExchangeId(exchange.getExchangeId());
+        copy.getIn().setBody(null);
+        final byte[] exchangeBuffer = codec().marshallExchange(camelContext, copy, allowSerializedHeaders);
+
+        SegmentedList segmentedList = null;
+        if (body instanceof SegmentedList && ((SegmentedList) body).isOnlyAppendedTo(key)) {
+            segmentedList = (SegmentedList) body;
+        }
+
+        WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+        try {
+            if (segmentedList != null) {
+                // only write the elements which has been appended since the list was stored
+                int from = segmentedList.getStoredSize();
+                if (list.size() > from) {
+                    batch.put(segmentKeyBuilder(key, from), BinaryExchangeCodec.encodeValues(list.subList(from, list.size())));
+                    LOG.trace("Added segment {} of key index {}", from, key);
+                }
+            } else {
+                deleteSegments(key, batch);
+                batch.put(segmentKeyBuilder(key, 0), BinaryExchangeCodec.encodeValues(list));
+                LOG.trace("Added segment 0 of key index {}", key);
+            }
+            batch.put(lDbKey, exchangeBuffer);
+            LOG.trace("Adding key index {} for repository {}", key, repositoryName);
+            levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+            LOG.trace("Added key index {}", key);
+        } finally {
+            batch.close();
+        }
 
-        return null;
+        if (segmentedList != null) {
+            segmentedList.stored();
+        }
     }
 
     @Override
@@ -140,7 +203,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             byte[] rc = levelDBFile.getDb().get(lDbKey);
 
             if (rc != null) {
-                answer = codec().unmarshallExchange(camelContext, rc);
+                answer = unmarshallExchange(camelContext, key, rc);
             }
         } catch (IOException e) {
             throw new RuntimeCamelException("Error getting key " + key + " from repository " + repositoryName, e);
@@ -150,6 +213,56 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return answer;
     }
 
+    private Exchange unmarshallExchange(CamelContext camelContext, String key, byte[] buffer) throws IOException {
+        Exchange answer = codec().unmarshallExchange(camelContext, buffer);
+        if (!isAppendOnlyListBody()) {
+            return answer;
+        }
+
+        // assemble the list from its segments
+        SegmentedList list = null;
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameSegments() + '\0' + key + '\0';
+            for (it.seek(segmentKeyBuilder(key, 0)); it.hasNext(); it.next()) {
+                Map.Entry<byte[], byte[]> entry = it.peekNext();
+                if (!asString(entry.getKey()).startsWith(prefix)) {
+                    break;
+                }
+                if (list == null) {
+                    list = new SegmentedList(key);
+                }
+                list.addAll(BinaryExchangeCodec.decodeValues(entry.getValue()));
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+
+        if (list != null) {
+            list.stored();
+            answer.getIn().setBody(list);
+        }
+        return answer;
+    }
+
+    private void deleteSegments(String key, WriteBatch batch) {
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameSegments() + '\0' + key + '\0';
+            for (it.seek(segmentKeyBuilder(key, 0)); it.hasNext(); it.next()) {
+                byte[] segmentKey = it.peekNext().getKey();
+                if (!asString(segmentKey).startsWith(prefix)) {
+                    break;
+                }
+                batch.delete(segmentKey);
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+    }
+
     @Override
     public void remove(final CamelContext camelContext, final String key, final Exchange exchange) {
         LOG.debug("Removing key [{}]", key);
@@ -157,7 +270,8 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
             final String exchangeId = exchange.getExchangeId();
-            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, completedExchange(exchange),
+                    allowSerializedHeaders);
 
             // remove the exchange
             byte[] rc = levelDBFile.getDb().get(lDbKey);
@@ -166,6 +280,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 WriteBatch batch = levelDBFile.getDb().createWriteBatch();
                 try {
                     batch.delete(lDbKey);
+                    if (isAppendOnlyListBody()) {
+                        deleteSegments(key, batch);
+                    }
                     LOG.trace("Removed key index {} -> {}", key, rc);
 
                     // add exchange to confirmed index
@@ -184,6 +301,18 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
     }
 
+    private static Exchange completedExchange(Exchange exchange) {
+        if (!(exchange.getIn().getBody() instanceof SegmentedList)) {
+            return exchange;
+        }
+        // the completed exchange is stored as a whole, so the list body is stored as a plain list, as the serializer
+        // may store the type of the body, which cannot be created when the exchange is recovered
+        Exchange copy = exchange.copy();
+        copy.setExchangeId(exchange.getExchangeId());
+        copy.getIn().setBody(new ArrayList<>(exchange.getIn().getBody(List.class)));
+        return copy;
+    }
+
     @Override
     public void confirm(final CamelContext camelContext, final String exchangeId) {
         LOG.debug("Confirming exchangeId [{}]", exchangeId);
@@ -335,6 +464,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return repositoryName + "-completed";
     }
 
+    private String getRepositoryNameSegments() {
+        return repositoryName + "-segments";
+    }
+
     public void setRepositoryName(String repositoryName) {
         this.repositoryName = repositoryName;
     }
@@ -408,6 +541,24 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.persistentFileName = persistentFileName;
     }
 
+    public boolean isAppendOnlyListBody() {
+        return appendOnlyListBody;
+    }
+
+    /**
+     * Whether the message body is a {@link List} which the aggregation strategy only appends to, in which case the list
+     * is stored in segments, and only the appended elements are written when the exchange is added again, instead of
+     * the whole list. The elements which are already in the list must not be changed. The elements are stored using the
+     * {@link BinaryExchangeCodec}, regardless of the serializer, so elements which are not of the common types are
+     * stored using Java serialization, and an element which cannot be serialized fails adding the exchange.
+     * <p/>
+     * Only the message body is stored in segments, and not the list of the aggregation strategies which keep the list
+     * in the {@link org.apache.camel.Exchange#GROUPED_EXCHANGE} property (such as the grouped aggregation strategies).
+     */
+    public void setAppendOnlyListBody(boolean appendOnlyListBody) {
+        this.appendOnlyListBody = appendOnlyListBody;
+    }
+
     public boolean isAllowSerializedHeaders() {
         return allowSerializedHeaders;
     }
@@ -459,6 +610,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return (repo + '\0' + key).getBytes(StandardCharsets.UTF_8);
     }
 
+    private byte[] segmentKeyBuilder(String key, int index) {
+        // the index is padded so the segments are sorted by index
+        return keyBuilder(getRepositoryNameSegments(), key + '\0' + String.format(Locale.ROOT, "%010d", index));
+    }
+
     public static String asString(byte[] value) {
         if (value == null) {
             return null;
@@ -481,4 +637,64 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
         return codec;
     }
+
+    /**
+     * The list body of an exchange which has been read from the repository, which keeps track of the elements which has
+     * been stored, and whether the list has only been appended to since.
+     */
+    private static final class SegmentedList extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient String key;
+        private transient int storedSize;
+        private transient int storedModCount;
+        private transient int appends;
+        private transient boolean replaced;
+
+        SegmentedList(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean add(Object element) {
+            appends++;
+            return super.add(element);
+        }
+
+        @Override
+        public boolean addAll(Collection<?> elements) {
+            appends++;
+            return super.addAll(elements);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            // does not change the modification count
+            replaced = true;
+            return super.set(index, element);
+        }
+
+        int getStoredSize() {
+            return storedSize;
+        }
+
+        boolean isOnlyAppendedTo(String key) {
+            // each change of the list increments the modification count, so the list has only been appended to when
+            // the count has only been incremented by add or addAll
+            return this.key.equals(key) && !replaced && modCount - storedModCount == appends && size() >= storedSize;
+        }
+
+        void stored() {
+            storedSize = size();
+            storedModCount = modCount;
+            appends = 0;
+            replaced = false;
+        }
+
+        private Object writeReplace() {
+            // serialized as a plain list
+            return new ArrayList<>(this);
+        }
+    }
 }
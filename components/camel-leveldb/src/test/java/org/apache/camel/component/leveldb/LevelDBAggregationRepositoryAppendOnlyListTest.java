@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.params.Test;
+import org.iq80.leveldb.DBIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisabledOnOs({ OS.AIX, OS.OTHER })
+public class LevelDBAggregationRepositoryAppendOnlyListTest extends LevelDBTestSupport {
+
+    private LevelDBFile levelDBFile;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        deleteDirectory("target/data");
+        File file = new File("target/data/leveldb.dat");
+        levelDBFile = new LevelDBFile();
+        levelDBFile.setFile(file);
+        levelDBFile.start();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        levelDBFile.stop();
+        super.tearDown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAppendOnlyListBody() throws Exception {
+        LevelDBAggregationRepository repo = getRepo();
+        repo.setLevelDBFile(levelDBFile);
+        repo.setRepositoryName("repo1");
+        repo.setAppendOnlyListBody(true);
+        repo.setReturnOldExchange(true);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("A", "B")));
+        exchange.getIn().setHeader("foo", 123);
+        assertNull(repo.add(context, "foo", exchange));
+
+        // append to the list which has been read from the repository
+        for (String element : Arrays.asList("C", "D", "E")) {
+            Exchange actual = repo.get(context, "foo");
+            assertEquals(123, actual.getIn().getHeader("foo"));
+            actual.getIn().getBody(List.class).add(element);
+            actual.getIn().setHeader("last", element);
+            Exchange old = repo.add(context, "foo", actual);
+            assertEquals(actual.getIn().getBody(List.class).size() - 1, old.getIn().getBody(List.class).size());
+        }
+
+        Exchange actual = repo.get(context, "foo");
+        assertEquals(Arrays.asList("A", "B", "C", "D", "E"), actual.getIn().getBody());
+        assertEquals(123, actual.getIn().getHeader("foo"));
+        assertEquals("E", actual.getIn().getHeader("last"));
+        assertEquals(exchange.getExchangeId(), actual.getExchangeId());
+        // the segments are not aggregate keys
+        assertEquals(1, countKeys("repo1"));
+
+        // change an element, which writes the whole list again
+        actual.getIn().getBody(List.class).set(0, "Z");
+        repo.add(context, "foo", actual);
+        actual = repo.get(context, "foo");
+        assertEquals(Arrays.asList("Z", "B", "C", "D", "E"), actual.getIn().getBody());
+
+        // replace the list with another body
+        actual.getIn().setBody("Hello World");
+        repo.add(context, "foo", actual);
+        actual = repo.get(context, "foo");
+        assertEquals("Hello World", actual.getIn().getBody());
+
+        // and back to a list
+        actual.getIn().setBody(new ArrayList<>(Arrays.asList("X")));
+        repo.add(context, "foo", actual);
+        actual = repo.get(context, "foo");
+        assertEquals(Arrays.asList("X"), actual.getIn().getBody());
+
+        // now remove it, which also removes the segments
+        repo.remove(context, "foo", actual);
+        assertNull(repo.get(context, "foo"));
+        assertEquals(0, countKeys("repo1"));
+
+        // the completed exchange has the whole list
+        Exchange recovered = repo.recover(context, actual.getExchangeId());
+        assertEquals(Arrays.asList("X"), recovered.getIn().getBody());
+    }
+
+    private int countKeys(String repositoryName) throws IOException {
+        // the repository is not started (as the file is started already) so the keys are counted from the file
+        byte[] prefix = LevelDBAggregationRepository.keyBuilder(repositoryName, "");
+        int count = 0;
+        try (DBIterator it = levelDBFile.getDb().iterator()) {
+            for (it.seek(prefix); it.hasNext(); it.next()) {
+                String key = LevelDBAggregationRepository.asString(it.peekNext().getKey());
+                if (!key.startsWith(repositoryName + '\0')) {
+                    break;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+}
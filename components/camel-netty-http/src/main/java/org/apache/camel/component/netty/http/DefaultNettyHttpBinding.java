@@ -17,6 +17,7 @@
 package org.apache.camel.component.netty.http;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
@@ -24,7 +25,9 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -441,7 +444,17 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
 
         HttpResponse response = null;
 
-        if (body instanceof InputStream && configuration.isDisableStreamCache()) {
+        File file = null;
+        if (cause == null && !configuration.isCompression()) {
+            file = MessageHelper.getBodyFile(message);
+            if (file != null) {
+                LOG.trace("Transferring file: {}", file);
+                // the file is opened when the headers have been set, so it is not left open if setting them fails
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code));
+            }
+        }
+
+        if (response == null && body instanceof InputStream && configuration.isDisableStreamCache()) {
             response = new OutboundStreamHttpResponse(
                     (InputStream) body, new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code)));
             response.headers().set(TRANSFER_ENCODING, CHUNKED);
@@ -536,6 +549,11 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         }
         LOG.trace("Connection: {}", connection);
 
+        if (file != null) {
+            response = new OutboundFileHttpResponse(
+                    FileChannel.open(file.toPath(), StandardOpenOption.READ), (DefaultHttpResponse) response);
+        }
+
         return response;
     }
 
@@ -616,6 +634,16 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             }
         }
 
+        File file = null;
+        if (request == null) {
+            file = MessageHelper.getBodyFile(message);
+            if (file != null) {
+                LOG.trace("Transferring file: {}", file);
+                // the file is opened when the headers have been set, so it is not left open if setting them fails
+                request = new DefaultHttpRequest(protocol, httpMethod, uriForRequest);
+            }
+        }
+
         if (request == null && body instanceof InputStream && configuration.isDisableStreamCache()) {
             request = new OutboundStreamHttpRequest(
                     (InputStream) body, new DefaultHttpRequest(protocol, httpMethod, uriForRequest));
@@ -731,6 +759,11 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         request.headers().set(NettyHttpConstants.CONNECTION, connection);
         LOG.trace("Connection: {}", connection);
 
+        if (file != null) {
+            request = new OutboundFileHttpRequest(
+                    FileChannel.open(file.toPath(), StandardOpenOption.READ), (DefaultHttpRequest) request);
+        }
+
         return request;
     }
 
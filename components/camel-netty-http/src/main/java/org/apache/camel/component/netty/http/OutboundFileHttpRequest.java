@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A HTTP request with the content of a file, which is transferred directly from the file system to the socket
+ * (zero-copy) by the {@link org.apache.camel.component.netty.http.handlers.HttpOutboundStreamHandler}, instead of
+ * reading the file into memory.
+ */
+public class OutboundFileHttpRequest extends DefaultHttpRequest {
+    private final FileChannel channel;
+    private final long length;
+
+    public OutboundFileHttpRequest(FileChannel channel, DefaultHttpRequest request) throws IOException {
+        super(request.protocolVersion(), request.method(), request.uri(), request.headers());
+        this.channel = channel;
+        try {
+            this.length = channel.size();
+        } catch (IOException e) {
+            IOHelper.close(channel);
+            throw e;
+        }
+        headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
+    }
+
+    public DefaultHttpRequest getRequest() {
+        return new DefaultHttpRequest(this.protocolVersion(), this.method(), this.uri(), this.headers());
+    }
+
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    public long getLength() {
+        return length;
+    }
+}
@@ -16,16 +16,36 @@
  */
 package org.apache.camel.component.netty.http.handlers;
 
+import java.nio.channels.FileChannel;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import org.apache.camel.component.netty.http.OutboundFileHttpRequest;
+import org.apache.camel.component.netty.http.OutboundFileHttpResponse;
 import org.apache.camel.component.netty.http.OutboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.OutboundStreamHttpResponse;
 
 public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof OutboundFileHttpRequest) {
+            OutboundFileHttpRequest request = (OutboundFileHttpRequest) msg;
+            writeFile(ctx, request.getRequest(), request.getChannel(), request.getLength(), promise);
+            return;
+        } else if (msg instanceof OutboundFileHttpResponse) {
+            OutboundFileHttpResponse response = (OutboundFileHttpResponse) msg;
+            writeFile(ctx, response.getResponse(), response.getChannel(), response.getLength(), promise);
+            return;
+        }
+
         boolean needNewPromise = false;
 
         if (msg instanceof OutboundStreamHttpRequest) {
@@ -42,4 +62,19 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
 
         super.write(ctx, msg, promise);
     }
+
+    private void writeFile(
+            ChannelHandlerContext ctx, HttpMessage head, FileChannel channel, long length, ChannelPromise promise)
+            throws Exception {
+        // the promise is completed when the content is written, so the channel is not closed before
+        super.write(ctx, head, ctx.newPromise());
+        if (ctx.pipeline().get(SslHandler.class) == null) {
+            // transfer the file directly to the socket (zero-copy), which closes the file channel when done
+            super.write(ctx, new DefaultFileRegion(channel, 0, length), ctx.newPromise());
+            super.write(ctx, LastHttpContent.EMPTY_LAST_CONTENT, promise);
+        } else {
+            // the content must be encrypted, so read the file in chunks
+            super.write(ctx, new HttpChunkedInput(new ChunkedNioFile(channel)), promise);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyHttpFileTest extends BaseNettyTest {
+
+    private final File file = new File("target/data/nettyhttpfile/hello.txt");
+    private String content;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("Hello World ").append(i).append('\n');
+        }
+        content = sb.toString();
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        super.setUp();
+    }
+
+    @Test
+    public void testUploadFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:upload");
+        mock.expectedBodiesReceived(content);
+        mock.expectedHeaderReceived("Content-Length", String.valueOf(file.length()));
+
+        String out = template.requestBody("netty-http:http://localhost:{{port}}/upload", file, String.class);
+        assertEquals("Bye World", out);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDownloadFile() throws Exception {
+        String out = template.requestBody("netty-http:http://localhost:{{port}}/download", "Hello World", String.class);
+        assertEquals(content, out);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty-http:http://0.0.0.0:{{port}}/upload")
+                        .convertBodyTo(String.class)
+                        .to("mock:upload")
+                        .transform().constant("Bye World");
+
+                from("netty-http:http://0.0.0.0:{{port}}/download")
+                        .process(exchange -> exchange.getMessage().setBody(file));
+            }
+        };
+    }
+}
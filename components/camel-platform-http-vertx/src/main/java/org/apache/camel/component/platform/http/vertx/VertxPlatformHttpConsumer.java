@@ -26,6 +26,7 @@ import java.util.regex.Pattern;
 
 import javax.activation.DataHandler;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
@@ -196,10 +197,12 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
                 false,
                 result -> {
                     Throwable failure = null;
+                    Future<Void> written = null;
                     try {
                         if (result.succeeded()) {
                             try {
-                                writeResponse(ctx, exchange, getEndpoint().getHeaderFilterStrategy(), muteExceptions);
+                                written = writeResponse(ctx, exchange, getEndpoint().getHeaderFilterStrategy(),
+                                        muteExceptions);
                             } catch (Exception e) {
                                 failure = e;
                             }
@@ -214,12 +217,38 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
                             ctx.fail(failure);
                         }
                     } finally {
-                        doneUoW(exchange);
-                        releaseExchange(exchange, false);
+                        if (written == null) {
+                            doneUoW(exchange);
+                            releaseExchange(exchange, false);
+                        }
+                    }
+                    if (written != null) {
+                        // a file is sent asynchronously, so the exchange is done when the file has been sent, as
+                        // done may delete the file (such as a stream cache spooled to disk)
+                        written.onComplete(sent -> onResponseWritten(ctx, exchange, sent.cause()));
                     }
                 });
     }
 
+    private void onResponseWritten(RoutingContext ctx, Exchange exchange, Throwable failure) {
+        try {
+            if (failure != null) {
+                getExceptionHandler().handleException(
+                        "Failed sending the response of platform-http endpoint " + getEndpoint().getPath(),
+                        exchange, failure);
+                if (ctx.response().headWritten()) {
+                    // the response is partially sent so close the connection
+                    ctx.response().close();
+                } else {
+                    ctx.fail(failure);
+                }
+            }
+        } finally {
+            doneUoW(exchange);
+            releaseExchange(exchange, false);
+        }
+    }
+
     private Exchange toExchange(RoutingContext ctx) {
         final Exchange exchange = createExchange(false);
         exchange.setPattern(ExchangePattern.InOut);
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.platform.http.vertx;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
@@ -27,6 +28,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
@@ -113,14 +115,23 @@ public final class VertxPlatformHttpSupport {
 
             // and mark the exception as failure handled, as we handled it by returning it as the response
             ExchangeHelper.setFailureHandled(exchange);
+        } else {
+            // send a file directly from the file system (zero-copy), which sets the content-length
+            final File file = MessageHelper.getBodyFile(message);
+            if (file != null) {
+                body = file;
+            }
         }
 
         // set the content-length if it can be determined, or chunked encoding
-        final Integer length = determineContentLength(exchange, body);
-        if (length != null) {
-            response.putHeader("Content-Length", String.valueOf(length));
-        } else {
-            response.setChunked(true);
+        // (the content-length of a file is set when the file is sent)
+        if (!(body instanceof File)) {
+            final Integer length = determineContentLength(exchange, body);
+            if (length != null) {
+                response.putHeader("Content-Length", String.valueOf(length));
+            } else {
+                response.setChunked(true);
+            }
         }
 
         // set the content type in the response.
@@ -164,7 +175,11 @@ public final class VertxPlatformHttpSupport {
         return codeToUse;
     }
 
-    static void writeResponse(
+    /**
+     * Writes the response. A file body is sent asynchronously, and the returned future completes when the file has been
+     * sent, for other bodies the returned future is already completed.
+     */
+    static Future<Void> writeResponse(
             RoutingContext ctx, Exchange camelExchange, HeaderFilterStrategy headerFilterStrategy, boolean muteExceptions)
             throws Exception {
         final Object body = toHttpResponse(ctx.response(), camelExchange.getMessage(), headerFilterStrategy, muteExceptions);
@@ -179,6 +194,8 @@ public final class VertxPlatformHttpSupport {
             writeResponseAs(response, (InputStream) body);
         } else if (body instanceof Buffer) {
             response.end((Buffer) body);
+        } else if (body instanceof File) {
+            return response.sendFile(((File) body).getPath());
         } else {
             final TypeConverter tc = camelExchange.getContext().getTypeConverter();
             // Try to convert to ByteBuffer for performance reason
@@ -193,6 +210,7 @@ public final class VertxPlatformHttpSupport {
                 writeResponseAs(response, is);
             }
         }
+        return Future.succeededFuture();
     }
 
     private static void writeResponseAs(HttpServerResponse response, InputStream is) throws IOException {
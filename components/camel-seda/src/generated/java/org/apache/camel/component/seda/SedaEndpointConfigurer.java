@@ -21,6 +21,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
         case "blockwhenfull":
         case "blockWhenFull": target.setBlockWhenFull(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -37,6 +39,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": target.setExchangePattern(property(camelContext, org.apache.camel.ExchangePattern.class, value)); return true;
         case "failifnoconsumers":
         case "failIfNoConsumers": target.setFailIfNoConsumers(property(camelContext, boolean.class, value)); return true;
+        case "groupbatch":
+        case "groupBatch": target.setGroupBatch(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "limitconcurrentconsumers":
@@ -61,6 +65,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchsize":
+        case "batchSize": return int.class;
         case "blockwhenfull":
         case "blockWhenFull": return boolean.class;
         case "bridgeerrorhandler":
@@ -77,6 +83,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": return org.apache.camel.ExchangePattern.class;
         case "failifnoconsumers":
         case "failIfNoConsumers": return boolean.class;
+        case "groupbatch":
+        case "groupBatch": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "limitconcurrentconsumers":
@@ -102,6 +110,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
         case "blockwhenfull":
         case "blockWhenFull": return target.isBlockWhenFull();
         case "bridgeerrorhandler":
@@ -118,6 +128,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": return target.getExchangePattern();
         case "failifnoconsumers":
         case "failIfNoConsumers": return target.isFailIfNoConsumers();
+        case "groupbatch":
+        case "groupBatch": return target.isGroupBatch();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "limitconcurrentconsumers":
@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer.
+ * <p/>
+ * Producers and consumers claim slots in the ring buffer using compare-and-set on their respective sequence counters,
+ * and each slot carries its own sequence number which tells whether it is ready to be written or read. This means
+ * producers and consumers never block each other on a lock, which is the case with
+ * {@link java.util.concurrent.ArrayBlockingQueue}. Any number of producers and consumers is supported.
+ * <p/>
+ * Threads only park when the queue is full (producers) or empty (consumers), and are unparked by the opposite side.
+ * <p/>
+ * Removing an element (which is not at the head of the queue) replaces the element in its slot with a marker, which
+ * consumers skip. The slot is occupied until the consumers have passed it, and therefore the
+ * {@link #remainingCapacity()} does not increase when removing an element.
+ * <p/>
+ * The capacity is rounded up to the next power of two (and at least 2).
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+    // marks the slot of a removed element, which consumers skip
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    // number of removed elements which consumers have not yet skipped
+    private final AtomicLong removed = new AtomicLong();
+    // threads waiting for the queue to be not empty (consumers) or not full (producers)
+    private final Queue<Thread> takers = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> putters = new ConcurrentLinkedQueue<>();
+
+    public RingBufferBlockingQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAXIMUM_CAPACITY + ", was: " + capacity);
+        }
+        // the ring buffer needs at least two slots to tell a published slot from a free slot
+        this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * The capacity of the ring buffer (power of two)
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                // the slot is free so try to claim it
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // the slot is still in use from the previous lap so the queue is full
+                return false;
+            } else {
+                // another producer claimed the slot
+                pos = tail.get();
+            }
+        }
+        buffer.lazySet(index, e);
+        // publish the element to consumers
+        sequences.set(index, pos + 1);
+        signal(takers);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            long pos = head.get();
+            int index;
+            while (true) {
+                index = (int) pos & mask;
+                long diff = sequences.get(index) - (pos + 1);
+                if (diff == 0) {
+                    // the slot has been published so try to claim it
+                    if (head.compareAndSet(pos, pos + 1)) {
+                        break;
+                    }
+                    pos = head.get();
+                } else if (diff < 0) {
+                    // the slot is not yet published so the queue is empty
+                    return null;
+                } else {
+                    // another consumer claimed the slot
+                    pos = head.get();
+                }
+            }
+            // take the element atomically, as it may be concurrently removed
+            Object e = buffer.getAndSet(index, null);
+            // free the slot for the next lap of producers
+            sequences.set(index, pos + capacity);
+            signal(putters);
+            if (e != REMOVED) {
+                return (E) e;
+            }
+            // the element has been removed so skip to the next element
+            removed.decrementAndGet();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        while (true) {
+            long h = head.get();
+            for (long pos = h;; pos++) {
+                int index = (int) pos & mask;
+                if (sequences.get(index) != pos + 1) {
+                    if (head.get() == h) {
+                        // the slot is not yet published so the queue is empty
+                        return null;
+                    }
+                    break;
+                }
+                Object e = buffer.get(index);
+                if (e == REMOVED) {
+                    continue;
+                }
+                if (e != null && head.get() == h) {
+                    return (E) e;
+                }
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        while (!offer(e)) {
+            await(putters, () -> occupied() < capacity, 0);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            await(putters, () -> occupied() < capacity, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        while ((e = poll()) == null) {
+            await(takers, this::isHeadPublished, 0);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E e;
+        while ((e = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            await(takers, this::isHeadPublished, remaining);
+        }
+        return e;
+    }
+
+    /**
+     * The number of free slots, where the slots of removed elements are not free until the consumers have passed them
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - occupied();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, occupied() - removed.get()));
+    }
+
+    /**
+     * The number of occupied slots, including the slots of removed elements
+     */
+    private int occupied() {
+        while (true) {
+            long h = head.get();
+            long t = tail.get();
+            // ensure a consistent snapshot
+            if (h == head.get()) {
+                return (int) Math.max(0, Math.min(capacity, t - h));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    /**
+     * Whether the slot at the head of the queue is published, which may be the slot of a removed element
+     */
+    private boolean isHeadPublished() {
+        long pos = head.get();
+        return sequences.get((int) pos & mask) - (pos + 1) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // noop
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in the queue.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        long h = head.get();
+        long t = tail.get();
+        for (long pos = h; pos < t; pos++) {
+            int index = (int) pos & mask;
+            Object e = buffer.get(index);
+            if (e != null && e != REMOVED && sequences.get(index) == pos + 1) {
+                answer.add((E) e);
+            }
+        }
+        Iterator<E> it = answer.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                RingBufferBlockingQueue.this.remove(last);
+            }
+        };
+    }
+
+    /**
+     * Removes the given element by replacing it in its slot with a marker which consumers skip, so the queue can be
+     * used concurrently by producers and consumers meanwhile, and the order of the other elements is kept.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long t = tail.get();
+        for (long pos = head.get(); pos < t; pos++) {
+            int index = (int) pos & mask;
+            if (sequences.get(index) != pos + 1) {
+                // the slot has been taken by a consumer, or is not yet published
+                continue;
+            }
+            Object e = buffer.get(index);
+            // a consumer takes the element atomically, so only one of them succeeds
+            if (e != REMOVED && o.equals(e) && buffer.compareAndSet(index, e, REMOVED)) {
+                removed.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferBlockingQueue[size=" + size() + ", capacity=" + capacity + "]";
+    }
+
+    private static void signal(Queue<Thread> waiters) {
+        if (!waiters.isEmpty()) {
+            for (Thread thread : waiters) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    private void await(Queue<Thread> waiters, Condition ready, long nanos) throws InterruptedException {
+        Thread thread = Thread.currentThread();
+        waiters.add(thread);
+        try {
+            // check again after registering, so we do not miss a signal
+            if (!ready.test()) {
+                if (nanos > 0) {
+                    LockSupport.parkNanos(this, nanos);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        } finally {
+            waiters.remove(thread);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean test();
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -23,8 +24,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
@@ -44,6 +47,9 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this implementation there is a little <i>slack period</i> when you suspend/stop the consumer, by which the
  * consumer may pickup a newly arrived messages and process it. That period is up till 1 second.
+ * <p/>
+ * When a batch size is configured, then the consumer drains up to batch size messages from the queue at once, and
+ * processes them one after the other (or as a single grouped exchange) on the consumer thread.
  */
 public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownAware, Suspendable {
 
@@ -55,10 +61,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final boolean groupBatch;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.groupBatch = endpoint.isGroupBatch();
     }
 
     @Override
@@ -137,6 +147,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // the batch is reused by this consumer thread
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -179,22 +191,17 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && batch != null) {
+                    // grab more exchanges which are ready without waiting
+                    batch.add(exchange);
+                    queue.drainTo(batch, batchSize - 1);
                     try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                        processBatch(batch);
+                    } finally {
+                        batch.clear();
                     }
+                } else if (exchange != null) {
+                    processExchange(exchange);
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
@@ -213,6 +220,77 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Processes the exchange taken from the queue
+     */
+    protected void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Processes the batch of exchanges taken from the queue at once
+     */
+    protected void processBatch(List<Exchange> batch) {
+        int size = batch.size();
+        LOG.trace("Processing batch of {} exchanges", size);
+        if (groupBatch) {
+            processGroupedBatch(batch);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            Exchange exchange = batch.get(i);
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, size);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == size - 1);
+            processExchange(exchange);
+        }
+    }
+
+    private void processGroupedBatch(List<Exchange> batch) {
+        // the grouped exchanges are in the message body, so the list must not be reused
+        List<Exchange> grouped = new ArrayList<>(batch);
+        Exchange exchange = getEndpoint().createExchange();
+        exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, grouped.size());
+        exchange.getMessage().setBody(grouped);
+        try {
+            Exchange newExchange = prepareExchange(exchange);
+            // the grouped exchanges are done when the grouped exchange is done, which may be after this method has
+            // returned when the exchange is routed asynchronously
+            sendToConsumers(newExchange, doneSync -> doneGroupedExchanges(newExchange, grouped));
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+            doneGroupedExchanges(exchange, grouped);
+        }
+    }
+
+    private void doneGroupedExchanges(Exchange exchange, List<Exchange> grouped) {
+        // log exception if an exception occurred and was not handled
+        if (exchange.getException() != null) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+        }
+        for (Exchange e : grouped) {
+            if (exchange.getException() != null) {
+                e.setException(exchange.getException());
+            }
+            List<Synchronization> completions = e.adapt(ExtendedExchange.class).handoverCompletions();
+            UnitOfWorkHelper.doneSynchronizations(e, completions, LOG);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -239,6 +317,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @throws Exception can be thrown if processing of the exchange failed
      */
     protected void sendToConsumers(final Exchange exchange) throws Exception {
+        sendToConsumers(exchange, EmptyAsyncCallback.get());
+    }
+
+    private void sendToConsumers(final Exchange exchange, final AsyncCallback callback) throws Exception {
         // validate multiple consumers has been enabled
         int size = getEndpoint().getConsumers().size();
         if (size > 1 && !getEndpoint().isMultipleConsumersSupported()) {
@@ -263,10 +345,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             mp.process(exchange, doneSync -> {
                 // done the uow on the completions
                 UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                callback.done(doneSync);
             });
         } else {
             // use the regular processor and use the asynchronous routing engine to support it
-            getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            getAsyncProcessor().process(exchange, callback);
         }
     }
 
@@ -84,6 +84,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private boolean groupBatch;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -440,6 +444,34 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages the consumer takes from the queue at once, which are processed one after the other
+     * by the consumer thread. Taking a batch of messages at once reduces the contention on the queue. The messages have
+     * the exchange properties CamelBatchIndex, CamelBatchSize and CamelBatchComplete set.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isGroupBatch() {
+        return groupBatch;
+    }
+
+    /**
+     * When using batchSize, whether to deliver the messages taken from the queue at once as a single exchange, which
+     * has a java.util.List of the exchanges as message body. This is intended for one-way messaging, the grouped
+     * exchanges are completed when the single exchange is done.
+     */
+    public void setGroupBatch(boolean groupBatch) {
+        this.groupBatch = groupBatch;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
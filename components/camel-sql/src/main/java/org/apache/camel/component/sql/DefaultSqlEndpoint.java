@@ -51,6 +51,21 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private boolean transacted;
     @UriParam(label = "producer", description = "Enables or disables batch mode")
     private boolean batch;
+    @UriParam(label = "producer",
+              description = "If set greater than zero, then the producer buffers the statements from many exchanges and executes them"
+                            + " as a single JDBC batch when this number of statements has been buffered, or when the batchTimeout has elapsed."
+                            + " Each exchange is completed when its batch has been executed, with its own update count in the CamelSqlUpdateCount header."
+                            + " The query must be an insert, update or delete statement. Notice this should not be used in transacted routes.")
+    private int batchSize;
+    @UriParam(label = "producer", defaultValue = "1000", javaType = "java.time.Duration",
+              description = "Interval in millis for executing the statements buffered when using batchSize, so exchanges are not waiting"
+                            + " for a batch to be full. The timeout must be greater than zero.")
+    private long batchTimeout = 1000;
+    @UriParam(label = "producer",
+              description = "If set greater than zero, then the number of rows to fetch from the database at a time (JDBC fetch size)"
+                            + " when executing queries. This is especially useful with outputType=StreamList, to stream large result sets"
+                            + " without loading all the rows into memory at once.")
+    private int fetchSize;
     @UriParam(label = "consumer", description = "Sets the maximum number of messages to poll")
     private int maxMessagesPerPoll;
     @UriParam(label = "consumer,advanced",
@@ -166,6 +181,47 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.batch = batch;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer buffers the statements from many exchanges and executes them as a
+     * single JDBC batch when this number of statements has been buffered, or when the batchTimeout has elapsed. Each
+     * exchange is completed when its batch has been executed, with its own update count in the CamelSqlUpdateCount
+     * header.
+     * <p/>
+     * The query must be an insert, update or delete statement. Notice this should not be used in transacted routes.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Interval in millis for executing the statements buffered when using batchSize, so exchanges are not waiting for a
+     * batch to be full. The timeout must be greater than zero.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * If set greater than zero, then the number of rows to fetch from the database at a time (JDBC fetch size) when
+     * executing queries. This is especially useful with outputType=StreamList, to stream large result sets without
+     * loading all the rows into memory at once.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public int getMaxMessagesPerPoll() {
         return maxMessagesPerPoll;
     }
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.ResourceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+/**
+ * A producer which buffers the statements from many exchanges and executes them as a single JDBC batch.
+ * <p/>
+ * The buffered statements are executed when <tt>batchSize</tt> statements has been buffered, or when the
+ * <tt>batchTimeout</tt> has elapsed. Each exchange is completed (asynchronously) when its batch has been executed, with
+ * its own update count in the {@link SqlConstants#SQL_UPDATE_COUNT} header. If the batch fails then all the exchanges
+ * in the batch fails with the same exception.
+ * <p/>
+ * As the batch is executed by another thread than the thread routing the exchange, then this producer should not be
+ * used in transacted routes.
+ */
+public class SqlBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlBatchProducer.class);
+
+    private final String query;
+    private String resolvedQuery;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean batch;
+    private final boolean alwaysPopulateStatement;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean useMessageBodyForSql;
+    private final int batchSize;
+    private final long batchTimeout;
+    private int parametersCount;
+
+    private final Object lock = new Object();
+    private List<PendingStatement> pending;
+    private ScheduledExecutorService scheduler;
+
+    public SqlBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
+                            SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                            boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql,
+                            int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.query = query;
+        this.batch = batch;
+        this.alwaysPopulateStatement = alwaysPopulateStatement;
+        this.useMessageBodyForSql = useMessageBodyForSql;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Number of statements currently buffered and waiting to be executed
+     */
+    public int getPendingSize() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public void setParametersCount(int parametersCount) {
+        this.parametersCount = parametersCount;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        if (ResourceHelper.isClasspathUri(query)) {
+            String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+            resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (!ResourceHelper.isClasspathUri(query)) {
+            String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+            resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+        }
+
+        // a partial batch would otherwise only be executed when the producer is stopped
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException("BatchTimeout must be a positive value, was " + batchTimeout);
+        }
+        scheduler = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                "SqlBatchTimeout");
+        LOG.debug("Creating batch timeout task scheduled to run every {} millis", batchTimeout);
+        scheduler.scheduleWithFixedDelay(this::flush, batchTimeout, batchTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        // execute any remaining statements so the exchanges are completed
+        flush();
+
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        List<PendingStatement> full = null;
+        try {
+            final String sql;
+            if (useMessageBodyForSql) {
+                sql = exchange.getIn().getBody(String.class);
+            } else {
+                String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+                sql = queryHeader != null ? queryHeader : resolvedQuery;
+            }
+            final String preparedQuery
+                    = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+
+            synchronized (lock) {
+                pending.add(new PendingStatement(exchange, callback, sql, preparedQuery));
+                if (pending.size() >= batchSize) {
+                    full = pending;
+                    pending = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (full != null) {
+            // the batch is full so execute it using the current thread
+            executeBatch(full);
+        }
+        return false;
+    }
+
+    /**
+     * Executes the statements currently buffered (if any)
+     */
+    public void flush() {
+        List<PendingStatement> statements;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            statements = pending;
+            pending = new ArrayList<>(batchSize);
+        }
+        executeBatch(statements);
+    }
+
+    private void executeBatch(List<PendingStatement> batch) {
+        // group the statements by their query (which is usually the same) and preserve the order of the exchanges
+        Map<String, List<PendingStatement>> groups = new LinkedHashMap<>();
+        for (PendingStatement statement : batch) {
+            groups.computeIfAbsent(statement.preparedQuery, k -> new ArrayList<>()).add(statement);
+        }
+
+        for (Map.Entry<String, List<PendingStatement>> group : groups.entrySet()) {
+            List<PendingStatement> statements = group.getValue();
+            try {
+                LOG.trace("jdbcTemplate.execute batch of {} exchanges: {}", statements.size(), group.getKey());
+                jdbcTemplate.execute(group.getKey(), (PreparedStatementCallback<Object>) ps -> {
+                    for (PendingStatement statement : statements) {
+                        statement.rows = populateStatement(ps, statement);
+                    }
+                    int[] updateCounts = ps.executeBatch();
+                    int index = 0;
+                    for (PendingStatement statement : statements) {
+                        int total = 0;
+                        for (int i = 0; i < statement.rows && index < updateCounts.length; i++) {
+                            total += updateCounts[index++];
+                        }
+                        statement.exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                for (PendingStatement statement : statements) {
+                    statement.exchange.setException(e);
+                }
+            }
+            for (PendingStatement statement : statements) {
+                statement.callback.done(false);
+            }
+        }
+    }
+
+    private int populateStatement(PreparedStatement ps, PendingStatement statement) throws SQLException {
+        Exchange exchange = statement.exchange;
+        int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+        int rows = 0;
+        if (batch) {
+            // the message body contains many rows for this exchange
+            Iterator<?> iterator;
+            if (useMessageBodyForSql) {
+                iterator = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS, Iterator.class);
+            } else {
+                iterator = exchange.getIn().getBody(Iterator.class);
+            }
+            while (iterator != null && iterator.hasNext()) {
+                Object value = iterator.next();
+                if (alwaysPopulateStatement || expected > 0) {
+                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(statement.sql,
+                            statement.preparedQuery, expected, exchange, value);
+                    sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                }
+                ps.addBatch();
+                rows++;
+            }
+        } else {
+            if (alwaysPopulateStatement || expected > 0) {
+                Object value;
+                if (useMessageBodyForSql) {
+                    value = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+                } else {
+                    value = exchange.getIn().getBody();
+                }
+                Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(statement.sql, statement.preparedQuery,
+                        expected, exchange, value);
+                sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+            }
+            ps.addBatch();
+            rows++;
+        }
+        return rows;
+    }
+
+    private static final class PendingStatement {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String sql;
+        private final String preparedQuery;
+        private int rows;
+
+        private PendingStatement(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
@@ -69,6 +69,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null
                 ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
+        if (getBatchSize() > 0) {
+            SqlBatchProducer answer = new SqlBatchProducer(
+                    this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
+                    isAlwaysPopulateStatement(), isUseMessageBodyForSql(), getBatchSize(), getBatchTimeout());
+            answer.setParametersCount(getParametersCount());
+            return answer;
+        }
         SqlProducer result = new SqlProducer(
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
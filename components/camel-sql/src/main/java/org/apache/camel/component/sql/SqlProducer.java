@@ -147,6 +147,9 @@ public class SqlProducer extends DefaultProducer {
                 Object data = null;
                 ResultSet rs = null;
                 try {
+                    if (getEndpoint().getFetchSize() > 0) {
+                        ps.setFetchSize(getEndpoint().getFetchSize());
+                    }
                     populateStatement(ps, exchange, sql, preparedQuery);
                     boolean isResultSet = false;
 
@@ -222,6 +225,12 @@ public class SqlProducer extends DefaultProducer {
             ps = statementCreator.createPreparedStatement(con);
             ResultSetIterator iterator = null;
 
+            // the jdbcTemplate is not used so apply the fetch size to stream the rows in chunks
+            int fetchSize = getEndpoint().getFetchSize() > 0 ? getEndpoint().getFetchSize() : jdbcTemplate.getFetchSize();
+            if (fetchSize > 0) {
+                ps.setFetchSize(fetchSize);
+            }
+
             populateStatement(ps, exchange, sql, preparedQuery);
 
             boolean isResultSet = ps.execute();
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlProducerBatchSizeTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        for (int i = 0; i < 20; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", 100 + i);
+            row.put("project", "Project" + i);
+            row.put("lic", "ASF");
+            template.sendBody("seda:start", row);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(23, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        // not enough rows to fill the batch so the batch timeout should execute them
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", 200 + i);
+            row.put("project", "Project" + i);
+            row.put("lic", "XXX");
+            template.sendBody("seda:start", row);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(4, jdbcTemplate.queryForObject("select count(*) from projects where license = 'XXX'", Integer.class));
+    }
+
+    @Test
+    public void testBatchFailed() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:error");
+        mock.expectedMessageCount(1);
+
+        // duplicate primary key
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1);
+        row.put("project", "Camel");
+        row.put("lic", "ASF");
+        template.sendBody("seda:start", row);
+
+        assertMockEndpointsSatisfied();
+        Exception cause = mock.getReceivedExchanges().get(0).getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        assertNotNull(cause);
+    }
+
+    @Test
+    public void testInvalidBatchTimeout() throws Exception {
+        Producer producer = context.getEndpoint("sql:insert into projects (id) values (:#id)?batchSize=10&batchTimeout=0")
+                .createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.DERBY)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                onException(Exception.class).handled(true).to("mock:error");
+
+                from("seda:start?concurrentConsumers=10")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#lic)"
+                            + "?batchSize=10&batchTimeout=200")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -21,7 +21,8 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(21);
+        props.add("batchSize");
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
@@ -30,6 +31,7 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("failIfNoConsumers");
+        props.add("groupBatch");
         props.add("lazyStartProducer");
         props.add("limitConcurrentConsumers");
         props.add("multipleConsumers");
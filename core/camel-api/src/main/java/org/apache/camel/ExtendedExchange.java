@@ -229,4 +229,12 @@ public interface ExtendedExchange extends Exchange {
      * @see SafeCopyProperty
      */
     <T> T getSafeCopyProperty(String key, Class<T> type);
+
+    /**
+     * Creates a copy of the current message exchange, where the message headers and exchange properties are shared with
+     * the current exchange until either of the exchanges changes them (copy-on-write).
+     * <p/>
+     * This method is only intended for Camel internally, such as EIPs that create many copies of the exchange.
+     */
+    Exchange copyOnWrite();
 }
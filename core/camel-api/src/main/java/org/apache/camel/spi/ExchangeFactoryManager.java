@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.apache.camel.StaticService;
 
@@ -45,6 +46,25 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     Collection<ExchangeFactory> getExchangeFactories();
 
+    /**
+     * Adds a {@link PooledObjectFactory} for other kinds of pooled objects than the exchanges created by the consumers,
+     * such as processor exchanges or tasks used by the EIPs, so its usage is included in the statistics per pooled
+     * object type.
+     *
+     * @param type    the type of the pooled objects such as <tt>PipelineTask</tt>
+     * @param factory the factory
+     */
+    void addPooledObjectFactory(String type, PooledObjectFactory<?> factory);
+
+    /**
+     * Removes the {@link PooledObjectFactory} from being managed (such as when a route is stopped/removed) or during
+     * shutdown.
+     *
+     * @param type    the type of the pooled objects
+     * @param factory the factory
+     */
+    void removePooledObjectFactory(String type, PooledObjectFactory<?> factory);
+
     /**
      * Number of consumers currently being managed
      */
@@ -85,4 +105,18 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     ExchangeFactory.Statistics getStatistics();
 
+    /**
+     * Number of currently pooled objects of the given type (if pooled is in use)
+     *
+     * @param type the type of the pooled objects, use <tt>Exchange</tt> for the exchanges created by the consumers
+     */
+    int getPooledCounter(String type);
+
+    /**
+     * Aggregated statistics per pooled object type. The exchanges created by the consumers are included as type
+     * <tt>Exchange</tt>. The created counter is the number of pool misses, and the acquired counter is the number of
+     * pool hits.
+     */
+    Map<String, PooledObjectFactory.Statistics> getStatisticsPerType();
+
 }
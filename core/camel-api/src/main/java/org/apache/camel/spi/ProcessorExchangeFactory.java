@@ -69,6 +69,18 @@ public interface ProcessorExchangeFactory extends PooledObjectFactory<Exchange>,
      */
     Exchange createCorrelatedCopy(Exchange exchange, boolean handover);
 
+    /**
+     * Gets a copy of the given {@link Exchange} and the copy is correlated to the source, where the message headers and
+     * exchange properties are shared with the source until either of the exchanges changes them (copy-on-write).
+     * <p/>
+     * Factories that cannot share the headers and properties, such as when pooling exchanges, returns a regular
+     * correlated copy.
+     *
+     * @param exchange original exchange
+     * @param handover whether the on completion callbacks should be handed over to the new copy.
+     */
+    Exchange createCorrelatedCopyOnWrite(Exchange exchange, boolean handover);
+
     /**
      * Gets a new {@link Exchange}
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -27,6 +28,11 @@ import org.apache.camel.StreamCache;
  */
 public interface StreamCachingStrategy extends StaticService {
 
+    /**
+     * Default limit of off-heap memory used for spooling (64mb)
+     */
+    long DEFAULT_SPOOL_OFF_HEAP_MEMORY_LIMIT = 64 * 1024 * 1024;
+
     /**
      * Utilization statistics of stream caching.
      */
@@ -62,6 +68,37 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of {@link StreamCache} created which was spooled to off-heap memory (and memory
+         * mapped files when the off-heap memory limit was reached).
+         */
+        default long getCacheOffHeapCounter() {
+            return 0;
+        }
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        default long getCacheOffHeapSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        default long getCacheOffHeapAverageSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of bytes of off-heap memory currently in use by off-heap stream caches.
+         * <p/>
+         * This is a gauge which is not reset by {@link #reset()}.
+         */
+        default long getOffHeapMemoryUsed() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -181,6 +218,37 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets whether to spool to off-heap memory (direct byte buffers) instead of temporary files. When the off-heap
+     * memory limit is reached, then the remainder is spooled to memory mapped regions of a temporary file in the spool
+     * directory.
+     * <p/>
+     * Off-heap spooling is not in use when a {@link #setSpoolCipher(String)} has been configured.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    default void setSpoolOffHeap(boolean spoolOffHeap) {
+        // noop
+    }
+
+    default boolean isSpoolOffHeap() {
+        return false;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory to use for spooling when {@link #setSpoolOffHeap(boolean)} is
+     * enabled.
+     * <p/>
+     * The default limit is {@link #DEFAULT_SPOOL_OFF_HEAP_MEMORY_LIMIT} bytes (eg 64mb).
+     */
+    default void setSpoolOffHeapMemoryLimit(long limit) {
+        // noop
+    }
+
+    default long getSpoolOffHeapMemoryLimit() {
+        return DEFAULT_SPOOL_OFF_HEAP_MEMORY_LIMIT;
+    }
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
@@ -221,4 +289,25 @@ public interface StreamCachingStrategy extends StaticService {
      */
     StreamCache cache(Exchange exchange);
 
+    /**
+     * Acquires a buffer of off-heap memory to use for spooling, when {@link #isSpoolOffHeap()} is enabled.
+     * <p/>
+     * The buffer must be released using {@link #releaseOffHeapBuffer(ByteBuffer)} when no longer in use.
+     *
+     * @return the buffer (cleared and ready for writing), or <tt>null</tt> if the off-heap memory limit has been
+     *         reached
+     */
+    default ByteBuffer acquireOffHeapBuffer() {
+        return null;
+    }
+
+    /**
+     * Releases a buffer which was acquired using {@link #acquireOffHeapBuffer()}, so it can be reused.
+     *
+     * @param buffer the buffer
+     */
+    default void releaseOffHeapBuffer(ByteBuffer buffer) {
+        // noop
+    }
+
 }
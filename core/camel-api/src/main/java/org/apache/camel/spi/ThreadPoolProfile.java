@@ -40,6 +40,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
+    private Integer maxConcurrentTasks;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -234,6 +236,47 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to use virtual threads (a new virtual thread per task) instead of a pool of platform threads.
+     *
+     * @return whether to use virtual threads
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads (a new virtual thread per task) instead of a pool of platform threads.
+     * <p/>
+     * Virtual threads requires JDK 19 or newer, on older JDKs a regular thread pool is used. When using virtual threads
+     * then the number of tasks executing concurrently is not limited by the pool size, but only by the max concurrent
+     * tasks (if set).
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the maximum number of tasks executing concurrently when using virtual threads.
+     *
+     * @return the maximum number of concurrent tasks, or <tt>null</tt> if not limited
+     */
+    public Integer getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Sets the maximum number of tasks executing concurrently when using virtual threads, which is not limited by
+     * default. When limited then the max queue size is the maximum number of tasks waiting to be executed.
+     *
+     * @param maxConcurrentTasks the maximum number of concurrent tasks, or 0 or negative for no limit
+     */
+    public void setMaxConcurrentTasks(Integer maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      * 
@@ -264,11 +307,25 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
+        if (maxConcurrentTasks == null) {
+            maxConcurrentTasks = defaultProfile.getMaxConcurrentTasks();
+        }
     }
 
     public boolean isEmpty() {
+        return isPoolEmpty() && isTasksEmpty();
+    }
+
+    private boolean isPoolEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && allowCoreThreadTimeOut == null;
+    }
+
+    private boolean isTasksEmpty() {
+        return maxQueueSize == null && rejectedPolicy == null && virtualThreads == null && maxConcurrentTasks == null;
     }
 
     @Override
@@ -283,6 +340,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreads(virtualThreads);
+        cloned.setMaxConcurrentTasks(maxConcurrentTasks);
         return cloned;
     }
 
@@ -290,7 +349,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreads:" + virtualThreads + ", maxConcurrentTasks:" + maxConcurrentTasks + "]";
     }
 
 }
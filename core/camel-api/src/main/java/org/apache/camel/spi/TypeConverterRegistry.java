@@ -60,6 +60,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of attempts where the type converter to use was resolved from the cache of previously resolved type
+         * converters
+         */
+        long getCacheHitCounter();
+
+        /**
+         * Number of attempts where the type converter to use was not cached and had to be resolved
+         */
+        long getCacheMissCounter();
+
         /**
          * Reset the counters
          */
@@ -129,6 +140,20 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
      */
     TypeConverter lookup(Class<?> toType, Class<?> fromType);
 
+    /**
+     * Resolves the type converter to use for converting from the given type to the given type, which can be a type
+     * converter for a super type or interface of the from type. The resolved type converter is cached, and can be bound
+     * by processors that convert values of the same type over and over again, to use the type converter directly.
+     * <p/>
+     * Notice the resolved type converter may not be able to convert all values, and returns <tt>null</tt> in those
+     * situations, and then the regular type conversion (which includes the fallback type converters) should be used.
+     *
+     * @param  toType   the type to convert to
+     * @param  fromType the type to convert from
+     * @return          the type converter or <tt>null</tt> if not found.
+     */
+    TypeConverter resolveTypeConverter(Class<?> toType, Class<?> fromType);
+
     /**
      * Sets the injector to be used for creating new instances during type conversions.
      *
@@ -23,20 +23,32 @@ import org.apache.camel.support.PooledObjectFactorySupport;
  */
 final class CamelInternalPooledTaskFactory extends PooledObjectFactorySupport<CamelInternalTask> {
 
-    @Override
-    public void setStatisticsEnabled(boolean statisticsEnabled) {
-        // we do not want to capture statistics so its disabled
-    }
-
     @Override
     public CamelInternalTask acquire() {
-        return pool.poll();
+        CamelInternalTask task = pool.poll();
+        if (statisticsEnabled) {
+            if (task != null) {
+                statistics.acquired.increment();
+            } else {
+                // the caller creates a new task when the pool is empty
+                statistics.created.increment();
+            }
+        }
+        return task;
     }
 
     @Override
     public boolean release(CamelInternalTask task) {
         task.reset();
-        return pool.offer(task);
+        boolean inserted = pool.offer(task);
+        if (statisticsEnabled) {
+            if (inserted) {
+                statistics.released.increment();
+            } else {
+                statistics.discarded.increment();
+            }
+        }
+        return inserted;
     }
 
     @Override
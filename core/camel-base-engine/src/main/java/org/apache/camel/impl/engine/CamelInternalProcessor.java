@@ -42,6 +42,7 @@ import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.debugger.DefaultBacklogTracerEventMessage;
 import org.apache.camel.spi.CamelInternalProcessorAdvice;
 import org.apache.camel.spi.Debugger;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.InternalProcessor;
 import org.apache.camel.spi.ManagementInterceptStrategy.InstrumentationProcessor;
@@ -146,9 +147,13 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
         // only create pooled task factory
         if (pooled) {
-            taskFactory = new CamelInternalPooledTaskFactory();
-            int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
-            taskFactory.setCapacity(capacity);
+            ExchangeFactory ef = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
+            CamelInternalPooledTaskFactory pooledTaskFactory = new CamelInternalPooledTaskFactory();
+            pooledTaskFactory.setCapacity(ef.getCapacity());
+            pooledTaskFactory.setStatisticsEnabled(ef.isStatisticsEnabled());
+            pooledTaskFactory.setCamelContext(camelContext);
+            pooledTaskFactory.setType("CamelInternalTask");
+            taskFactory = pooledTaskFactory;
             LOG.trace("Using TaskFactory: {}", taskFactory);
 
             // create empty array we can use for reset
@@ -158,6 +163,18 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         ServiceHelper.buildService(taskFactory, processor);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(taskFactory);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        ServiceHelper.stopService(taskFactory);
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
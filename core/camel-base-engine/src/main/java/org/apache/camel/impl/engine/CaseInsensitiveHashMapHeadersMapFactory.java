@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.support.CaseInsensitiveHashMap;
+
+/**
+ * A {@link HeadersMapFactory} which uses the {@link CaseInsensitiveHashMap} for storing the headers, which is a hash
+ * based case insensitive map that is faster for header lookups than the default
+ * {@link org.apache.camel.util.CaseInsensitiveMap}, and where copying the headers (such as when copying an exchange) is
+ * done using copy-on-write.
+ * <p/>
+ * The headers are iterated in the same order as with the {@link DefaultHeadersMapFactory}.
+ */
+public class CaseInsensitiveHashMapHeadersMapFactory implements HeadersMapFactory {
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CaseInsensitiveHashMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        if (map instanceof CaseInsensitiveHashMap) {
+            return new CaseInsensitiveHashMap((CaseInsensitiveHashMap) map);
+        }
+        return new CaseInsensitiveHashMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CaseInsensitiveHashMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
@@ -18,7 +18,10 @@ package org.apache.camel.impl.engine;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
@@ -26,12 +29,16 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 public class DefaultExchangeFactoryManager extends ServiceSupport implements ExchangeFactoryManager, CamelContextAware {
 
+    private static final String EXCHANGE_TYPE = "Exchange";
+
     private final Map<Consumer, ExchangeFactory> factories = new ConcurrentHashMap<>();
-    private final UtilizationStatistics statistics = new UtilizationStatistics();
+    private final Map<String, Set<PooledObjectFactory<?>>> pooledObjectFactories = new ConcurrentHashMap<>();
+    private final UtilizationStatistics statistics = new UtilizationStatistics(factories.values());
     private CamelContext camelContext;
     private int capacity;
     private boolean statisticsEnabled;
@@ -57,6 +64,19 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         factories.remove(exchangeFactory.getConsumer());
     }
 
+    @Override
+    public void addPooledObjectFactory(String type, PooledObjectFactory<?> factory) {
+        pooledObjectFactories.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(factory);
+    }
+
+    @Override
+    public void removePooledObjectFactory(String type, PooledObjectFactory<?> factory) {
+        Set<PooledObjectFactory<?>> set = pooledObjectFactories.get(type);
+        if (set != null) {
+            set.remove(factory);
+        }
+    }
+
     @Override
     public Collection<ExchangeFactory> getExchangeFactories() {
         return Collections.unmodifiableCollection(factories.values());
@@ -92,16 +112,23 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             ef.setStatisticsEnabled(statisticsEnabled);
         }
+        for (Set<PooledObjectFactory<?>> set : pooledObjectFactories.values()) {
+            for (PooledObjectFactory<?> pf : set) {
+                pf.setStatisticsEnabled(statisticsEnabled);
+            }
+        }
     }
 
     @Override
     public void resetStatistics() {
         factories.values().forEach(ExchangeFactory::resetStatistics);
+        pooledObjectFactories.values().forEach(set -> set.forEach(PooledObjectFactory::resetStatistics));
     }
 
     @Override
     public void purge() {
         factories.values().forEach(ExchangeFactory::purge);
+        pooledObjectFactories.values().forEach(set -> set.forEach(PooledObjectFactory::purge));
     }
 
     @Override
@@ -109,22 +136,56 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return statistics;
     }
 
+    @Override
+    public int getPooledCounter(String type) {
+        if (EXCHANGE_TYPE.equals(type)) {
+            return getPooledCounter();
+        }
+        int counter = 0;
+        Set<PooledObjectFactory<?>> set = pooledObjectFactories.get(type);
+        if (set != null) {
+            for (PooledObjectFactory<?> pf : set) {
+                counter += pf.getSize();
+            }
+        }
+        return counter;
+    }
+
+    @Override
+    public Map<String, PooledObjectFactory.Statistics> getStatisticsPerType() {
+        Map<String, PooledObjectFactory.Statistics> answer = new LinkedHashMap<>();
+        answer.put(EXCHANGE_TYPE, statistics);
+        // sort the other types by name
+        for (Map.Entry<String, Set<PooledObjectFactory<?>>> entry : new TreeMap<>(pooledObjectFactories).entrySet()) {
+            answer.put(entry.getKey(), new UtilizationStatistics(entry.getValue()));
+        }
+        return answer;
+    }
+
     /**
-     * Represents utilization statistics
+     * Represents utilization statistics aggregated from a group of factories
      */
     final class UtilizationStatistics implements ExchangeFactory.Statistics {
 
+        private final Collection<? extends PooledObjectFactory<?>> group;
+
+        UtilizationStatistics(Collection<? extends PooledObjectFactory<?>> group) {
+            this.group = group;
+        }
+
         @Override
         public void reset() {
-            resetStatistics();
+            group.forEach(PooledObjectFactory::resetStatistics);
         }
 
         @Override
         public long getCreatedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getCreatedCounter();
+                for (PooledObjectFactory<?> pf : group) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getCreatedCounter();
+                    }
                 }
             }
             return answer;
@@ -134,8 +195,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getAcquiredCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getAcquiredCounter();
+                for (PooledObjectFactory<?> pf : group) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getAcquiredCounter();
+                    }
                 }
             }
             return answer;
@@ -145,8 +208,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getReleasedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getReleasedCounter();
+                for (PooledObjectFactory<?> pf : group) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getReleasedCounter();
+                    }
                 }
             }
             return answer;
@@ -156,8 +221,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getDiscardedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getDiscardedCounter();
+                for (PooledObjectFactory<?> pf : group) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getDiscardedCounter();
+                    }
                 }
             }
             return answer;
@@ -168,5 +235,6 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
     @Override
     protected void doShutdown() throws Exception {
         factories.clear();
+        pooledObjectFactories.clear();
     }
 }
@@ -22,7 +22,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,58 +39,69 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The inflight exchanges are counted using striped counters (total and per route), and the exchanges themselves are
+ * only tracked when browsing is enabled. When browsing is disabled, then a sample of the inflight exchanges can be
+ * tracked instead (see {@link #setInflightSampleRate(int)}) so the oldest inflight exchange can be detected without
+ * tracking every exchange.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
-    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder size = new LongAdder();
     private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Exchange> sampled = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
+    private int inflightSampleRate;
 
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
 
         if (inflightExchangeEnabled) {
             inflight.put(exchange.getExchangeId(), exchange);
+        } else if (inflightSampleRate > 0 && ThreadLocalRandom.current().nextInt(inflightSampleRate) == 0) {
+            sampled.put(exchange.getExchangeId(), exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
 
         if (inflightExchangeEnabled) {
             inflight.remove(exchange.getExchangeId());
+        } else if (inflightSampleRate > 0) {
+            sampled.remove(exchange.getExchangeId());
         }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     @Override
     public int size() {
-        return size.get();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -99,8 +111,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -111,6 +123,26 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     @Override
     public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
         this.inflightExchangeEnabled = inflightBrowseEnabled;
+        if (inflightBrowseEnabled) {
+            sampled.clear();
+        }
+    }
+
+    public int getInflightSampleRate() {
+        return inflightSampleRate;
+    }
+
+    /**
+     * Sets the rate (one out of N exchanges) to sample inflight exchanges when browsing is disabled. The sampled
+     * exchanges are used by {@link #oldest(String)} to detect slow exchanges without tracking every inflight exchange.
+     * <p/>
+     * The default value is 0 which means sampling is disabled.
+     */
+    public void setInflightSampleRate(int inflightSampleRate) {
+        this.inflightSampleRate = inflightSampleRate;
+        if (inflightSampleRate <= 0) {
+            sampled.clear();
+        }
     }
 
     @Override
@@ -167,29 +199,25 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public InflightExchange oldest(String fromRouteId) {
-        if (!inflightExchangeEnabled) {
+        Collection<Exchange> values;
+        if (inflightExchangeEnabled) {
+            values = inflight.values();
+        } else if (inflightSampleRate > 0) {
+            values = sampled.values();
+        } else {
             return null;
         }
 
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+        // the oldest is the exchange created first, so there is no need to sort
+        Exchange first = null;
+        for (Exchange exchange : values) {
+            if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                if (first == null || exchange.getCreated() < first.getCreated()) {
+                    first = exchange;
+                }
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
         if (first != null) {
             return new InflightExchangeEntry(first);
         } else {
@@ -206,6 +234,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             LOG.debug("Shutting down with no inflight exchanges.");
         }
         routeCount.clear();
+        sampled.clear();
     }
 
     private static long getExchangeDuration(Exchange exchange) {
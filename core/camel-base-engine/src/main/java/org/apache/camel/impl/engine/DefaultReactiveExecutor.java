@@ -79,6 +79,13 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         return workers.get().executeFromQueue();
     }
 
+    /**
+     * Whether the current thread is running reactive work (ie the worker of this thread is in its run loop)
+     */
+    boolean isRunning() {
+        return workers.get().running;
+    }
+
     @Override
     @ManagedAttribute(description = "Whether statistics is enabled")
     public boolean isStatisticsEnabled() {
@@ -19,14 +19,19 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -40,6 +45,9 @@ import org.slf4j.LoggerFactory;
  */
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
+    // size of the direct byte buffers allocated for off-heap spooling
+    static final int OFF_HEAP_BUFFER_SIZE = 256 * 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
     private CamelContext camelContext;
@@ -52,6 +60,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private boolean spoolOffHeap;
+    private long spoolOffHeapMemoryLimit = DEFAULT_SPOOL_OFF_HEAP_MEMORY_LIMIT;
+    // pool of released off-heap buffers, and the total number of bytes allocated (pooled + in use)
+    private final Queue<ByteBuffer> offHeapBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapMemoryAllocated = new AtomicLong();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -151,6 +164,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return spoolOffHeap;
+    }
+
+    @Override
+    public void setSpoolOffHeap(boolean spoolOffHeap) {
+        this.spoolOffHeap = spoolOffHeap;
+    }
+
+    @Override
+    public long getSpoolOffHeapMemoryLimit() {
+        return spoolOffHeapMemoryLimit;
+    }
+
+    @Override
+    public void setSpoolOffHeapMemoryLimit(long spoolOffHeapMemoryLimit) {
+        this.spoolOffHeapMemoryLimit = spoolOffHeapMemoryLimit;
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -211,7 +244,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof OffHeapInputStreamCache) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
@@ -224,6 +259,32 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         return cache;
     }
 
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        ByteBuffer buffer = offHeapBuffers.poll();
+        if (buffer == null) {
+            // reserve the memory before allocating a new buffer so we do not exceed the limit
+            long allocated;
+            do {
+                allocated = offHeapMemoryAllocated.get();
+                if (allocated + OFF_HEAP_BUFFER_SIZE > spoolOffHeapMemoryLimit) {
+                    LOG.trace("Off-heap memory limit {} reached", spoolOffHeapMemoryLimit);
+                    return null;
+                }
+            } while (!offHeapMemoryAllocated.compareAndSet(allocated, allocated + OFF_HEAP_BUFFER_SIZE));
+            buffer = ByteBuffer.allocateDirect(OFF_HEAP_BUFFER_SIZE);
+        }
+        statistics.offHeapMemoryUsed.addAndGet(buffer.capacity());
+        return buffer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        statistics.offHeapMemoryUsed.addAndGet(-buffer.capacity());
+        buffer.clear();
+        offHeapBuffers.offer(buffer);
+    }
+
     protected String resolveSpoolDirectory(String path) {
         if (camelContext.getManagementNameStrategy() != null) {
             String name = camelContext.getManagementNameStrategy().resolveManagementName(path, camelContext.getName(), false);
@@ -273,6 +334,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
         }
 
+        if (spoolOffHeap && spoolOffHeapMemoryLimit < 0) {
+            throw new IllegalArgumentException(
+                    "SpoolOffHeapMemoryLimit must not be negative, was: " + spoolOffHeapMemoryLimit);
+        }
+
         // if we can overflow to disk then make sure directory exists / is created
         if (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0) {
 
@@ -343,6 +409,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // off-heap buffers still in use are released (and pooled again) when their exchanges are done
+        offHeapMemoryAllocated.addAndGet(-(long) offHeapBuffers.size() * OFF_HEAP_BUFFER_SIZE);
+        offHeapBuffers.clear();
     }
 
     @Override
@@ -352,6 +422,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", spoolOffHeap=" + spoolOffHeap
+               + ", spoolOffHeapMemoryLimit=" + spoolOffHeapMemoryLimit
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -431,6 +503,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
+        private final AtomicLong offHeapMemoryUsed = new AtomicLong();
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -444,6 +520,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -474,6 +556,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
+        @Override
+        public long getOffHeapMemoryUsed() {
+            return offHeapMemoryUsed.get();
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -482,6 +584,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
         }
 
         @Override
@@ -497,8 +602,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                                 + " offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s, offHeapMemoryUsed=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize, offHeapMemoryUsed.get());
         }
     }
 
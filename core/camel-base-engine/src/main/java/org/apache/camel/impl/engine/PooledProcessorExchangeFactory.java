@@ -54,6 +54,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         answer.setStatisticsEnabled(statisticsEnabled);
         answer.setCapacity(capacity);
         answer.setCamelContext(camelContext);
+        answer.setType("ProcessorExchange");
         return answer;
     }
 
@@ -112,6 +113,12 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         return answer;
     }
 
+    @Override
+    public Exchange createCorrelatedCopyOnWrite(Exchange exchange, boolean handover) {
+        // the pooled exchanges reuse their headers and properties, so they are copied instead of shared
+        return createCorrelatedCopy(exchange, handover);
+    }
+
     @Override
     public Exchange create(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
         Exchange answer = pool.poll();
@@ -77,6 +77,7 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
         answer.setStatisticsEnabled(statisticsEnabled);
         answer.setCapacity(capacity);
         answer.setCamelContext(camelContext);
+        answer.setType("ProcessorExchange");
         return answer;
     }
 
@@ -90,6 +91,11 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
         return ExchangeHelper.createCorrelatedCopy(exchange, handover);
     }
 
+    @Override
+    public Exchange createCorrelatedCopyOnWrite(Exchange exchange, boolean handover) {
+        return ExchangeHelper.createCorrelatedCopyOnWrite(exchange, handover);
+    }
+
     @Override
     public Exchange create(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
         return new DefaultExchange(fromEndpoint, exchangePattern);
@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which distributes continuations across a fixed pool of carrier threads using bounded
+ * work-stealing.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} always runs the scheduled work on the thread that scheduled it. When routes use
+ * asynchronous producers then the callbacks are scheduled from the I/O threads of the producer, which means that the
+ * remainder of the routing is executed on these few I/O threads. This executor instead hands over work scheduled from
+ * threads that are not already running reactive work to its carrier threads. Each carrier thread has its own bounded
+ * queue, and idle carriers steal work (in bounded batches) from the other carriers.
+ * <p/>
+ * Same-thread affinity is kept where required: {@link #scheduleMain(Runnable)}, {@link #scheduleSync(Runnable)},
+ * {@link #scheduleQueue(Runnable)} and {@link #executeFromQueue()} always run on the current thread (as the
+ * {@link DefaultReactiveExecutor} does), and work scheduled while the current thread is already running reactive work
+ * stays on the current thread. If all the carrier queues are full then the work is run by the calling thread.
+ * <p/>
+ * Processors should not block carrier threads for a long time, as the carriers are shared by all the routes.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final DefaultReactiveExecutor local = new DefaultReactiveExecutor();
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder callerRunsTasks = new LongAdder();
+    private final LongAdder steals = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+    private CamelContext camelContext;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueSize = 1024;
+    private int maxStealSize = 32;
+    private long idleTimeout = 100;
+    private volatile Carrier[] carriers;
+    private volatile boolean running;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of carrier threads")
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Number of carrier threads. Is default the number of available processors.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @ManagedAttribute(description = "Maximum number of pending tasks per carrier thread")
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Maximum number of pending tasks per carrier thread. When all the carrier queues are full then the task is
+     * executed by the calling thread. Is default 1024.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks stolen from another carrier in one steal")
+    public int getMaxStealSize() {
+        return maxStealSize;
+    }
+
+    /**
+     * Maximum number of tasks an idle carrier steals from another carrier in one steal. At most half of the pending
+     * tasks of the other carrier are stolen. Is default 32.
+     */
+    public void setMaxStealSize(int maxStealSize) {
+        this.maxStealSize = maxStealSize;
+    }
+
+    @ManagedAttribute(description = "Millis an idle carrier parks before looking for work to steal")
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Millis an idle carrier parks before looking again for work to steal. Idle carriers are woken up when new work is
+     * submitted, so this is only a safety net. Is default 100.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        if (local.isRunning()) {
+            // the current thread is already running reactive work so keep it on this thread
+            local.schedule(runnable);
+            return;
+        }
+        if (!submit(runnable)) {
+            // not started or all carriers are busy, so run on the calling thread
+            if (statisticsEnabled()) {
+                callerRunsTasks.increment();
+            }
+            local.schedule(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        local.scheduleMain(runnable);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        local.scheduleSync(runnable);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        local.scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return local.executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return local.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        local.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedAttribute(description = "Number of tasks pending in the carrier queues")
+    public int getQueueDepth() {
+        Carrier[] arr = carriers;
+        int answer = 0;
+        if (arr != null) {
+            for (Carrier carrier : arr) {
+                answer += carrier.queue.size();
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of idle carrier threads")
+    public int getIdleCarriers() {
+        Carrier[] arr = carriers;
+        int answer = 0;
+        if (arr != null) {
+            for (Carrier carrier : arr) {
+                if (carrier.parked.get()) {
+                    answer++;
+                }
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks submitted to the carrier threads")
+    public long getSubmittedTasks() {
+        return submittedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks executed by the carrier threads")
+    public long getExecutedTasks() {
+        return executedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks executed by the calling thread because the carrier queues was full")
+    public long getCallerRunsTasks() {
+        return callerRunsTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of times a carrier stole tasks from another carrier")
+    public long getSteals() {
+        return steals.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from another carrier")
+    public long getStolenTasks() {
+        return stolenTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return local.getCreatedWorkers();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return local.getRunningWorkers();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return local.getPendingTasks();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("PoolSize must be positive, was: " + poolSize);
+        }
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("QueueSize must be positive, was: " + queueSize);
+        }
+        if (maxStealSize <= 0) {
+            throw new IllegalArgumentException("MaxStealSize must be positive, was: " + maxStealSize);
+        }
+        running = true;
+        Carrier[] arr = new Carrier[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            arr[i] = new Carrier(i + 1);
+        }
+        for (Carrier carrier : arr) {
+            String name = "ReactiveCarrier #" + carrier.number;
+            carrier.thread = camelContext != null
+                    ? camelContext.getExecutorServiceManager().newThread(name, carrier)
+                    : new Thread(carrier, "Camel " + name);
+            carrier.thread.setDaemon(true);
+        }
+        carriers = arr;
+        for (Carrier carrier : arr) {
+            carrier.thread.start();
+        }
+        LOG.debug("Started {} reactive carrier threads", poolSize);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Carrier[] arr = carriers;
+        if (arr != null) {
+            for (Carrier carrier : arr) {
+                LockSupport.unpark(carrier.thread);
+            }
+            // the carriers complete their pending work before terminating
+            for (Carrier carrier : arr) {
+                if (carrier.thread != Thread.currentThread()) {
+                    carrier.thread.join(TimeUnit.SECONDS.toMillis(10));
+                }
+            }
+        }
+        carriers = null;
+        if (LOG.isDebugEnabled() && isStatisticsEnabled()) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [submittedTasks: {}, executedTasks: {}, callerRunsTasks: {}, steals: {}, stolenTasks: {}]",
+                    getSubmittedTasks(), getExecutedTasks(), getCallerRunsTasks(), getSteals(), getStolenTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        local.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor[poolSize=" + poolSize + ", queueSize=" + queueSize + "]";
+    }
+
+    private boolean statisticsEnabled() {
+        return local.isStatisticsEnabled();
+    }
+
+    private void submitted() {
+        if (statisticsEnabled()) {
+            submittedTasks.increment();
+        }
+    }
+
+    private boolean submit(Runnable runnable) {
+        Carrier[] arr = carriers;
+        if (!running || arr == null) {
+            return false;
+        }
+        int len = arr.length;
+        int start = ThreadLocalRandom.current().nextInt(len);
+        for (int i = 0; i < len; i++) {
+            Carrier carrier = arr[(start + i) % len];
+            if (carrier.queue.offerLast(runnable)) {
+                submitted();
+                if (carrier.parked.compareAndSet(true, false)) {
+                    LockSupport.unpark(carrier.thread);
+                } else {
+                    // wake up an idle carrier so it can steal the work
+                    signalIdle(arr, start);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void signalIdle(Carrier[] arr, int start) {
+        int len = arr.length;
+        for (int i = 1; i < len; i++) {
+            Carrier carrier = arr[(start + i) % len];
+            if (carrier.parked.compareAndSet(true, false)) {
+                LockSupport.unpark(carrier.thread);
+                return;
+            }
+        }
+    }
+
+    private final class Carrier implements Runnable {
+
+        private final int number;
+        private final BlockingDeque<Runnable> queue;
+        private final AtomicBoolean parked = new AtomicBoolean();
+        private Thread thread;
+
+        Carrier(int number) {
+            this.number = number;
+            this.queue = new LinkedBlockingDeque<>(queueSize);
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                Runnable task = queue.pollFirst();
+                if (task == null) {
+                    task = steal();
+                }
+                if (task != null) {
+                    execute(task);
+                } else if (!running) {
+                    break;
+                } else {
+                    park();
+                }
+            }
+        }
+
+        private void execute(Runnable task) {
+            if (statisticsEnabled()) {
+                executedTasks.increment();
+            }
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Carrier #{} running: {}", number, task);
+            }
+            // run using the local executor so work scheduled by the task stays on this carrier
+            local.scheduleSync(task);
+        }
+
+        private Runnable steal() {
+            Carrier[] arr = carriers;
+            if (arr == null || arr.length < 2) {
+                return null;
+            }
+            int len = arr.length;
+            int start = ThreadLocalRandom.current().nextInt(len);
+            for (int i = 0; i < len; i++) {
+                Carrier victim = arr[(start + i) % len];
+                if (victim == this) {
+                    continue;
+                }
+                int size = victim.queue.size();
+                if (size == 0) {
+                    continue;
+                }
+                // steal at most half of the pending work (and not more than the max steal size)
+                int count = Math.min(maxStealSize, Math.max(1, size / 2));
+                List<Runnable> stolen = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    Runnable task = victim.queue.pollLast();
+                    if (task == null) {
+                        break;
+                    }
+                    stolen.add(task);
+                }
+                if (stolen.isEmpty()) {
+                    continue;
+                }
+                if (statisticsEnabled()) {
+                    steals.increment();
+                    stolenTasks.add(stolen.size());
+                }
+                // run the first and keep the rest in our own queue (the stolen tasks fits as our queue is empty)
+                for (int j = stolen.size() - 1; j > 0; j--) {
+                    if (!queue.offerFirst(stolen.get(j))) {
+                        execute(stolen.get(j));
+                    }
+                }
+                return stolen.get(0);
+            }
+            return null;
+        }
+
+        private void park() {
+            parked.set(true);
+            // check again to avoid missing work submitted before we became idle
+            if (queue.isEmpty() && running) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(idleTimeout));
+            }
+            parked.set(false);
+        }
+    }
+
+}
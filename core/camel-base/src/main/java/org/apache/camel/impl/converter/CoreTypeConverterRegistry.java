@@ -55,6 +55,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
     };
 
+    // marker for a pair of types with no type converter, so conversion must be attempted by the fallback converters
+    protected static final TypeConverter NO_CONVERTER = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return null;
+        }
+    };
+
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     // built-in core type converters that are bulked together in a few classes for optimal performance
@@ -65,6 +73,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
+    // the type converters resolved for the pairs of types that has been converted (including when none was found)
+    protected final DoubleMap<Class<?>, Class<?>, TypeConverter> resolvedConverters = new DoubleMap<>(16);
 
     protected final Statistics statistics = new UtilizationStatistics();
     protected final LongAdder noopCounter = new LongAdder();
@@ -72,6 +82,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder cacheHitCounter = new LongAdder();
+    protected final LongAdder cacheMissCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Ignore;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.DEBUG;
@@ -447,59 +459,104 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
-        // attempt bulk first which is the fastest
-        for (BulkTypeConverters bulk : bulkTypeConverters) {
-            if (trace) {
-                LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), value.getClass(),
-                        type);
+        // use the type converter resolved when these types was converted before
+        final Class<?> fromType = value.getClass();
+        TypeConverter resolved = resolvedConverters.get(type, fromType);
+        boolean resolvedFailed = false;
+        if (resolved != null) {
+            if (statisticsEnabled) {
+                cacheHitCounter.increment();
             }
-            Object rc;
-
-            rc = bulk.convertTo(value.getClass(), type, exchange, value);
-
-            if (rc != null) {
-                return rc;
+            if (resolved != NO_CONVERTER && resolved != MISS_CONVERTER) {
+                if (trace) {
+                    LOG.trace("Using resolved converter: {} to convert [{}=>{}]", resolved, fromType, type);
+                }
+                Object rc;
+                if (resolved instanceof BulkTypeConverters) {
+                    rc = ((BulkTypeConverters) resolved).convertTo(fromType, type, exchange, value);
+                } else if (tryConvert) {
+                    rc = resolved.tryConvertTo(type, exchange, value);
+                } else {
+                    rc = resolved.convertTo(type, exchange, value);
+                }
+                if (rc != null) {
+                    return rc;
+                } else if (resolved.allowNull()) {
+                    return null;
+                }
+                // the resolved converter could not convert this value, and as it was found by looking up the
+                // converters before, then only the fallback converters are left to try
+                resolvedFailed = true;
             }
+        } else if (statisticsEnabled) {
+            cacheMissCounter.increment();
         }
 
-        // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
-        if (converter != null) {
-            if (trace) {
-                LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
-            }
-            Object rc;
-            if (tryConvert) {
-                rc = converter.tryConvertTo(type, exchange, value);
-            } else {
-                rc = converter.convertTo(type, exchange, value);
-            }
-            if (rc != null) {
-                return rc;
-            } else if (converter.allowNull()) {
-                return null;
+        if (!resolvedFailed) {
+            // attempt bulk first which is the fastest
+            // (also when no type converter was resolved, as the bulk converters can convert sub types of their from types)
+            for (BulkTypeConverters bulk : bulkTypeConverters) {
+                if (trace) {
+                    LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), fromType,
+                            type);
+                }
+                Object rc;
+
+                rc = bulk.convertTo(fromType, type, exchange, value);
+
+                if (rc != null) {
+                    resolvedConverters.put(type, fromType, bulk);
+                    return rc;
+                }
             }
-        }
 
-        // not found with that type then if it was a primitive type then try again with the wrapper type
-        if (type.isPrimitive()) {
-            Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
-            if (primitiveType != type) {
-                Class<?> fromType = value.getClass();
-                TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
-                if (tc != null) {
-                    // add the type as a known type converter as we can convert from primitive to object converter
-                    addTypeConverter(type, fromType, tc);
+            if (resolved == MISS_CONVERTER) {
+                // we have previously attempted to convert but missed
+                return TypeConverter.MISS_VALUE;
+            } else if (resolved == null) {
+                // try to find a suitable type converter
+                TypeConverter converter = getOrFindTypeConverter(type, fromType);
+                if (converter != null) {
+                    resolvedConverters.put(type, fromType, converter);
+                    if (trace) {
+                        LOG.trace("Using converter: {} to convert [{}=>{}]", converter, fromType, type);
+                    }
                     Object rc;
                     if (tryConvert) {
-                        rc = tc.tryConvertTo(primitiveType, exchange, value);
+                        rc = converter.tryConvertTo(type, exchange, value);
                     } else {
-                        rc = tc.convertTo(primitiveType, exchange, value);
+                        rc = converter.convertTo(type, exchange, value);
                     }
-                    if (rc == null && tc.allowNull()) {
-                        return null;
-                    } else if (rc != null) {
+                    if (rc != null) {
                         return rc;
+                    } else if (converter.allowNull()) {
+                        return null;
+                    }
+                } else {
+                    // remember there is no type converter so we can skip looking for it next time
+                    resolvedConverters.put(type, fromType, NO_CONVERTER);
+                }
+            }
+
+            // not found with that type then if it was a primitive type then try again with the wrapper type
+            if (type.isPrimitive()) {
+                Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
+                if (primitiveType != type) {
+                    TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
+                    if (tc != null) {
+                        // add the type as a known type converter as we can convert from primitive to object converter
+                        addTypeConverter(type, fromType, tc);
+                        Object rc;
+                        if (tryConvert) {
+                            rc = tc.tryConvertTo(primitiveType, exchange, value);
+                        } else {
+                            rc = tc.convertTo(primitiveType, exchange, value);
+                        }
+                        if (rc == null && tc.allowNull()) {
+                            return null;
+                        } else if (rc != null) {
+                            return rc;
+                        }
                     }
                 }
             }
@@ -550,6 +607,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            resolvedConverters.put(type, value.getClass(), MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -560,6 +618,20 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         return typeMappings.get(toType, fromType);
     }
 
+    @Override
+    public TypeConverter resolveTypeConverter(Class<?> toType, Class<?> fromType) {
+        TypeConverter converter = resolvedConverters.get(toType, fromType);
+        if (converter == null) {
+            converter = getOrFindTypeConverter(toType, fromType);
+            // only remember found converters as the bulk converters may be able to convert sub types
+            // which are not found by the lookup
+            if (converter != null) {
+                resolvedConverters.put(toType, fromType, converter);
+            }
+        }
+        return converter == NO_CONVERTER || converter == MISS_CONVERTER ? null : converter;
+    }
+
     @Override
     public void addBulkTypeConverters(BulkTypeConverters bulkTypeConverters) {
         // guard against adding duplicates
@@ -571,6 +643,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            resolvedConverters.clear();
         }
     }
 
@@ -581,6 +654,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed so add this converter
             typeMappings.put(toType, fromType, typeConverter);
+            resolvedConverters.clear();
             return;
         }
 
@@ -608,13 +682,17 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // the type converters must be resolved again
+                resolvedConverters.clear();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        resolvedConverters.clear();
+        return answer;
     }
 
     @Override
@@ -628,6 +706,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        resolvedConverters.clear();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -762,11 +841,12 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                     misses.incrementAndGet();
                 }
             });
-            info += String.format(" mappings[total=%s, misses=%s]", size(), misses);
+            info += String.format(" mappings[total=%s, misses=%s, resolved=%s]", size(), misses, resolvedConverters.size());
             LOG.info(info);
         }
 
         typeMappings.clear();
+        resolvedConverters.clear();
         statistics.reset();
     }
 
@@ -802,6 +882,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getCacheHitCounter() {
+            return cacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getCacheMissCounter() {
+            return cacheMissCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -809,6 +899,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            cacheHitCounter.reset();
+            cacheMissCounter.reset();
         }
 
         @Override
@@ -823,8 +915,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, cacheHits=%s, cacheMisses=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getCacheHitCounter(), getCacheMissCounter());
         }
     }
 
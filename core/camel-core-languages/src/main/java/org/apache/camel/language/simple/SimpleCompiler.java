@@ -0,0 +1,586 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a parsed simple expression directly into bytecode, without generating and compiling Java source code.
+ * <p/>
+ * The expression is compiled into a hidden class which evaluates literal text and the most common functions
+ * (<tt>body</tt>, <tt>header.name</tt>, <tt>exchangeProperty.name</tt>, <tt>exchangeId</tt> and <tt>id</tt>) inline.
+ * Any other function is evaluated by the interpreted {@link Expression} which the parser created, which the compiled
+ * class calls directly. The compiled code has no branches, so each call site in the compiled class only ever sees a
+ * single type of expression.
+ */
+public final class SimpleCompiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleCompiler.class);
+
+    private static final Pattern NAME = Pattern.compile("[\\w\\-]+");
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final Method DEFINE_HIDDEN_CLASS;
+    private static final Object NO_CLASS_OPTIONS;
+
+    private static final String PACKAGE = "org/apache/camel/language/simple/";
+    private static final String EXPRESSION = "org/apache/camel/Expression";
+    private static final String EXCHANGE = "org/apache/camel/Exchange";
+    private static final String MESSAGE = "org/apache/camel/Message";
+    private static final String COMPILER = PACKAGE + "SimpleCompiler";
+    private static final String STRING_BUILDER = "java/lang/StringBuilder";
+
+    private static final String DESC_EXPRESSION = "L" + EXPRESSION + ";";
+    private static final String DESC_EXCHANGE = "L" + EXCHANGE + ";";
+    private static final String DESC_STRING_BUILDER = "L" + STRING_BUILDER + ";";
+
+    // opcodes
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int AALOAD = 0x32;
+    private static final int ASTORE_3 = 0x4e;
+    private static final int POP = 0x57;
+    private static final int DUP = 0x59;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int NEW = 0xbb;
+    private static final int CHECKCAST = 0xc0;
+
+    // constant pool tags
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    // access flags
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    static {
+        Method method = null;
+        Object options = null;
+        try {
+            Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            options = Array.newInstance(option, 0);
+            method = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class,
+                    options.getClass());
+        } catch (Exception e) {
+            // hidden classes requires JDK 15 or newer, otherwise the expressions are interpreted
+        }
+        DEFINE_HIDDEN_CLASS = method;
+        NO_CLASS_OPTIONS = options;
+    }
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the nodes of a parsed simple expression.
+     *
+     * @param  text        the simple expression
+     * @param  nodes       the parsed nodes
+     * @param  expressions the interpreted expression of each node (<tt>null</tt> if the node has no expression)
+     * @return             the compiled expression, or <tt>null</tt> if the expression would not benefit from being
+     *                     compiled, or cannot be compiled (such as on JDK 14 or older which has no hidden classes)
+     */
+    public static Expression compile(String text, List<SimpleNode> nodes, List<Expression> expressions) {
+        if (DEFINE_HIDDEN_CLASS == null) {
+            // a class which is not hidden is never unloaded, which would leak a class per expression
+            return null;
+        }
+
+        List<Part> parts = new ArrayList<>();
+        List<Expression> interpreted = new ArrayList<>();
+        boolean inline = false;
+        for (int i = 0; i < nodes.size(); i++) {
+            Expression exp = expressions.get(i);
+            if (exp == null) {
+                continue;
+            }
+            Part part = createPart(nodes.get(i));
+            if (part == null) {
+                part = new Part(Part.INTERPRETED, null, interpreted.size());
+                interpreted.add(exp);
+            } else {
+                inline |= part.kind != Part.LITERAL;
+            }
+            parts.add(part);
+        }
+        // only compile if some functions can be inlined, otherwise the interpreted expression is just as fast
+        if (!inline) {
+            return null;
+        }
+
+        try {
+            String name = PACKAGE + "SimpleCompiledExpression" + COUNTER.incrementAndGet();
+            byte[] bytes = generate(name, parts, interpreted.size());
+            Class<?> clazz = defineClass(bytes);
+            Expression answer = (Expression) clazz.getConstructor(Expression[].class, String.class)
+                    .newInstance(interpreted.toArray(new Expression[0]), text);
+            LOG.trace("Compiled simple expression: {} as {}", text, clazz.getName());
+            return answer;
+        } catch (Throwable e) {
+            LOG.debug("Cannot compile simple expression: {} due {}. The expression is interpreted.", text, e.getMessage(),
+                    e);
+            return null;
+        }
+    }
+
+    // Methods called by the compiled expressions
+    // -------------------------------------------------------------------------
+
+    /**
+     * Initializes the interpreted expressions
+     */
+    static void init(Expression[] expressions, CamelContext context) {
+        for (Expression expression : expressions) {
+            expression.init(context);
+        }
+    }
+
+    /**
+     * The header with the given name, or the exchange property if there is no such header
+     */
+    static Object header(Exchange exchange, String name) {
+        Object answer = exchange.getIn().getHeader(name);
+        if (answer == null) {
+            answer = exchange.getProperty(name);
+        }
+        return answer;
+    }
+
+    /**
+     * Appends the value converted to a String (if not null)
+     */
+    static void append(StringBuilder sb, Object value, Exchange exchange) {
+        if (value != null) {
+            String text = value instanceof String
+                    ? (String) value : exchange.getContext().getTypeConverter().convertTo(String.class, exchange, value);
+            if (text != null) {
+                sb.append(text);
+            }
+        }
+    }
+
+    /**
+     * Appends the text (if not null)
+     */
+    static void appendText(StringBuilder sb, String text) {
+        if (text != null) {
+            sb.append(text);
+        }
+    }
+
+    /**
+     * Converts the result of the expression to the given type
+     */
+    static Object convert(Object value, Exchange exchange, Class<?> type) {
+        if (type == Object.class || type == null) {
+            return value;
+        }
+        return exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private static Part createPart(SimpleNode node) {
+        if (node instanceof LiteralExpression) {
+            return new Part(Part.LITERAL, ((LiteralExpression) node).getText(), -1);
+        }
+        if (!(node instanceof SimpleFunctionStart)) {
+            return null;
+        }
+        List<SimpleNode> children = ((SimpleFunctionStart) node).getBlock().getChildren();
+        if (children.size() != 1 || !(children.get(0) instanceof LiteralNode)) {
+            return null;
+        }
+        String function = ((LiteralNode) children.get(0)).getText();
+        if ("body".equals(function) || "in.body".equals(function)) {
+            return new Part(Part.BODY, null, -1);
+        } else if ("exchangeId".equals(function)) {
+            return new Part(Part.EXCHANGE_ID, null, -1);
+        } else if ("id".equals(function)) {
+            return new Part(Part.MESSAGE_ID, null, -1);
+        }
+        for (String prefix : new String[] { "in.headers.", "in.header.", "headers.", "header." }) {
+            if (function.startsWith(prefix)) {
+                String key = function.substring(prefix.length());
+                return NAME.matcher(key).matches() ? new Part(Part.HEADER, key, -1) : null;
+            }
+        }
+        if (function.startsWith("exchangeProperty.")) {
+            String key = function.substring("exchangeProperty.".length());
+            return NAME.matcher(key).matches() ? new Part(Part.PROPERTY, key, -1) : null;
+        }
+        return null;
+    }
+
+    private static Class<?> defineClass(byte[] bytes) throws Exception {
+        // hidden classes can be unloaded when the expression is no longer in use, and are in the same package as this
+        // class, so the compiled expressions can call the package-private methods
+        MethodHandles.Lookup hidden = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(MethodHandles.lookup(), bytes, false,
+                NO_CLASS_OPTIONS);
+        return hidden.lookupClass();
+    }
+
+    private static byte[] generate(String name, List<Part> parts, int fields) throws IOException {
+        ClassFile cf = new ClassFile(name);
+
+        // constructor which sets the fields from the array of interpreted expressions
+        Code init = cf.code();
+        init.aload(0).invoke(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+        init.aload(0).aload(1).field(PUTFIELD, name, "expressions", "[" + DESC_EXPRESSION);
+        init.aload(0).aload(2).field(PUTFIELD, name, "text", "Ljava/lang/String;");
+        for (int i = 0; i < fields; i++) {
+            init.aload(0).aload(1).push(i).op(AALOAD).field(PUTFIELD, name, "e" + i, DESC_EXPRESSION);
+        }
+        init.op(RETURN);
+
+        // evaluate method which is straight-line code
+        Code eval = cf.code();
+        if (parts.size() == 1) {
+            pushValue(eval, name, parts.get(0));
+        } else {
+            eval.type(NEW, STRING_BUILDER).op(DUP).invoke(INVOKESPECIAL, STRING_BUILDER, "<init>", "()V").op(ASTORE_3);
+            for (Part part : parts) {
+                if (part.kind == Part.LITERAL) {
+                    eval.aload(3).ldc(cf.string(part.text)).invoke(INVOKEVIRTUAL, STRING_BUILDER, "append",
+                            "(Ljava/lang/String;)" + DESC_STRING_BUILDER).op(POP);
+                } else if (part.kind == Part.INTERPRETED) {
+                    eval.aload(3).aload(0).field(GETFIELD, name, "e" + part.index, DESC_EXPRESSION)
+                            .aload(1).ldc(cf.type("java/lang/String"))
+                            .invokeInterface(EXPRESSION, "evaluate",
+                                    "(" + DESC_EXCHANGE + "Ljava/lang/Class;)Ljava/lang/Object;", 3)
+                            .type(CHECKCAST, "java/lang/String")
+                            .invoke(INVOKESTATIC, COMPILER, "appendText", "(" + DESC_STRING_BUILDER + "Ljava/lang/String;)V");
+                } else {
+                    eval.aload(3);
+                    pushValue(eval, name, part);
+                    eval.aload(1).invoke(INVOKESTATIC, COMPILER, "append",
+                            "(" + DESC_STRING_BUILDER + "Ljava/lang/Object;" + DESC_EXCHANGE + ")V");
+                }
+            }
+            eval.aload(3).invoke(INVOKEVIRTUAL, STRING_BUILDER, "toString", "()Ljava/lang/String;");
+        }
+        eval.aload(1).aload(2).invoke(INVOKESTATIC, COMPILER, "convert",
+                "(Ljava/lang/Object;" + DESC_EXCHANGE + "Ljava/lang/Class;)Ljava/lang/Object;").op(ARETURN);
+
+        // init method which initializes the interpreted expressions
+        Code initExp = cf.code();
+        initExp.aload(0).field(GETFIELD, name, "expressions", "[" + DESC_EXPRESSION).aload(1)
+                .invoke(INVOKESTATIC, COMPILER, "init", "([" + DESC_EXPRESSION + "Lorg/apache/camel/CamelContext;)V")
+                .op(RETURN);
+
+        Code toString = cf.code();
+        toString.aload(0).field(GETFIELD, name, "text", "Ljava/lang/String;").op(ARETURN);
+
+        cf.field("expressions", "[" + DESC_EXPRESSION);
+        cf.field("text", "Ljava/lang/String;");
+        for (int i = 0; i < fields; i++) {
+            cf.field("e" + i, DESC_EXPRESSION);
+        }
+        cf.method("<init>", "([" + DESC_EXPRESSION + "Ljava/lang/String;)V", init, 3);
+        cf.method("evaluate", "(" + DESC_EXCHANGE + "Ljava/lang/Class;)Ljava/lang/Object;", eval, 4);
+        cf.method("init", "(Lorg/apache/camel/CamelContext;)V", initExp, 2);
+        cf.method("toString", "()Ljava/lang/String;", toString, 1);
+        return cf.toByteArray();
+    }
+
+    private static void pushValue(Code code, String name, Part part) {
+        switch (part.kind) {
+            case Part.LITERAL:
+                code.ldc(code.cf.string(part.text));
+                break;
+            case Part.BODY:
+                code.aload(1).invokeInterface(EXCHANGE, "getIn", "()L" + MESSAGE + ";", 1)
+                        .invokeInterface(MESSAGE, "getBody", "()Ljava/lang/Object;", 1);
+                break;
+            case Part.MESSAGE_ID:
+                code.aload(1).invokeInterface(EXCHANGE, "getIn", "()L" + MESSAGE + ";", 1)
+                        .invokeInterface(MESSAGE, "getMessageId", "()Ljava/lang/String;", 1);
+                break;
+            case Part.EXCHANGE_ID:
+                code.aload(1).invokeInterface(EXCHANGE, "getExchangeId", "()Ljava/lang/String;", 1);
+                break;
+            case Part.HEADER:
+                code.aload(1).ldc(code.cf.string(part.text))
+                        .invoke(INVOKESTATIC, COMPILER, "header",
+                                "(" + DESC_EXCHANGE + "Ljava/lang/String;)Ljava/lang/Object;");
+                break;
+            case Part.PROPERTY:
+                code.aload(1).ldc(code.cf.string(part.text))
+                        .invokeInterface(EXCHANGE, "getProperty", "(Ljava/lang/String;)Ljava/lang/Object;", 2);
+                break;
+            default:
+                code.aload(0).field(GETFIELD, name, "e" + part.index, DESC_EXPRESSION)
+                        .aload(1).ldc(code.cf.type("java/lang/Object"))
+                        .invokeInterface(EXPRESSION, "evaluate", "(" + DESC_EXCHANGE + "Ljava/lang/Class;)Ljava/lang/Object;",
+                                3);
+                break;
+        }
+    }
+
+    private static final class Part {
+        private static final int LITERAL = 0;
+        private static final int INTERPRETED = 1;
+        private static final int BODY = 2;
+        private static final int HEADER = 3;
+        private static final int PROPERTY = 4;
+        private static final int EXCHANGE_ID = 5;
+        private static final int MESSAGE_ID = 6;
+
+        private final int kind;
+        private final String text;
+        private final int index;
+
+        private Part(int kind, String text, int index) {
+            this.kind = kind;
+            this.text = text;
+            this.index = index;
+        }
+    }
+
+    /**
+     * A minimal class file writer for a final class implementing {@link Expression}, with methods without branches (so
+     * no stack map frames are needed).
+     */
+    private static final class ClassFile {
+        private static final int MAX_STACK = 8;
+
+        private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        private final DataOutputStream poolOut = new DataOutputStream(pool);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private final ByteArrayOutputStream members = new ByteArrayOutputStream();
+        private final DataOutputStream fieldsOut = new DataOutputStream(members);
+        private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+        private final DataOutputStream methodsOut = new DataOutputStream(methodBytes);
+        private final int thisClass;
+        private final int superClass;
+        private final int iface;
+        private int count = 1;
+        private int fieldCount;
+        private int methodCount;
+
+        private ClassFile(String name) {
+            thisClass = type(name);
+            superClass = type("java/lang/Object");
+            iface = type(EXPRESSION);
+        }
+
+        private Code code() {
+            return new Code(this);
+        }
+
+        private int utf8(String value) {
+            return entry("U" + value, out -> {
+                out.writeByte(CONSTANT_UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        private int type(String name) {
+            int index = utf8(name);
+            return entry("C" + name, out -> {
+                out.writeByte(CONSTANT_CLASS);
+                out.writeShort(index);
+            });
+        }
+
+        private int string(String value) {
+            int index = utf8(value);
+            return entry("S" + value, out -> {
+                out.writeByte(CONSTANT_STRING);
+                out.writeShort(index);
+            });
+        }
+
+        private int member(int tag, String owner, String name, String desc) {
+            int type = type(owner);
+            int n = utf8(name);
+            int d = utf8(desc);
+            int nameAndType = entry("N" + name + ":" + desc, out -> {
+                out.writeByte(CONSTANT_NAME_AND_TYPE);
+                out.writeShort(n);
+                out.writeShort(d);
+            });
+            return entry(tag + owner + "." + name + ":" + desc, out -> {
+                out.writeByte(tag);
+                out.writeShort(type);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int entry(String key, PoolWriter writer) {
+            Integer index = entries.get(key);
+            if (index == null) {
+                try {
+                    writer.write(poolOut);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                index = count++;
+                entries.put(key, index);
+            }
+            return index;
+        }
+
+        private void field(String name, String desc) throws IOException {
+            fieldsOut.writeShort(ACC_PRIVATE | ACC_FINAL);
+            fieldsOut.writeShort(utf8(name));
+            fieldsOut.writeShort(utf8(desc));
+            fieldsOut.writeShort(0);
+            fieldCount++;
+        }
+
+        private void method(String name, String desc, Code code, int maxLocals) throws IOException {
+            byte[] bytes = code.bytes.toByteArray();
+            methodsOut.writeShort(ACC_PUBLIC);
+            methodsOut.writeShort(utf8(name));
+            methodsOut.writeShort(utf8(desc));
+            methodsOut.writeShort(1);
+            methodsOut.writeShort(utf8("Code"));
+            methodsOut.writeInt(12 + bytes.length);
+            methodsOut.writeShort(MAX_STACK);
+            methodsOut.writeShort(maxLocals);
+            methodsOut.writeInt(bytes.length);
+            methodsOut.write(bytes);
+            methodsOut.writeShort(0);
+            methodsOut.writeShort(0);
+            methodCount++;
+        }
+
+        private byte[] toByteArray() throws IOException {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bos);
+            out.writeInt(0xCAFEBABE);
+            // java 8 class file version
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(count);
+            out.write(pool.toByteArray());
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(iface);
+            out.writeShort(fieldCount);
+            out.write(members.toByteArray());
+            out.writeShort(methodCount);
+            out.write(methodBytes.toByteArray());
+            out.writeShort(0);
+            return bos.toByteArray();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PoolWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the bytecode of a method
+     */
+    private static final class Code {
+        private final ClassFile cf;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private Code(ClassFile cf) {
+            this.cf = cf;
+        }
+
+        private Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        private Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        private Code aload(int index) {
+            // aload_0 to aload_3
+            return op(ALOAD_0 + index);
+        }
+
+        private Code push(int value) {
+            if (value <= 5) {
+                // iconst_0 to iconst_5
+                return op(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                return op(BIPUSH).op(value);
+            }
+            return op(SIPUSH).u2(value);
+        }
+
+        private Code ldc(int index) {
+            return op(LDC_W).u2(index);
+        }
+
+        private Code type(int opcode, String name) {
+            return op(opcode).u2(cf.type(name));
+        }
+
+        private Code field(int opcode, String owner, String name, String desc) {
+            return op(opcode).u2(cf.member(CONSTANT_FIELDREF, owner, name, desc));
+        }
+
+        private Code invoke(int opcode, String owner, String name, String desc) {
+            return op(opcode).u2(cf.member(CONSTANT_METHODREF, owner, name, desc));
+        }
+
+        private Code invokeInterface(String owner, String name, String desc, int slots) {
+            return op(INVOKEINTERFACE).u2(cf.member(CONSTANT_INTERFACE_METHODREF, owner, name, desc)).op(slots).op(0);
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private boolean compiled;
 
     public SimpleExpressionParser(CamelContext camelContext, String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
@@ -50,6 +51,17 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         this.cacheExpression = cacheExpression;
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile the parsed expression into bytecode (see {@link SimpleCompiler}).
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     public Expression parseExpression() {
         try {
             parseTokens();
@@ -113,7 +125,19 @@ public class SimpleExpressionParser extends BaseSimpleParser {
      */
     protected Expression doParseExpression() {
         // create and return as a Camel expression
-        List<Expression> expressions = createExpressions();
+        List<Expression> nodeExpressions = createNodeExpressions();
+        List<Expression> expressions = new ArrayList<>(nodeExpressions.size());
+        for (Expression exp : nodeExpressions) {
+            if (exp != null) {
+                expressions.add(exp);
+            }
+        }
+        if (compiled && !expressions.isEmpty()) {
+            Expression answer = SimpleCompiler.compile(expression, nodes, nodeExpressions);
+            if (answer != null) {
+                return answer;
+            }
+        }
         if (expressions.isEmpty()) {
             // return an empty string as response as there was nothing to parse
             return ExpressionBuilder.constantExpression("");
@@ -187,13 +211,13 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         return null;
     }
 
-    private List<Expression> createExpressions() {
-        List<Expression> answer = new ArrayList<>();
+    /**
+     * Creates the expression of each node (<tt>null</tt> if the node has no expression)
+     */
+    private List<Expression> createNodeExpressions() {
+        List<Expression> answer = new ArrayList<>(nodes.size());
         for (SimpleNode token : nodes) {
-            Expression exp = token.createExpression(camelContext, expression);
-            if (exp != null) {
-                answer.add(exp);
-            }
+            answer.add(token.createExpression(camelContext, expression));
         }
         return answer;
     }
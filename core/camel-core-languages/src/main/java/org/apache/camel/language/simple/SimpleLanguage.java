@@ -49,6 +49,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
     boolean allowEscape = true;
+    private boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -60,6 +61,22 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile expressions into bytecode, which evaluates literal text and common functions such as body,
+     * headers and exchange properties without the overhead of the interpreted expressions. Any other function is still
+     * evaluated by its interpreted expression. Predicates are not compiled.
+     * <p/>
+     * The expressions are compiled into hidden classes, which requires JDK 15 or newer. On older JDKs the expressions
+     * are interpreted, as a regular class is never unloaded, which would leak a class for each expression.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -211,6 +228,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             // only parse if there are simple functions
             SimpleExpressionParser parser
                     = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
+            parser.setCompiled(compiled);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
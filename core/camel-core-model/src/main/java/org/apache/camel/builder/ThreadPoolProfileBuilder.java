@@ -97,6 +97,20 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreads(Boolean virtualThreads) {
+        if (virtualThreads != null) {
+            profile.setVirtualThreads(virtualThreads);
+        }
+        return this;
+    }
+
+    public ThreadPoolProfileBuilder maxConcurrentTasks(Integer maxConcurrentTasks) {
+        if (maxConcurrentTasks != null) {
+            profile.setMaxConcurrentTasks(maxConcurrentTasks);
+        }
+        return this;
+    }
+
     /**
      * Builds the thread pool profile
      * 
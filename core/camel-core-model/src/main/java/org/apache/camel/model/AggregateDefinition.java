@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -455,6 +458,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -954,6 +965,32 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on lock striping, where the correlation keys are spread over the given number of locks, so exchanges for
+     * unrelated correlation keys can be aggregated in parallel, while exchanges for the same correlation key are still
+     * aggregated one at a time. The number of locks is rounded up to the nearest power of two.
+     * <p/>
+     * Lock striping is not in use together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Turns on lock striping, where the correlation keys are spread over the given number of locks, so exchanges for
+     * unrelated correlation keys can be aggregated in parallel, while exchanges for the same correlation key are still
+     * aggregated one at a time. The number of locks is rounded up to the nearest power of two.
+     * <p/>
+     * Lock striping is not in use together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
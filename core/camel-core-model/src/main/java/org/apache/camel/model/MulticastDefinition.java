@@ -81,6 +81,9 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String shareUnitOfWork;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String copyOnWrite;
 
     public MulticastDefinition() {
     }
@@ -347,6 +350,40 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Multicast will by default copy the headers and properties for each multicasted
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public MulticastDefinition copyOnWrite() {
+        return copyOnWrite(true);
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Multicast will by default copy the headers and properties for each multicasted
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public MulticastDefinition copyOnWrite(boolean copyOnWrite) {
+        return copyOnWrite(Boolean.toString(copyOnWrite));
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Multicast will by default copy the headers and properties for each multicasted
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public MulticastDefinition copyOnWrite(String copyOnWrite) {
+        setCopyOnWrite(copyOnWrite);
+        return this;
+    }
+
     public AggregationStrategy getAggregationStrategyBean() {
         return aggregationStrategyBean;
     }
@@ -463,6 +500,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    public void setCopyOnWrite(String copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
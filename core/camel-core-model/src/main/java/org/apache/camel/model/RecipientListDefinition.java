@@ -89,6 +89,9 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String shareUnitOfWork;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String copyOnWrite;
 
     public RecipientListDefinition() {
     }
@@ -339,6 +342,40 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
         return this;
     }
 
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Recipient List will by default copy the headers and properties for each
+     * recipient exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public RecipientListDefinition<Type> copyOnWrite() {
+        return copyOnWrite(true);
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Recipient List will by default copy the headers and properties for each
+     * recipient exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public RecipientListDefinition<Type> copyOnWrite(boolean copyOnWrite) {
+        return copyOnWrite(Boolean.toString(copyOnWrite));
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Recipient List will by default copy the headers and properties for each
+     * recipient exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public RecipientListDefinition<Type> copyOnWrite(String copyOnWrite) {
+        setCopyOnWrite(copyOnWrite);
+        return this;
+    }
+
     /**
      * Sets the maximum size used by the {@link org.apache.camel.spi.ProducerCache} which is used to cache and reuse
      * producers when using this recipient list, when uris are reused.
@@ -514,6 +551,14 @@ public class RecipientListDefinition<Type extends ProcessorDefinition<Type>> ext
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    public void setCopyOnWrite(String copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
     public String getCacheSize() {
         return cacheSize;
     }
@@ -81,6 +81,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String shareUnitOfWork;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String copyOnWrite;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String inflightWindowSize;
 
     public SplitDefinition() {
     }
@@ -476,6 +482,67 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Splitter will by default copy the headers and properties for each split
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public SplitDefinition copyOnWrite() {
+        return copyOnWrite(true);
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Splitter will by default copy the headers and properties for each split
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public SplitDefinition copyOnWrite(boolean copyOnWrite) {
+        return copyOnWrite(Boolean.toString(copyOnWrite));
+    }
+
+    /**
+     * Shares the message headers and exchange properties of the parent exchange with each of the sub messages until
+     * they are changed (copy-on-write). Splitter will by default copy the headers and properties for each split
+     * exchange, which is costly with many headers and sub messages, when the sub messages only read them.
+     *
+     * @return the builder.
+     */
+    public SplitDefinition copyOnWrite(String copyOnWrite) {
+        setCopyOnWrite(copyOnWrite);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of split messages that can be in-flight at the same time, when using parallel processing.
+     * The splitter will not split more messages until the in-flight messages have been completed and aggregated, which
+     * keeps the memory usage constant regardless of how many messages are split, when used together with streaming
+     * mode. The default value of 0 does not limit the number of in-flight messages.
+     *
+     * @param  inflightWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition inflightWindowSize(int inflightWindowSize) {
+        return inflightWindowSize(Integer.toString(inflightWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages that can be in-flight at the same time, when using parallel processing.
+     * The splitter will not split more messages until the in-flight messages have been completed and aggregated, which
+     * keeps the memory usage constant regardless of how many messages are split, when used together with streaming
+     * mode. The default value of 0 does not limit the number of in-flight messages.
+     *
+     * @param  inflightWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition inflightWindowSize(String inflightWindowSize) {
+        setInflightWindowSize(inflightWindowSize);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -616,6 +683,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    public void setCopyOnWrite(String copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    public String getInflightWindowSize() {
+        return inflightWindowSize;
+    }
+
+    public void setInflightWindowSize(String inflightWindowSize) {
+        this.inflightWindowSize = inflightWindowSize;
+    }
+
     public String getExecutorService() {
         return executorService;
     }
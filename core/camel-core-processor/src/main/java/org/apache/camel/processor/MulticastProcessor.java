@@ -31,6 +31,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -64,6 +65,7 @@ import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CopyOnWriteMap;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
@@ -170,6 +172,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private boolean copyOnWrite;
+    private final LongAdder copiesAvoided = new LongAdder();
+    private int inflightWindowSize;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -383,6 +388,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -479,6 +485,34 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Schedules this task to send the next pair (in parallel mode), unless the in-flight window is full, in which
+         * case the task is paused until an exchange has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (inflightWindowSize > 0 && isInflightWindowFull()) {
+                paused.set(true);
+                // an exchange may have been aggregated before we paused, so we must check again
+                if (isInflightWindowFull() || !paused.compareAndSet(true, false)) {
+                    return;
+                }
+            }
+            schedule(this);
+        }
+
+        /**
+         * Resumes this task if it was paused due to a full in-flight window and an exchange has since been aggregated.
+         */
+        protected void resume() {
+            if (paused.get() && !isInflightWindowFull() && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        private boolean isInflightWindowFull() {
+            return nbExchangeSent.get() - nbAggregated.get() >= inflightWindowSize;
+        }
+
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
@@ -572,12 +606,15 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else if (isParallelProcessing()) {
+                            // the aggregated exchange may have freed a slot in the in-flight window
+                            resume();
                         }
                     });
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -842,6 +879,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param inputExchange the input exchange that was sent as input to this EIP
      */
     protected void doAggregate(AtomicReference<Exchange> result, Exchange exchange, Exchange inputExchange) {
+        if (copyOnWrite) {
+            // must be counted before aggregating which may change the exchange
+            countCopiesAvoided(exchange);
+        }
         if (parallelAggregate) {
             doAggregateInternal(getAggregationStrategy(exchange), result, exchange, inputExchange);
         } else {
@@ -883,6 +924,34 @@ public class MulticastProcessor extends AsyncProcessorSupport
         }
     }
 
+    /**
+     * Creates a correlated copy of the exchange to be processed by a branch, which does not share the unit of work.
+     * When copy-on-write is enabled, then the message headers and exchange properties are shared with the exchange
+     * until they are changed.
+     *
+     * @param  exchange the exchange
+     * @return          the copy
+     */
+    protected Exchange createCorrelatedCopy(Exchange exchange) {
+        if (copyOnWrite) {
+            return processorExchangeFactory.createCorrelatedCopyOnWrite(exchange, false);
+        } else {
+            return processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        }
+    }
+
+    private void countCopiesAvoided(Exchange exchange) {
+        // the message headers and exchange properties are each a copy avoided when still shared
+        if (exchange.getIn().getHeaders() instanceof CopyOnWriteMap
+                && ((CopyOnWriteMap<?, ?>) exchange.getIn().getHeaders()).isShared()) {
+            copiesAvoided.increment();
+        }
+        if (exchange.hasProperties() && exchange.getProperties() instanceof CopyOnWriteMap
+                && ((CopyOnWriteMap<?, ?>) exchange.getProperties()).isShared()) {
+            copiesAvoided.increment();
+        }
+    }
+
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
         exchange.setProperty(ExchangePropertyKey.MULTICAST_INDEX, index);
         if (hasNext) {
@@ -909,7 +978,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         int index = 0;
         for (Processor processor : processors) {
             // copy exchange, and do not share the unit of work
-            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+            Exchange copy = createCorrelatedCopy(exchange);
             copy.adapt(ExtendedExchange.class).setTransacted(exchange.isTransacted());
 
             if (streamCache != null) {
@@ -1248,6 +1317,44 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * Whether the exchanges for the branches share the message headers and exchange properties with the input exchange
+     * until they are changed (copy-on-write), instead of copying them up front.
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    /**
+     * Number of message headers and exchange properties which did not have to be copied for the branches because of
+     * copy-on-write.
+     */
+    public long getCopiesAvoided() {
+        return copiesAvoided.sum();
+    }
+
+    public void resetCopiesAvoided() {
+        copiesAvoided.reset();
+    }
+
+    public int getInflightWindowSize() {
+        return inflightWindowSize;
+    }
+
+    /**
+     * Sets the maximum number of exchanges that can be in-flight (sent but not yet aggregated) at the same time when
+     * using parallel processing. When the window is full then no further exchanges are sent until an in-flight exchange
+     * has been aggregated, which together with streaming keeps the memory usage constant. The default value of 0 does
+     * not limit the number of in-flight exchanges.
+     */
+    public void setInflightWindowSize(int inflightWindowSize) {
+        this.inflightWindowSize = inflightWindowSize;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
@@ -29,6 +29,7 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
@@ -190,14 +191,18 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     protected void doBuild() throws Exception {
         boolean pooled = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isPooled();
         if (pooled) {
-            taskFactory = new PooledTaskFactory(getId()) {
+            ExchangeFactory ef = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
+            PooledTaskFactory pooledTaskFactory = new PooledTaskFactory(getId()) {
                 @Override
                 public PooledExchangeTask create(Exchange exchange, AsyncCallback callback) {
                     return new PipelineTask();
                 }
             };
-            int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
-            taskFactory.setCapacity(capacity);
+            pooledTaskFactory.setCapacity(ef.getCapacity());
+            pooledTaskFactory.setStatisticsEnabled(ef.isStatisticsEnabled());
+            pooledTaskFactory.setCamelContext(camelContext);
+            pooledTaskFactory.setType("PipelineTask");
+            taskFactory = pooledTaskFactory;
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
@@ -66,6 +66,7 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
     private int cacheSize;
     private Processor onPrepare;
     private boolean shareUnitOfWork;
+    private boolean copyOnWrite;
     private ExecutorService executorService;
     private boolean shutdownExecutorService;
     private volatile ExecutorService aggregateExecutorService;
@@ -208,6 +209,7 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
         recipientListProcessor.setErrorHandler(errorHandler);
         recipientListProcessor.setAggregateExecutorService(aggregateExecutorService);
         recipientListProcessor.setIgnoreInvalidEndpoints(isIgnoreInvalidEndpoints());
+        recipientListProcessor.setCopyOnWrite(isCopyOnWrite());
         recipientListProcessor.setCacheSize(getCacheSize());
         recipientListProcessor.setId(getId());
         recipientListProcessor.setRouteId(getRouteId());
@@ -328,6 +330,28 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    /**
+     * Number of message headers and exchange properties which did not have to be copied for the recipients because of
+     * copy-on-write.
+     */
+    public long getCopiesAvoided() {
+        return recipientListProcessor != null ? recipientListProcessor.getCopiesAvoided() : 0;
+    }
+
+    public void resetCopiesAvoided() {
+        if (recipientListProcessor != null) {
+            recipientListProcessor.resetCopiesAvoided();
+        }
+    }
+
     public int getCacheSize() {
         return cacheSize;
     }
@@ -287,7 +287,7 @@ public class RecipientListProcessor extends MulticastProcessor {
             int index, Endpoint endpoint, Producer producer,
             Exchange exchange, ExchangePattern pattern, boolean prototypeEndpoint) {
         // copy exchange, and do not share the unit of work
-        Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        Exchange copy = createCorrelatedCopy(exchange);
         copy.adapt(ExtendedExchange.class).setTransacted(exchange.isTransacted());
 
         // if we share unit of work, we need to prepare the child exchange
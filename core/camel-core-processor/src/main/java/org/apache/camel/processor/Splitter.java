@@ -227,7 +227,7 @@ public class Splitter extends MulticastProcessor implements AsyncProcessor, Trac
                     if (part != null) {
                         // create a correlated copy as the new exchange to be routed in the splitter from the copy
                         // and do not share the unit of work
-                        Exchange newExchange = processorExchangeFactory.createCorrelatedCopy(copy, false);
+                        Exchange newExchange = createCorrelatedCopy(copy);
                         newExchange.adapt(ExtendedExchange.class).setTransacted(original.isTransacted());
                         // If the splitter has an aggregation strategy
                         // then the StreamCache created by the child routes must not be
@@ -35,6 +35,7 @@ import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.StreamCache;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.spi.RouteIdAware;
@@ -314,14 +315,18 @@ public class WireTapProcessor extends AsyncProcessorSupport
 
         boolean pooled = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isPooled();
         if (pooled) {
-            taskFactory = new PooledTaskFactory(getId()) {
+            ExchangeFactory ef = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
+            PooledTaskFactory pooledTaskFactory = new PooledTaskFactory(getId()) {
                 @Override
                 public PooledExchangeTask create(Exchange exchange, AsyncCallback callback) {
                     return new WireTapTask();
                 }
             };
-            int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
-            taskFactory.setCapacity(capacity);
+            pooledTaskFactory.setCapacity(ef.getCapacity());
+            pooledTaskFactory.setStatisticsEnabled(ef.isStatisticsEnabled());
+            pooledTaskFactory.setCamelContext(camelContext);
+            pooledTaskFactory.setType("WireTapTask");
+            taskFactory = pooledTaskFactory;
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
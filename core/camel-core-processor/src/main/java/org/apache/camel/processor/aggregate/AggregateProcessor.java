@@ -17,6 +17,7 @@
 package org.apache.camel.processor.aggregate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -100,6 +101,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripes;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -229,6 +231,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,13 +404,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock striping then completing all groups must be deferred until we have released the lock
+        // for this correlation key, as otherwise we could deadlock with another thread holding a different stripe
+        AtomicBoolean completeAllGroups = stripes != null ? new AtomicBoolean() : null;
+        Lock groupLock = lockFor(key);
+        groupLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -416,6 +423,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -463,17 +474,24 @@ public class AggregateProcessor extends AsyncProcessorSupport
      * <p/>
      * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel.
      * <p/>
+     * When lock striping is in use then only the lock for the given correlation key is held, and completion of all
+     * groups is not done by this method but flagged on the given <tt>completeAllGroups</tt> holder, so the caller can
+     * complete all groups after the lock has been released.
+     * <p/>
      * The returned {@link Exchange} should be send downstream using the
      * {@link #onSubmitCompletion(String, org.apache.camel.Exchange)} method which sends out the aggregated and
      * completed {@link Exchange}.
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       holder to flag that all groups should be completed (only in use
+     *                                                 with lock striping), or <tt>null</tt> to complete them directly
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -573,7 +591,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -942,6 +964,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
         timeoutMap.put(key, exchange.getExchangeId(), timeout);
     }
 
+    /**
+     * The maximum time in millis from a completion timeout was due until the timeout checker triggered the completion
+     */
+    public long getCompletionTimeoutMaxLag() {
+        if (timeoutMap instanceof DefaultTimeoutMap) {
+            return ((DefaultTimeoutMap<?, ?>) timeoutMap).getMaxEvictionLag();
+        }
+        return 0;
+    }
+
+    /**
+     * The mean time in millis from a completion timeout was due until the timeout checker triggered the completion
+     */
+    public long getCompletionTimeoutMeanLag() {
+        if (timeoutMap instanceof DefaultTimeoutMap) {
+            return ((DefaultTimeoutMap<?, ?>) timeoutMap).getMeanEvictionLag();
+        }
+        return 0;
+    }
+
     /**
      * Current number of closed correlation keys in the memory cache
      */
@@ -1094,6 +1136,29 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of locks to stripe the correlation keys over. When enabled (a value higher than 1) then only
+     * exchanges with correlation keys that map to the same lock are aggregated one at a time, and exchanges for
+     * unrelated correlation keys are aggregated in parallel. The value is rounded up to the nearest power of two.
+     * <p/>
+     * Lock striping is not in use together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup, as these require all correlation groups to be aggregated under the same lock.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    /**
+     * Whether lock striping is in use, see {@link #setLockStripes(int)}.
+     */
+    public boolean isLockStriping() {
+        return stripes != null;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1238,7 +1303,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless we use lock striping, as then there is no shared lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || stripes != null);
             addListener(this::onEviction);
         }
 
@@ -1262,12 +1328,29 @@ public class AggregateProcessor extends AsyncProcessorSupport
             }
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
+            Lock groupLock = lockFor(key);
+            groupLock.lock();
+            try {
+                doEviction(key, exchangeId);
+            } finally {
+                groupLock.unlock();
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
             if (inProgress) {
                 log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
                 return;
             }
 
+            if (stripes != null && containsKey(key)) {
+                // with lock striping the timeout map is purged without holding the lock for the correlation key,
+                // and a new exchange has been aggregated to the group in the mean time, so its no longer inactive
+                log.trace("Correlation key: {} has been updated since timeout was triggered.", key);
+                return;
+            }
+
             // get the aggregated exchange
             boolean evictionStolen = false;
             Exchange answer = aggregationRepository.get(camelContext, key);
@@ -1319,21 +1402,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock groupLock = lockFor(key);
+                        groupLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            groupLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug(
@@ -1381,7 +1470,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1454,7 +1543,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1491,6 +1580,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
                         getCloseCorrelationKeyOnCompletion());
                 closedCorrelationKeys = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                if (lockStripes > 1) {
+                    // the cache is updated concurrently when using lock striping
+                    closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeys);
+                }
             } else {
                 LOG.info("Using ClosedCorrelationKeys with unbounded capacity");
                 closedCorrelationKeys = new ConcurrentHashMap<>();
@@ -1510,6 +1603,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        stripes = null;
+        if (lockStripes > 1 && !optimisticLocking) {
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                LOG.warn("Lock striping cannot be used together with completionFromBatchConsumer"
+                         + " or completionOnNewCorrelationGroup and will not be used.");
+            } else {
+                // round up to power of two so we can find the stripe by masking the hash code
+                int size = Integer.highestOneBit(lockStripes - 1) << 1;
+                Lock[] locks = new Lock[size];
+                for (int i = 0; i < size; i++) {
+                    locks[i] = new ReentrantLock();
+                }
+                stripes = locks;
+                LOG.info("Lock striping is enabled using {} locks", size);
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1593,6 +1703,9 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (stripes != null) {
+            // there is no shared lock as each correlation key is locked by its stripe
+            lock = NoLock.INSTANCE;
         } else {
             lock = new ReentrantLock();
         }
@@ -1701,11 +1814,50 @@ public class AggregateProcessor extends AsyncProcessorSupport
         super.doShutdown();
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key, which is either the stripe the key maps to when
+     * using lock striping, or the shared lock.
+     */
+    private Lock lockFor(String key) {
+        Lock[] stripes = this.stripes;
+        if (stripes == null) {
+            return lock;
+        }
+        // spread the hash code as the stripes are selected by the lower bits only
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private void lockAll() {
+        Lock[] stripes = this.stripes;
+        if (stripes == null) {
+            lock.lock();
+        } else {
+            // always lock in the same order to avoid deadlock
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] stripes = this.stripes;
+        if (stripes == null) {
+            lock.unlock();
+        } else {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
     public int forceCompletionOfGroup(String key) {
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = lockFor(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1719,7 +1871,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1751,15 +1903,21 @@ public class AggregateProcessor extends AsyncProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock groupLock = lockFor(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
@@ -1778,7 +1936,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = lockFor(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1788,7 +1947,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1820,11 +1979,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock groupLock = lockFor(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
@@ -45,6 +45,7 @@ import org.apache.camel.processor.PrototypeTaskFactory;
 import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.ErrorHandlerRedeliveryCustomizer;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFormatter;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ReactiveExecutor;
@@ -1643,14 +1644,18 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         boolean pooled = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isPooled();
         if (pooled) {
             String id = output instanceof IdAware ? ((IdAware) output).getId() : output.toString();
-            taskFactory = new PooledTaskFactory(id) {
+            ExchangeFactory ef = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
+            PooledTaskFactory pooledTaskFactory = new PooledTaskFactory(id) {
                 @Override
                 public PooledExchangeTask create(Exchange exchange, AsyncCallback callback) {
                     return simpleTask ? new SimpleTask() : new RedeliveryTask();
                 }
             };
-            int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
-            taskFactory.setCapacity(capacity);
+            pooledTaskFactory.setCapacity(ef.getCapacity());
+            pooledTaskFactory.setStatisticsEnabled(ef.isStatisticsEnabled());
+            pooledTaskFactory.setCamelContext(camelContext);
+            pooledTaskFactory.setType("RedeliveryTask");
+            taskFactory = pooledTaskFactory;
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
@@ -78,6 +78,7 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         MulticastProcessor answer = new MulticastProcessor(
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate);
+        answer.setCopyOnWrite(parseBoolean(definition.getCopyOnWrite(), false));
         return answer;
     }
 
@@ -64,6 +64,7 @@ public class RecipientListReifier extends ProcessorReifier<RecipientListDefiniti
         answer.setParallelAggregate(isParallelAggregate);
         answer.setStreaming(isStreaming);
         answer.setShareUnitOfWork(isShareUnitOfWork);
+        answer.setCopyOnWrite(parseBoolean(definition.getCopyOnWrite(), false));
         answer.setStopOnException(isStopOnException);
         answer.setIgnoreInvalidEndpoints(isIgnoreInvalidEndpoints);
         Integer num = parseInt(definition.getCacheSize());
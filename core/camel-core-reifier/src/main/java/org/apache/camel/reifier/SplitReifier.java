@@ -55,6 +55,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int inflightWindowSize = parseInt(definition.getInflightWindowSize(), 0);
+        if (inflightWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("InflightWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -75,6 +79,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, prepare,
                     isShareUnitOfWork, isParallelAggregate);
         }
+        answer.setCopyOnWrite(parseBoolean(definition.getCopyOnWrite(), false));
+        answer.setInflightWindowSize(inflightWindowSize);
 
         return answer;
     }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(25);
+        mock.expectsAscending(body());
+
+        // fill the queue before the consumer is started so its taken in batches
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:foo", i);
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> received = mock.getReceivedExchanges();
+        assertEquals(0, received.get(0).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(10, received.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(false, received.get(0).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(9, received.get(9).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(true, received.get(9).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(5, received.get(24).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(true, received.get(24).getProperty(Exchange.BATCH_COMPLETE));
+    }
+
+    @Test
+    public void testGroupBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:group");
+        mock.expectedMessageCount(3);
+
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:bar", i);
+        }
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> received = mock.getReceivedExchanges();
+        assertEquals(10, received.get(0).getMessage().getBody(List.class).size());
+        assertEquals(10, received.get(1).getMessage().getBody(List.class).size());
+        List<?> last = received.get(2).getMessage().getBody(List.class);
+        assertEquals(5, last.size());
+        assertEquals(24, ((Exchange) last.get(4)).getMessage().getBody());
+        assertEquals(5, received.get(2).getProperty(Exchange.BATCH_SIZE));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=10").routeId("foo").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:bar?batchSize=10&groupBatch=true").routeId("bar").autoStartup(false)
+                        .to("mock:group");
+            }
+        };
+    }
+}
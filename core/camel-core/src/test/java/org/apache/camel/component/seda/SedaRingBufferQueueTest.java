@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaRingBufferQueueTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringBufferQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testRingBufferQueueFactory() throws Exception {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:ring100?queueFactory=#ringBufferQueueFactory&size=100", SedaEndpoint.class);
+
+        RingBufferBlockingQueue<?> queue = assertIsInstanceOf(RingBufferBlockingQueue.class, endpoint.getQueue());
+        // rounded up to power of two
+        assertEquals(128, queue.getCapacity());
+        assertEquals(128, queue.remainingCapacity());
+
+        // the default size is rounded up as well
+        queue = new RingBufferBlockingQueueFactory<Exchange>().create();
+        assertEquals(1024, queue.getCapacity());
+    }
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertEquals(4, queue.getCapacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("" + i));
+        }
+        assertFalse(queue.offer("4"));
+        assertFalse(queue.offer("4", 10, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> queue.add("4"));
+        assertEquals(4, queue.size());
+        assertEquals("0", queue.peek());
+
+        assertTrue(queue.remove("1"));
+        assertEquals(3, queue.size());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals("[0, 2]", drained.toString());
+        assertEquals("3", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(16);
+        int producers = 4;
+        int count = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+        try {
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (int i = 1; i <= count; i++) {
+                        queue.put(i);
+                    }
+                    return null;
+                });
+            }
+            long[] sums = new long[2];
+            CountDownLatch latch = new CountDownLatch(2);
+            for (int c = 0; c < 2; c++) {
+                final int index = c;
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < producers * count / 2; i++) {
+                            sums[index] += queue.take();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                    return null;
+                });
+            }
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+            long expected = (long) producers * count * (count + 1) / 2;
+            assertEquals(expected, sums[0] + sums[1]);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRemoveWhileProducersAndConsumers() throws Exception {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(16);
+        int producers = 4;
+        int count = 10000;
+        int total = producers * count;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        List<String> errors = new ArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 3);
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * count;
+                executor.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        queue.put(offset + i);
+                    }
+                    return null;
+                });
+            }
+            CountDownLatch latch = new CountDownLatch(2);
+            for (int c = 0; c < 2; c++) {
+                executor.submit(() -> {
+                    try {
+                        while (consumed.size() + removed.size() < total) {
+                            Integer e = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (e != null && !consumed.add(e)) {
+                                synchronized (errors) {
+                                    errors.add("Consumed twice: " + e);
+                                }
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                    return null;
+                });
+            }
+            executor.submit(() -> {
+                while (!done.get()) {
+                    // remove the elements which are likely to be in the queue
+                    for (Integer e : queue) {
+                        if (ThreadLocalRandom.current().nextBoolean() && queue.remove(e) && !removed.add(e)) {
+                            synchronized (errors) {
+                                errors.add("Removed twice: " + e);
+                            }
+                        }
+                    }
+                }
+                return null;
+            });
+
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+            done.set(true);
+
+            assertEquals("[]", errors.toString());
+            assertFalse(removed.isEmpty());
+            for (Integer e : removed) {
+                assertFalse(consumed.contains(e), "Removed element was consumed: " + e);
+            }
+            assertEquals(total, consumed.size() + removed.size());
+            assertTrue(queue.isEmpty());
+            assertEquals(0, queue.size());
+            assertEquals(16, queue.remainingCapacity());
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRequestReply() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(50);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Bye " + i, template.requestBody("seda:ring?queueFactory=#ringBufferQueueFactory", "" + i));
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:ring?queueFactory=#ringBufferQueueFactory&concurrentConsumers=2&batchSize=5")
+                        .transform(body().prepend("Bye "))
+                        .to("mock:result");
+            }
+        };
+    }
+}
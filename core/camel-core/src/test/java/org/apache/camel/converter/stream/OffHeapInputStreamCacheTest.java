@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapInputStreamCacheTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeap(true);
+        // room for one off-heap buffer only
+        context.getStreamCachingStrategy().setSpoolOffHeapMemoryLimit(256 * 1024);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(new DefaultUnitOfWork(exchange));
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private StreamCache cache(byte[] data) throws IOException {
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        cos.close();
+        return cos.newStreamCache();
+    }
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = data(100 * 1024);
+        StreamCache cache = cache(data);
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(data.length, cache.length());
+        assertEquals(0, testDirectory().toFile().list().length, "Should not spool to file");
+        assertEquals(256 * 1024, strategy.getStatistics().getOffHeapMemoryUsed());
+
+        assertArrayEquals(data, ((OffHeapInputStreamCache) cache).readAllBytes());
+        cache.reset();
+        assertArrayEquals(data, ((OffHeapInputStreamCache) cache).readAllBytes());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getStatistics().getOffHeapMemoryUsed());
+        cache.reset();
+        assertThrows(IOException.class, () -> ((OffHeapInputStreamCache) cache).read());
+    }
+
+    @Test
+    public void testSpoolMemoryMappedOverLimit() throws Exception {
+        context.start();
+
+        byte[] data = data(1024 * 1024);
+        StreamCache cache = cache(data);
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertFalse(cache.inMemory());
+        assertEquals(data.length, cache.length());
+        File dir = testDirectory().toFile();
+        assertEquals(1, dir.list().length, "Should spool over the limit to a memory mapped file");
+
+        assertArrayEquals(data, ((OffHeapInputStreamCache) cache).readAllBytes());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, dir.list().length, "The memory mapped file should be deleted");
+    }
+
+    @Test
+    public void testCopyAndWriteTo() throws Exception {
+        context.start();
+
+        byte[] data = data(512 * 1024);
+        StreamCache cache = cache(data);
+        OffHeapInputStreamCache in = (OffHeapInputStreamCache) cache;
+        assertEquals(1000, in.skip(1000));
+
+        // copies share the spooled data and have their own position
+        StreamCache copy = cache.copy(exchange);
+        assertArrayEquals(data, ((OffHeapInputStreamCache) copy).readAllBytes());
+
+        // write to writes the remainder without moving the position
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertArrayEquals(Arrays.copyOfRange(data, 1000, data.length), bos.toByteArray());
+
+        File target = testDirectory("out", true).resolve("data.bin").toFile();
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            cache.writeTo(fos);
+        }
+        assertArrayEquals(Arrays.copyOfRange(data, 1000, data.length), Files.readAllBytes(target.toPath()));
+        assertEquals(data.length - 1000, in.available());
+    }
+
+    @Test
+    public void testReleaseWhileReading() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = data(100 * 1024);
+        StreamCache cache = cache(data);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                if (size() == 0) {
+                    // the exchange is done while the buffers are being read
+                    exchange.getUnitOfWork().done(exchange);
+                    assertEquals(256 * 1024, strategy.getStatistics().getOffHeapMemoryUsed());
+                }
+                super.write(b, off, len);
+            }
+        };
+        cache.writeTo(bos);
+
+        assertArrayEquals(data, bos.toByteArray());
+        assertEquals(0, strategy.getStatistics().getOffHeapMemoryUsed());
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        exchange.getMessage().setBody(cache(data(1000)));
+        strategy.cache(exchange);
+
+        assertEquals(1, strategy.getStatistics().getCacheOffHeapCounter());
+        assertEquals(1000, strategy.getStatistics().getCacheOffHeapSize());
+        assertEquals(0, strategy.getStatistics().getCacheSpoolCounter());
+        assertEquals(0, strategy.getStatistics().getCacheMemoryCounter());
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+public class CaseInsensitiveHashMapHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHashMapHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:a").expectedHeaderReceived("Bar", "yes");
+        getMockEndpoint("mock:a").expectedHeaderReceived("beer", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:b").expectedHeaderReceived("BAR", "yes");
+        getMockEndpoint("mock:b").expectedHeaderReceived("beer", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 456);
+        // the multicast uses the last reply by default
+        getMockEndpoint("mock:result").expectedHeaderReceived("BEER", "b");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("FOO", 456);
+        headers.put("Bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .multicast().to("direct:a", "direct:b").end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("BEER", constant("a")).to("mock:a");
+                from("direct:b").setHeader("Beer", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
@@ -24,6 +24,9 @@ import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +50,48 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testDefaultInflightRepositoryRoute() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1, "foo");
+        repo.add(e1, "bar");
+        assertEquals(1, repo.size("foo"));
+        assertEquals(0, repo.size("bar"));
+
+        repo.remove(e1, "foo");
+        assertEquals(0, repo.size("foo"));
+
+        repo.removeRoute("foo");
+        assertEquals(0, repo.size("foo"));
+    }
+
+    @Test
+    public void testDefaultInflightRepositorySampling() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        assertNull(repo.oldest(null));
+
+        // sample every exchange
+        repo.setInflightSampleRate(1);
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Thread.sleep(5);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+
+        // browsing is still disabled, but the oldest can be found from the sampled exchanges
+        assertTrue(repo.browse().isEmpty());
+        assertSame(e1, repo.oldest(null).getExchange());
+
+        repo.remove(e1);
+        assertSame(e2, repo.oldest(null).getExchange());
+
+        repo.remove(e2);
+        assertNull(repo.oldest(null));
+        assertEquals(0, repo.size());
+    }
 }
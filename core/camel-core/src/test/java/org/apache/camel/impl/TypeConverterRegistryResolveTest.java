@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TypeConverterRegistryResolveTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testCacheHitAndMiss() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().reset();
+
+        byte[] data = "Hello World".getBytes(StandardCharsets.UTF_8);
+        assertEquals("Hello World", context.getTypeConverter().convertTo(String.class, new ByteArrayInputStream(data)));
+        assertEquals(0, reg.getStatistics().getCacheHitCounter());
+        assertEquals(1, reg.getStatistics().getCacheMissCounter());
+
+        assertEquals("Bye World", context.getTypeConverter().convertTo(String.class,
+                new ByteArrayInputStream("Bye World".getBytes(StandardCharsets.UTF_8))));
+        assertEquals(1, reg.getStatistics().getCacheHitCounter());
+        assertEquals(1, reg.getStatistics().getCacheMissCounter());
+        assertEquals(2, reg.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().reset();
+
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, 123L));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, 456L));
+        assertEquals(1, reg.getStatistics().getCacheHitCounter());
+        assertEquals(1, reg.getStatistics().getCacheMissCounter());
+        assertEquals(2, reg.getStatistics().getMissCounter());
+
+        // adding a type converter must be used even though there was no type converter before
+        reg.addTypeConverter(MyOrder.class, Long.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type.cast(new MyOrder((Long) value));
+            }
+        });
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, 789L);
+        assertNotNull(order);
+        assertEquals(789L, order.id);
+    }
+
+    @Test
+    public void testResolvedConverterNotInvokedAgain() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        AtomicInteger invoked = new AtomicInteger();
+        reg.addTypeConverter(MyOrder.class, Long.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                invoked.incrementAndGet();
+                long id = (Long) value;
+                return id > 0 ? type.cast(new MyOrder(id)) : null;
+            }
+        });
+
+        assertNotNull(context.getTypeConverter().tryConvertTo(MyOrder.class, 123L));
+        assertEquals(1, invoked.get());
+
+        // the resolved converter cannot convert this value, so only the fallback converters are tried afterwards
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, -1L));
+        assertEquals(2, invoked.get());
+    }
+
+    @Test
+    public void testResolveTypeConverter() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+
+        // resolved using the converter for its super type
+        TypeConverter tc = reg.resolveTypeConverter(String.class, ByteArrayInputStream.class);
+        assertNotNull(tc);
+        assertEquals("Hello World",
+                tc.convertTo(String.class, new ByteArrayInputStream("Hello World".getBytes(StandardCharsets.UTF_8))));
+        assertNotNull(reg.resolveTypeConverter(String.class, InputStream.class));
+
+        assertNull(reg.resolveTypeConverter(MyOrder.class, Long.class));
+    }
+
+    private static final class MyOrder {
+        private final long id;
+
+        private MyOrder(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.support.VirtualThreadPoolFactory;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VirtualThreadPoolFactoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        DefaultExecutorServiceManager executorServiceManager = new DefaultExecutorServiceManager(context);
+        executorServiceManager.setThreadPoolFactory(new VirtualThreadPoolFactory());
+        context.setExecutorServiceManager(executorServiceManager);
+        return context;
+    }
+
+    @Test
+    public void testVirtualThreadPool() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("myProfile").maxPoolSize(50).maxQueueSize(100)
+                .maxConcurrentTasks(500).build();
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "foo", profile);
+
+        if (DefaultThreadPoolFactory.isVirtualThreadsSupported()) {
+            ThreadPerTaskExecutorService tpt = assertIsInstanceOf(ThreadPerTaskExecutorService.class, executor);
+            assertEquals(500, tpt.getMaxConcurrentTasks());
+            assertEquals(100, tpt.getMaxPendingTasks());
+        } else {
+            // fallback to regular thread pool
+            ThreadPoolExecutor tpe = assertIsInstanceOf(ThreadPoolExecutor.class, executor);
+            assertEquals(50, tpe.getMaximumPoolSize());
+        }
+        context.getExecutorServiceManager().shutdown(executor);
+    }
+
+    @Test
+    public void testVirtualThreadPoolNotLimitedByPoolSize() throws Exception {
+        // the default profile has a max pool size of 20
+        ExecutorService executor = context.getExecutorServiceManager().newDefaultThreadPool(this, "foo");
+
+        if (DefaultThreadPoolFactory.isVirtualThreadsSupported()) {
+            ThreadPerTaskExecutorService tpt = assertIsInstanceOf(ThreadPerTaskExecutorService.class, executor);
+            assertEquals(0, tpt.getMaxConcurrentTasks());
+        }
+        context.getExecutorServiceManager().shutdown(executor);
+    }
+
+    @Test
+    public void testVirtualThreadsDisabledOnProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("myProfile").virtualThreads(false).build();
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "foo", profile);
+        assertIsInstanceOf(ThreadPoolExecutor.class, executor);
+        context.getExecutorServiceManager().shutdown(executor);
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=5")
+                        .threads(5, 10)
+                        .multicast().parallelProcessing().to("mock:result", "log:foo?level=OFF").end();
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setPoolSize(4);
+        executor.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testScheduleFromOtherThread() throws Exception {
+        assertSame(executor, context.adapt(ExtendedCamelContext.class).getReactiveExecutor());
+
+        int size = 1000;
+        CountDownLatch latch = new CountDownLatch(size);
+        AtomicInteger carrier = new AtomicInteger();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < size; i++) {
+                executor.schedule(() -> {
+                    if (Thread.currentThread().getName().contains("ReactiveCarrier")) {
+                        carrier.incrementAndGet();
+                    }
+                    latch.countDown();
+                });
+            }
+        });
+        thread.start();
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertEquals(size, carrier.get() + executor.getCallerRunsTasks());
+        assertEquals(size, executor.getSubmittedTasks() + executor.getCallerRunsTasks());
+        assertTrue(executor.getStolenTasks() >= executor.getSteals());
+    }
+
+    @Test
+    public void testScheduleSyncIsSameThread() throws Exception {
+        String name = Thread.currentThread().getName();
+        StringBuilder sb = new StringBuilder();
+        executor.scheduleSync(() -> {
+            sb.append(Thread.currentThread().getName());
+            // nested work stays on the current thread
+            executor.schedule(() -> sb.append(",").append(Thread.currentThread().getName()));
+        });
+        assertEquals(name + "," + name, sb.toString());
+    }
+
+    @Test
+    public void testAsyncRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the continuation after the async delayer is run by the carrier threads
+        for (int i = 0; i < 10; i++) {
+            String name = mock.getReceivedExchanges().get(i).getMessage().getHeader("thread", String.class);
+            assertTrue(name.contains("ReactiveCarrier"), name);
+        }
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .delay(10).asyncDelayed()
+                        .process(e -> e.getMessage().setHeader("thread", Thread.currentThread().getName()))
+                        .to("mock:result");
+            }
+        };
+    }
+}
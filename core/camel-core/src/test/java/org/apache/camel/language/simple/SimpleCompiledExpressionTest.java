@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.Expression;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleCompiledExpressionTest extends ExchangeTestSupport {
+
+    @Test
+    public void testCompiledBody() throws Exception {
+        exchange.getIn().setBody(123);
+
+        Expression exp = compile("${body}");
+        assertCompiled(exp);
+        assertEquals(123, exp.evaluate(exchange, Object.class));
+        assertEquals("123", exp.evaluate(exchange, String.class));
+        assertEquals(123L, exp.evaluate(exchange, Long.class));
+    }
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        exchange.getIn().setBody("World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.getIn().setHeader("baz", "Camel");
+        exchange.setProperty("bar", "Camel");
+
+        Expression exp = compile("Hello ${body} ${header.foo} ${exchangeProperty.bar} ${in.header.baz} ${header.unknown}!");
+        assertCompiled(exp);
+        assertEquals("Hello World 123 Camel Camel !", exp.evaluate(exchange, String.class));
+        assertEquals(interpret("Hello ${body} ${header.foo} ${exchangeProperty.bar} ${in.header.baz} ${header.unknown}!"),
+                exp.evaluate(exchange, String.class));
+        assertEquals("Hello ${body} ${header.foo} ${exchangeProperty.bar} ${in.header.baz} ${header.unknown}!",
+                exp.toString());
+    }
+
+    @Test
+    public void testCompiledIds() throws Exception {
+        Expression exp = compile("${exchangeId}/${id}");
+        assertCompiled(exp);
+        assertEquals(exchange.getExchangeId() + "/" + exchange.getIn().getMessageId(), exp.evaluate(exchange, String.class));
+    }
+
+    @Test
+    public void testCompiledWithInterpretedFunctions() throws Exception {
+        exchange.getIn().setBody("World");
+        exchange.getIn().setHeader("foo", "Camel");
+
+        String text = "Hello ${body.toUpperCase()} from ${header.foo} ${bodyAs(String)} ${date:now:yyyy}";
+        Expression exp = compile(text);
+        assertCompiled(exp);
+        assertEquals(interpret(text), exp.evaluate(exchange, String.class));
+    }
+
+    @Test
+    public void testNotCompiled() throws Exception {
+        exchange.getIn().setBody("World");
+
+        // nothing to gain from compiling only literal text or only interpreted functions
+        Expression exp = compile("Hello ${body.toUpperCase()}");
+        assertFalse(isCompiled(exp));
+        assertEquals("Hello WORLD", exp.evaluate(exchange, String.class));
+        exp = compile("Hello");
+        assertFalse(isCompiled(exp));
+        assertEquals("Hello", exp.evaluate(exchange, String.class));
+        assertEquals("", compile("").evaluate(exchange, String.class));
+    }
+
+    @Test
+    public void testCompiledLanguage() throws Exception {
+        exchange.getIn().setBody("World");
+
+        SimpleLanguage language = new SimpleLanguage();
+        language.setCamelContext(context);
+        language.setCompiled(true);
+        Expression exp = language.createExpression("Hello ${body}");
+        assertCompiled(exp);
+        assertEquals("Hello World", exp.evaluate(exchange, String.class));
+    }
+
+    private Expression compile(String text) {
+        SimpleExpressionParser parser = new SimpleExpressionParser(context, text, true, null);
+        parser.setCompiled(true);
+        Expression exp = parser.parseExpression();
+        exp.init(context);
+        return exp;
+    }
+
+    private String interpret(String text) {
+        Expression exp = new SimpleExpressionParser(context, text, true, null).parseExpression();
+        exp.init(context);
+        return exp.evaluate(exchange, String.class);
+    }
+
+    private static void assertCompiled(Expression exp) {
+        assertTrue(isCompiled(exp), "Should be compiled: " + exp.getClass().getName());
+    }
+
+    private static boolean isCompiled(Expression exp) {
+        return exp.getClass().getName().startsWith("org.apache.camel.language.simple.SimpleCompiledExpression");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyRoutePolicyTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final AdaptiveConcurrencyRoutePolicy fixed = new AdaptiveConcurrencyRoutePolicy();
+    private final AdaptiveConcurrencyRoutePolicy adaptive = new AdaptiveConcurrencyRoutePolicy();
+
+    @Test
+    public void testRejectWhenLimitReached() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        Future<Object> first = template.asyncRequestBody("direct:start", "A");
+        Future<Object> second = template.asyncRequestBody("direct:start", "B");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fixed.getInflight() == 2);
+
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("direct:start", "C"));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1, fixed.getRejectedExchanges());
+
+        latch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertMockEndpointsSatisfied();
+        assertEquals(0, fixed.getInflight());
+    }
+
+    @Test
+    public void testQueueWhenLimitReached() throws Exception {
+        fixed.setMaxQueueSize(1);
+        fixed.setQueueTimeout(10000);
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        Future<Object> first = template.asyncRequestBody("direct:start", "A");
+        Future<Object> second = template.asyncRequestBody("direct:start", "B");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fixed.getInflight() == 2);
+        Future<Object> third = template.asyncRequestBody("direct:start", "C");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fixed.getQueueSize() == 1);
+
+        latch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertMockEndpointsSatisfied();
+        assertEquals(0, fixed.getQueueSize());
+        assertEquals(0, fixed.getRejectedExchanges());
+    }
+
+    @Test
+    public void testLimitDecreasedOnFailure() throws Exception {
+        assertEquals(20, adaptive.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:adaptive", "Kaboom"));
+        }
+        assertEquals(18, adaptive.getLimit());
+
+        // the limit is not increased when it is not reached
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:adaptive", "Hello");
+        }
+        assertEquals(18, adaptive.getLimit());
+        assertTrue(adaptive.getBaselineProcessingTime() > 0);
+
+        adaptive.reset();
+        assertEquals(20, adaptive.getLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                fixed.setMinLimit(2);
+                fixed.setMaxLimit(2);
+
+                from("direct:start").routePolicy(fixed)
+                        .process(e -> latch.await(10, TimeUnit.SECONDS))
+                        .to("mock:result");
+
+                from("direct:adaptive").routePolicy(adaptive)
+                        .filter(body().isEqualTo("Kaboom"))
+                            .throwException(new IllegalArgumentException("Forced"))
+                        .end();
+            }
+        };
+    }
+}
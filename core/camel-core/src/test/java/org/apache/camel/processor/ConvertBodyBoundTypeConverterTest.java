@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ConvertBodyBoundTypeConverterTest extends ContextTestSupport {
+
+    @Test
+    public void testConvertBodyDifferentTypes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("123", "Hello", "456", "World", "Camel", "789");
+        mock.allMessages().body().isInstanceOf(String.class);
+
+        template.sendBody("direct:start", 123);
+        template.sendBody("direct:start", "Hello".getBytes(StandardCharsets.UTF_8));
+        template.sendBody("direct:start", 456);
+        template.sendBody("direct:start", "World".getBytes(StandardCharsets.UTF_8));
+        template.sendBody("direct:start", new ByteArrayInputStream("Camel".getBytes(StandardCharsets.UTF_8)));
+        template.sendBody("direct:start", 789L);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testConvertBodyFailureWhenBound() throws Exception {
+        getMockEndpoint("mock:int").expectedBodiesReceived(1, 2);
+
+        template.sendBody("direct:int", "1");
+        template.sendBody("direct:int", "2");
+        try {
+            template.sendBody("direct:int", "three");
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            assertIsInstanceOf(InvalidPayloadException.class, e.getCause());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").convertBodyTo(String.class).to("mock:result");
+
+                from("direct:int").convertBodyTo(Integer.class).to("mock:int");
+            }
+        };
+    }
+}
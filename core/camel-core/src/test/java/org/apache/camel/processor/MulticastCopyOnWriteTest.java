@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MulticastCopyOnWriteTest extends ContextTestSupport {
+
+    @Test
+    public void testCopyOnWrite() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:foo").expectedHeaderReceived("foo", "yes");
+        getMockEndpoint("mock:foo").message(0).header("bar").isNull();
+        getMockEndpoint("mock:foo").expectedPropertyReceived("cheese", "cake");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:bar").expectedHeaderReceived("bar", "no");
+        getMockEndpoint("mock:bar").message(0).header("foo").isNull();
+        getMockEndpoint("mock:bar").expectedPropertyReceived("cheese", "gouda");
+        getMockEndpoint("mock:baz").expectedHeaderReceived("bar", "no");
+        getMockEndpoint("mock:baz").message(0).header("foo").isNull();
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "no");
+        getMockEndpoint("mock:result").message(0).header("foo").isNull();
+        getMockEndpoint("mock:result").expectedPropertyReceived("cheese", "gouda");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the headers and properties were only copied for direct:foo which changes them
+        MulticastProcessor multicast = context.getProcessor("myMulticast", MulticastProcessor.class);
+        assertEquals(true, multicast.isCopyOnWrite());
+        assertEquals(4, multicast.getCopiesAvoided());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .setHeader("bar", constant("no"))
+                        .setProperty("cheese", constant("gouda"))
+                        .multicast(AggregationStrategies.useOriginal()).copyOnWrite().id("myMulticast")
+                            .to("direct:foo", "mock:bar", "mock:baz")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:foo")
+                        .setHeader("foo", constant("yes"))
+                        .removeHeader("bar")
+                        .setProperty("cheese", constant("cake"))
+                        .to("mock:foo");
+            }
+        };
+    }
+
+}
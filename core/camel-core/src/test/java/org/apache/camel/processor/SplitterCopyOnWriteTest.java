@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SplitterCopyOnWriteTest extends ContextTestSupport {
+
+    @Test
+    public void testCopyOnWrite() throws Exception {
+        getMockEndpoint("mock:split").expectedBodiesReceived("A", "B", "C");
+        getMockEndpoint("mock:split").expectedHeaderValuesReceivedInAnyOrder("foo", "123", "changed", "123");
+        getMockEndpoint("mock:split").expectedPropertyValuesReceivedInAnyOrder("cheese", "gouda", "cake", "gouda");
+        getMockEndpoint("mock:result").expectedBodiesReceived("A,B,C");
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", "123");
+        getMockEndpoint("mock:result").expectedPropertyReceived("cheese", "gouda");
+
+        template.sendBodyAndHeader("direct:start", "A,B,C", "foo", "123");
+
+        assertMockEndpointsSatisfied();
+
+        // the headers and properties were only copied for B which changes them
+        Splitter splitter = context.getProcessor("mySplit", Splitter.class);
+        assertEquals(4, splitter.getCopiesAvoided());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .setProperty("cheese", constant("gouda"))
+                        .split(body().tokenize(",")).copyOnWrite().id("mySplit")
+                            .filter(body().isEqualTo("B"))
+                                .setHeader("foo", constant("changed"))
+                                .setProperty("cheese", constant("cake"))
+                            .end()
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelInflightWindowTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testInflightWindow() throws Exception {
+        String body = IntStream.rangeClosed(1, 100).mapToObj(Integer::toString).collect(Collectors.joining(","));
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(5050);
+
+        template.sendBody("direct:start", body);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, inflight.get());
+        assertTrue(maxInflight.get() <= 3, "Should not have more than 3 in-flight, was: " + maxInflight.get());
+
+        Splitter splitter = context.getProcessor("mySplit", Splitter.class);
+        assertEquals(3, splitter.getInflightWindowSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize(","), SplitterParallelInflightWindowTest::sum)
+                        .streaming().parallelProcessing().inflightWindowSize(3).id("mySplit")
+                        .process(e -> {
+                            int current = inflight.incrementAndGet();
+                            maxInflight.accumulateAndGet(current, Math::max);
+                            Thread.sleep(5);
+                        })
+                        .process(e -> inflight.decrementAndGet())
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static Exchange sum(Exchange oldExchange, Exchange newExchange) {
+        int value = newExchange.getIn().getBody(Integer.class);
+        if (oldExchange == null) {
+            newExchange.getIn().setBody(value);
+            return newExchange;
+        }
+        oldExchange.getIn().setBody(oldExchange.getIn().getBody(Integer.class) + value);
+        return oldExchange;
+    }
+
+}
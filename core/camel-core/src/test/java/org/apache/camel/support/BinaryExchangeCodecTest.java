@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    @Test
+    public void testEncodeDecode() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.getIn().setHeader("bar", 456L);
+        exchange.getIn().setHeader(Exchange.FILE_NAME, "hello.txt");
+        exchange.getIn().setHeader("date", new Date(1000));
+        exchange.getIn().setHeader("price", new BigDecimal("1.50"));
+        exchange.getOut().setBody("Bye World");
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 3);
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        Exchange answer = decode(exchange);
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("foo"));
+        assertEquals(456L, answer.getIn().getHeader("bar"));
+        assertEquals("hello.txt", answer.getIn().getHeader(Exchange.FILE_NAME));
+        assertEquals(new Date(1000), answer.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("1.50"), answer.getIn().getHeader("price"));
+        assertEquals("Bye World", answer.getOut().getBody());
+        assertEquals(3, answer.getProperty(Exchange.AGGREGATED_SIZE));
+        assertEquals("Forced", answer.getException().getMessage());
+    }
+
+    @Test
+    public void testEncodeDecodeValues() throws Exception {
+        Map<String, Object> map = new HashMap<>();
+        map.put("foo", Arrays.asList(1, 2));
+        List<Object> values = Arrays.asList(null, "foo", "foo", Integer.MIN_VALUE, Long.MAX_VALUE, -1.5d, 2.5f,
+                (short) -3, (byte) 4, 'c', true, false, new ArrayList<>(Arrays.asList("a", 1)), map);
+
+        List<Object> answer = BinaryExchangeCodec.decodeValues(BinaryExchangeCodec.encodeValues(values));
+        assertEquals(values, answer);
+        assertTrue(answer.get(12) instanceof ArrayList);
+        assertTrue(answer.get(13) instanceof HashMap);
+
+        byte[] bytes = { 1, 2, 3 };
+        assertArrayEquals(bytes, (byte[]) BinaryExchangeCodec.decodeValues(
+                BinaryExchangeCodec.encodeValues(Arrays.asList(bytes))).get(0));
+    }
+
+    @Test
+    public void testRepeatedStringsAreWrittenOnce() throws Exception {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add("Hello World");
+        }
+        byte[] data = BinaryExchangeCodec.encodeValues(values);
+        // each repeated string is written as a back-reference of a few bytes instead of the whole string
+        assertTrue(data.length < 100 * "Hello World".length() / 2,
+                "The repeated string should be written once: " + data.length);
+        assertEquals(values, BinaryExchangeCodec.decodeValues(data));
+    }
+
+    @Test
+    public void testDecodeInvalid() throws Exception {
+        assertThrows(StreamCorruptedException.class, () -> BinaryExchangeCodec.decode(new byte[] { 1, 2, 3 }));
+        byte[] values = BinaryExchangeCodec.encodeValues(Arrays.asList("foo"));
+        assertThrows(StreamCorruptedException.class, () -> BinaryExchangeCodec.decode(values));
+        byte[] truncated = Arrays.copyOf(values, values.length - 1);
+        assertThrows(IOException.class, () -> BinaryExchangeCodec.decodeValues(truncated));
+    }
+
+    private Exchange decode(Exchange exchange) throws IOException {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        DefaultExchangeHolder decoded = BinaryExchangeCodec.decode(BinaryExchangeCodec.encode(holder));
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, decoded);
+        return answer;
+    }
+}
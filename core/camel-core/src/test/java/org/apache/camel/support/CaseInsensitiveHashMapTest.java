@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaseInsensitiveHashMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+        assertNull(map.get(null));
+        assertNull(map.get(123));
+        assertTrue(map.containsKey("fOO"));
+        assertTrue(map.keySet().contains("FoO"));
+    }
+
+    @Test
+    public void testPreserveKeyCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        assertEquals("cheese", map.put("FOO", "cake"));
+
+        assertEquals(1, map.size());
+        assertEquals("Foo", map.keySet().iterator().next());
+        assertEquals("cake", map.get("foo"));
+    }
+
+    @Test
+    public void testRemove() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        assertEquals("cheese", map.remove("FOO"));
+        assertNull(map.remove("FOO"));
+        assertEquals(1, map.size());
+        assertNull(map.get("foo"));
+        assertEquals("beer", map.get("BAR"));
+
+        map.put("Foo", "cake");
+        assertEquals(2, map.size());
+        assertEquals("cake", map.get("foo"));
+    }
+
+    @Test
+    public void testNullKey() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertThrows(NullPointerException.class, () -> map.put(null, "foo"));
+    }
+
+    @Test
+    public void testNullValue() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", null);
+        assertTrue(map.containsKey("FOO"));
+        assertNull(map.get("foo"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testIterationOrderSameAsCaseInsensitiveMap() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new CaseInsensitiveMap();
+        for (String key : new String[] { "foo", "Bar", "BAZ", "abc", "CamelFileName", "ZZZ", "beer" }) {
+            map.put(key, key.length());
+            expected.put(key, key.length());
+        }
+        map.remove("abc");
+        expected.remove("abc");
+
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        List<String> keys = new ArrayList<>();
+        map.forEach((k, v) -> keys.add(k));
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+    }
+
+    @Test
+    public void testManyKeys() {
+        Random random = new Random(1234);
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new CaseInsensitiveMap();
+        for (int i = 0; i < 5000; i++) {
+            String key = "key" + random.nextInt(500);
+            if (random.nextBoolean()) {
+                key = key.toUpperCase();
+            }
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+    }
+
+    @Test
+    public void testRemoveWhileIterating() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+        map.put("baz", "cake");
+
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().startsWith("ba")) {
+                it.remove();
+            }
+        }
+        assertEquals(1, map.size());
+        assertEquals("cheese", map.get("FOO"));
+
+        map.values().removeIf("cheese"::equals);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        Iterator<String> it = map.keySet().iterator();
+        it.next();
+        map.put("baz", "cake");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.entrySet().iterator().next().setValue("cake");
+        assertEquals("cake", map.get("FOO"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        CaseInsensitiveHashMap copy = new CaseInsensitiveHashMap(map);
+        assertEquals(map, copy);
+
+        copy.put("FOO", "cake");
+        copy.put("baz", "wine");
+        assertEquals("cheese", map.get("foo"));
+        assertEquals(2, map.size());
+        assertEquals("cake", copy.get("foo"));
+        assertEquals(3, copy.size());
+
+        // the original is also copied before changed
+        CaseInsensitiveHashMap copy2 = new CaseInsensitiveHashMap(map);
+        map.remove("bar");
+        assertEquals("beer", copy2.get("bar"));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(2, copy2.size());
+
+        copy2.entrySet().iterator().next().setValue("changed");
+        assertEquals("cake", copy.get("foo"));
+        assertEquals("beer", copy.get("bar"));
+        assertFalse(copy.containsValue("changed"));
+    }
+
+    @Test
+    public void testCopyFromOtherMap() {
+        Map<String, Object> source = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("key" + i, i);
+        }
+        Map<String, Object> map = new CaseInsensitiveHashMap(source);
+        assertEquals(100, map.size());
+        assertEquals(42, map.get("KEY42"));
+    }
+
+    @Test
+    public void testWellKnownKeysInterned() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put(new String(Exchange.FILE_NAME), "hello.txt");
+        assertSame(Exchange.FILE_NAME, map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("Bar", 123);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(map);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            copy = in.readObject();
+        }
+        assertEquals(map, copy);
+        assertEquals(123, ((Map<?, ?>) copy).get("BAR"));
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CopyOnWriteMapTest {
+
+    private static CopyOnWriteMap<String, Object> newMap() {
+        Map<String, Object> map = new TreeMap<>();
+        map.put("bar", "beer");
+        map.put("foo", "cheese");
+        return new CopyOnWriteMap<>(map, TreeMap::new);
+    }
+
+    @Test
+    public void testShareUntilChanged() {
+        CopyOnWriteMap<String, Object> map = newMap();
+        CopyOnWriteMap<String, Object> copy = map.copy();
+        assertTrue(map.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(map, copy);
+        assertEquals("cheese", copy.get("foo"));
+
+        copy.put("foo", "cake");
+        assertFalse(copy.isShared());
+        assertTrue(map.isShared());
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cake", copy.get("foo"));
+
+        map.remove("bar");
+        assertFalse(map.isShared());
+        assertEquals(1, map.size());
+        assertEquals("beer", copy.get("bar"));
+    }
+
+    @Test
+    public void testRemoveUnknownKeyDoesNotCopy() {
+        CopyOnWriteMap<String, Object> map = newMap();
+        assertNull(map.remove("unknown"));
+        assertTrue(map.isShared());
+    }
+
+    @Test
+    public void testClear() {
+        CopyOnWriteMap<String, Object> map = newMap();
+        CopyOnWriteMap<String, Object> copy = map.copy();
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertEquals(2, map.size());
+
+        copy.put("foo", "cake");
+        assertEquals(1, copy.size());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        CopyOnWriteMap<String, Object> map = newMap();
+        CopyOnWriteMap<String, Object> copy = map.copy();
+
+        Iterator<String> it = copy.keySet().iterator();
+        while (it.hasNext()) {
+            if ("bar".equals(it.next())) {
+                it.remove();
+            }
+        }
+        assertEquals(1, copy.size());
+        assertEquals(2, map.size());
+
+        copy.values().removeIf("cheese"::equals);
+        assertTrue(copy.isEmpty());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        CopyOnWriteMap<String, Object> map = newMap();
+        CopyOnWriteMap<String, Object> copy = map.copy();
+
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            keys.add(entry.getKey());
+            entry.setValue("changed");
+        }
+        assertEquals(List.of("bar", "foo"), keys);
+        assertEquals("changed", copy.get("bar"));
+        assertEquals("changed", copy.get("foo"));
+        assertEquals("beer", map.get("bar"));
+        assertEquals("cheese", map.get("foo"));
+    }
+
+}
@@ -84,6 +84,24 @@ public class DefaultTimeoutMapTest {
         assertEquals(0, map.size());
     }
 
+    @Test
+    public void testDefaultTimeoutMapContainsKeyDoesNotRefresh() throws Exception {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        // map.start(); // Do not start background purge
+
+        map.put("A", 123, 50);
+        assertTrue(map.containsKey("A"));
+        assertFalse(map.containsKey("B"));
+
+        Thread.sleep(30);
+        assertTrue(map.containsKey("A"));
+        Thread.sleep(30);
+
+        // containsKey does not update the expire time, so the entry is purged
+        map.purge();
+        assertFalse(map.containsKey("A"));
+    }
+
     @Test
     public void testDefaultTimeoutMapGetRemove() throws Exception {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
@@ -166,6 +184,43 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testExpiredManyEntries() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        // timeouts which spans several levels of the timer wheel
+        for (int i = 0; i < 1000; i++) {
+            map.put("K" + i, i, i % 2 == 0 ? 10 + i : 100000 + i);
+        }
+        map.put("X", 1, 10);
+        // refreshes the timeout
+        Thread.sleep(5);
+        map.get("X");
+        // replaces the timeout
+        map.put("K0", 0, 100000);
+        map.remove("K2");
+
+        Thread.sleep(1200);
+        map.purge();
+
+        assertEquals(500 - 2 + 1, keys.size());
+        assertTrue(keys.contains("X"));
+        assertFalse(keys.contains("K0"));
+        assertFalse(keys.contains("K2"));
+        assertEquals(500 + 1, map.size());
+        assertEquals(keys.size(), map.getEvictedCount());
+        assertTrue(map.getMaxEvictionLag() >= map.getMeanEvictionLag());
+
+        map.resetStatistics();
+        assertEquals(0, map.getEvictedCount());
+    }
+
     @Test
     public void testDefaultTimeoutMapStopStart() throws Exception {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
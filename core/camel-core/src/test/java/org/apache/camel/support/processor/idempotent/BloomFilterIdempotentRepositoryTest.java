@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends TestSupport {
+
+    private File filterFile;
+    private CountingRepository remote;
+
+    @BeforeEach
+    public void setup() {
+        filterFile = testFile("bloom/filter.dat").toFile();
+        remote = new CountingRepository();
+    }
+
+    @Test
+    public void testSkipLookupOfNewKeys() {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(remote);
+        repository.setInitiallyEmpty(true);
+        repository.start();
+
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            assertFalse(repository.contains(key));
+            assertTrue(repository.add(key));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+
+        // only the false positives of the new keys and the existing keys are checked remotely
+        assertEquals(1000 + repository.getFalsePositives(), remote.lookups.get());
+        assertEquals(1000 - repository.getFalsePositives(), repository.getSkippedLookups());
+        assertTrue(repository.getFalsePositiveRate() < 0.05, "False positive rate: " + repository.getFalsePositiveRate());
+
+        repository.stop();
+    }
+
+    @Test
+    public void testFilterNotUsedWithoutState() {
+        remote.add("foo");
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(remote, filterFile);
+        repository.start();
+
+        // the filter does not know the keys in the remote repository
+        assertFalse(repository.isFilterComplete());
+        assertTrue(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+        assertEquals(2, remote.lookups.get());
+
+        // no filter state is stored as the filter was not complete
+        repository.stop();
+        assertFalse(filterFile.exists());
+
+        // after clear the filter knows all the keys
+        repository.start();
+        repository.clear();
+        assertTrue(repository.isFilterComplete());
+        assertFalse(repository.contains("foo"));
+        assertEquals(2, remote.lookups.get());
+        repository.stop();
+    }
+
+    @Test
+    public void testStoreAndLoadFilter() {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(remote, filterFile);
+        repository.setInitiallyEmpty(true);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        repository.stop();
+        assertTrue(filterFile.exists());
+
+        repository = new BloomFilterIdempotentRepository(remote, filterFile);
+        repository.start();
+        // the memory repository is cleared when stopped, so add the keys again as if it was a remote repository
+        for (int i = 0; i < 100; i++) {
+            remote.add("key-" + i);
+        }
+        assertTrue(repository.isFilterComplete());
+        assertEquals(100, repository.getFilterSize());
+        // the file is deleted while running so a stale filter is not loaded if the JVM crashes
+        assertFalse(filterFile.exists());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+        assertEquals(100, remote.lookups.get());
+        assertFalse(repository.contains("bar"));
+        repository.stop();
+    }
+
+    @Test
+    public void testScalableFilterGrows() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.add("key-" + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+        assertTrue(filter.getSliceCount() > 1);
+
+        int falsePositives = 0;
+        for (int i = 10000; i < 20000; i++) {
+            if (filter.mightContain("key-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+        assertTrue(filter.getEstimatedFalsePositiveProbability() < 0.02);
+    }
+
+    private static final class CountingRepository extends MemoryIdempotentRepository {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public boolean contains(String key) {
+            lookups.incrementAndGet();
+            return super.contains(key);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File directory;
+    private SegmentedFileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        directory = testDirectory("segments", true).toFile();
+        repository = createRepository();
+        repository.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    private SegmentedFileIdempotentRepository createRepository() {
+        SegmentedFileIdempotentRepository answer = new SegmentedFileIdempotentRepository(directory);
+        answer.setMaxSegmentSize(1024);
+        answer.setInitialIndexCapacity(16);
+        return answer;
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        assertTrue(repository.add("foo"));
+        assertFalse(repository.add("foo"));
+        assertTrue(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+
+        assertTrue(repository.remove("foo"));
+        assertFalse(repository.remove("foo"));
+        assertFalse(repository.contains("foo"));
+
+        assertTrue(repository.add("foo"));
+        assertTrue(repository.contains("foo"));
+        assertEquals(1, repository.getKeyCount());
+    }
+
+    @Test
+    public void testManyKeysGrowIndexAndSegments() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+        assertFalse(repository.contains("key-1000"));
+        assertEquals(1000, repository.getKeyCount());
+        assertTrue(repository.getSegmentCount() > 1);
+    }
+
+    @Test
+    public void testReloadOnRestart() {
+        for (int i = 0; i < 500; i++) {
+            repository.add("key-" + i);
+        }
+        for (int i = 0; i < 500; i += 2) {
+            repository.remove("key-" + i);
+        }
+        repository.stop();
+
+        repository = createRepository();
+        repository.start();
+
+        assertEquals(250, repository.getKeyCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testCompaction() {
+        for (int i = 0; i < 500; i++) {
+            repository.add("key-" + i);
+        }
+        for (int i = 0; i < 400; i++) {
+            repository.remove("key-" + i);
+        }
+        int segments = repository.getSegmentCount();
+
+        assertTrue(repository.compact() > 0);
+        assertTrue(repository.getSegmentCount() < segments);
+        assertEquals(100, repository.getKeyCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i >= 400, repository.contains("key-" + i));
+        }
+
+        // and the compacted store can be reloaded
+        repository.stop();
+        repository = createRepository();
+        repository.start();
+
+        assertEquals(100, repository.getKeyCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i >= 400, repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testCompactionAfterRestart() {
+        for (int i = 0; i < 500; i++) {
+            repository.add("key-" + i);
+        }
+        for (int i = 0; i < 400; i++) {
+            repository.remove("key-" + i);
+        }
+        repository.stop();
+
+        // the records of the segments loaded on restart are counted, so the segments can be compacted
+        repository = createRepository();
+        repository.start();
+        assertEquals(900, repository.getRecordCount());
+        int segments = repository.getSegmentCount();
+
+        assertTrue(repository.compact() > 0);
+        assertTrue(repository.getSegmentCount() < segments);
+        assertEquals(100, repository.getKeyCount());
+        long records = repository.getRecordCount();
+        assertTrue(records < 900);
+
+        // and the record count matches the records in the compacted segments
+        repository.stop();
+        repository = createRepository();
+        repository.start();
+
+        assertEquals(records, repository.getRecordCount());
+        assertEquals(100, repository.getKeyCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i >= 400, repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        repository.add("foo");
+        repository.add("bar");
+        repository.clear();
+
+        assertFalse(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+        assertEquals(0, repository.getKeyCount());
+        assertTrue(repository.add("foo"));
+    }
+}
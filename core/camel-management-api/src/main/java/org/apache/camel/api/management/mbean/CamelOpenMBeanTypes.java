@@ -79,6 +79,22 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
     }
 
+    public static TabularType listPooledObjectTypeTabularType() throws OpenDataException {
+        CompositeType ct = listPooledObjectTypeCompositeType();
+        return new TabularType(
+                "listPooledObjectType", "Lists the statistics per pooled object type", ct, new String[] { "type" });
+    }
+
+    public static CompositeType listPooledObjectTypeCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "types", "Types",
+                new String[] { "type", "pooled", "created", "acquired", "released", "discarded", "hitRatio" },
+                new String[] { "Type", "Pooled", "Created", "Acquired", "Released", "Discarded", "HitRatio" },
+                new OpenType[] {
+                        SimpleType.STRING, SimpleType.INTEGER, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+                        SimpleType.LONG, SimpleType.DOUBLE });
+    }
+
     public static TabularType listRuntimeEndpointsTabularType() throws OpenDataException {
         CompositeType ct = listRuntimeEndpointsCompositeType();
         return new TabularType(
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedAdaptiveConcurrencyRoutePolicyMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Current limit of concurrent inflight exchanges")
+    int getLimit();
+
+    @ManagedAttribute(description = "Current number of inflight exchanges")
+    int getInflight();
+
+    @ManagedAttribute(description = "Current number of exchanges waiting because the limit is reached")
+    int getQueueSize();
+
+    @ManagedAttribute(description = "Number of exchanges rejected because the limit was reached")
+    long getRejectedExchanges();
+
+    @ManagedAttribute(description = "Average processing time in millis of the last sample")
+    double getShortProcessingTime();
+
+    @ManagedAttribute(description = "Baseline processing time in millis when not busy")
+    double getBaselineProcessingTime();
+
+    @ManagedAttribute(description = "Minimum limit")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Minimum limit")
+    void setMinLimit(int minLimit);
+
+    @ManagedAttribute(description = "Maximum limit")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum limit")
+    void setMaxLimit(int maxLimit);
+
+    @ManagedAttribute(description = "Maximum number of waiting exchanges")
+    int getMaxQueueSize();
+
+    @ManagedAttribute(description = "Maximum number of waiting exchanges")
+    void setMaxQueueSize(int maxQueueSize);
+
+    @ManagedAttribute(description = "Maximum time in millis an exchange waits")
+    long getQueueTimeout();
+
+    @ManagedAttribute(description = "Maximum time in millis an exchange waits")
+    void setQueueTimeout(long queueTimeout);
+
+    @ManagedOperation(description = "Reset the limit to the initial limit")
+    void reset();
+
+}
@@ -69,6 +69,12 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Number of locks the correlation keys are striped over")
+    int getLockStripes();
+
+    @ManagedAttribute(description = "Whether lock striping is in use")
+    boolean isLockStriping();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
@@ -105,6 +111,12 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedOperation(description = "To force discarding of all groups")
     int forceDiscardingOfAllGroups();
 
+    @ManagedAttribute(description = "Maximum time in millis from a completion timeout was due until it was triggered")
+    long getCompletionTimeoutMaxLag();
+
+    @ManagedAttribute(description = "Mean time in millis from a completion timeout was due until it was triggered")
+    long getCompletionTimeoutMeanLag();
+
     @ManagedAttribute(description = "Current number of closed correlation keys in the memory cache")
     int getClosedCorrelationKeysCacheSize();
 
@@ -59,4 +59,7 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
+    @ManagedOperation(description = "Lists the statistics per pooled object type (such as exchanges and tasks) in tabular form")
+    TabularData listStatisticsPerType();
+
 }
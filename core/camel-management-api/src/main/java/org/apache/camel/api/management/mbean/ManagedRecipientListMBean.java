@@ -51,6 +51,12 @@ public interface ManagedRecipientListMBean extends ManagedProcessorMBean, Manage
     @ManagedAttribute(description = "Shares the UnitOfWork with the parent and the resource exchange")
     Boolean isShareUnitOfWork();
 
+    @ManagedAttribute(description = "Shares the message headers and exchange properties with the sub messages until they are changed (copy-on-write)")
+    Boolean isCopyOnWrite();
+
+    @ManagedAttribute(description = "Number of message headers and exchange properties which did not have to be copied for the sub messages because of copy-on-write")
+    Long getCopiesAvoided();
+
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
@@ -26,4 +26,7 @@ public interface ManagedSplitterMBean extends ManagedMulticastMBean {
     @ManagedAttribute(description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using an xpath.")
     String getExpression();
 
+    @ManagedAttribute(description = "The maximum number of split messages that can be in-flight at the same time when using parallel processing (0 = no limit)")
+    Integer getInflightWindowSize();
+
 }
@@ -68,6 +68,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    @ManagedAttribute(description = "Whether to spool to off-heap memory instead of temporary files")
+    boolean isSpoolOffHeap();
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory to use for spooling")
+    void setSpoolOffHeapMemoryLimit(long limit);
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory to use for spooling")
+    long getSpoolOffHeapMemoryLimit();
+
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     void setAnySpoolRules(boolean any);
 
@@ -92,6 +101,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently in use by off-heap StreamCache")
+    long getOffHeapMemoryUsed();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
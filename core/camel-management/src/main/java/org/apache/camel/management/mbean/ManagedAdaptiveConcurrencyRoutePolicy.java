@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyRoutePolicyMBean;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+
+@ManagedResource(description = "Managed AdaptiveConcurrencyRoutePolicy")
+public class ManagedAdaptiveConcurrencyRoutePolicy extends ManagedService
+        implements ManagedAdaptiveConcurrencyRoutePolicyMBean {
+    private final AdaptiveConcurrencyRoutePolicy policy;
+
+    public ManagedAdaptiveConcurrencyRoutePolicy(CamelContext context, AdaptiveConcurrencyRoutePolicy policy) {
+        super(context, policy);
+        this.policy = policy;
+    }
+
+    public AdaptiveConcurrencyRoutePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public int getLimit() {
+        return getPolicy().getLimit();
+    }
+
+    @Override
+    public int getInflight() {
+        return getPolicy().getInflight();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return getPolicy().getQueueSize();
+    }
+
+    @Override
+    public long getRejectedExchanges() {
+        return getPolicy().getRejectedExchanges();
+    }
+
+    @Override
+    public double getShortProcessingTime() {
+        return getPolicy().getShortProcessingTime();
+    }
+
+    @Override
+    public double getBaselineProcessingTime() {
+        return getPolicy().getBaselineProcessingTime();
+    }
+
+    @Override
+    public int getMinLimit() {
+        return getPolicy().getMinLimit();
+    }
+
+    @Override
+    public void setMinLimit(int minLimit) {
+        getPolicy().setMinLimit(minLimit);
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return getPolicy().getMaxLimit();
+    }
+
+    @Override
+    public void setMaxLimit(int maxLimit) {
+        getPolicy().setMaxLimit(maxLimit);
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return getPolicy().getMaxQueueSize();
+    }
+
+    @Override
+    public void setMaxQueueSize(int maxQueueSize) {
+        getPolicy().setMaxQueueSize(maxQueueSize);
+    }
+
+    @Override
+    public long getQueueTimeout() {
+        return getPolicy().getQueueTimeout();
+    }
+
+    @Override
+    public void setQueueTimeout(long queueTimeout) {
+        getPolicy().setQueueTimeout(queueTimeout);
+    }
+
+    @Override
+    public void reset() {
+        getPolicy().reset();
+    }
+
+}
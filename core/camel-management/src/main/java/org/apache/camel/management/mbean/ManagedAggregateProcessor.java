@@ -153,6 +153,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return processor.getLockStripes();
+    }
+
+    @Override
+    public boolean isLockStriping() {
+        return processor.isLockStriping();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return processor.isEagerCheckCompletion();
@@ -242,6 +252,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         }
     }
 
+    @Override
+    public long getCompletionTimeoutMaxLag() {
+        return processor.getCompletionTimeoutMaxLag();
+    }
+
+    @Override
+    public long getCompletionTimeoutMeanLag() {
+        return processor.getCompletionTimeoutMeanLag();
+    }
+
     @Override
     public int getClosedCorrelationKeysCacheSize() {
         return processor.getClosedCorrelationKeysCacheSize();
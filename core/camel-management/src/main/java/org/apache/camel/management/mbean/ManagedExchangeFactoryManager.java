@@ -17,6 +17,7 @@
 package org.apache.camel.management.mbean;
 
 import java.util.Collection;
+import java.util.Map;
 
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.CompositeDataSupport;
@@ -32,6 +33,7 @@ import org.apache.camel.api.management.mbean.ManagedExchangeFactoryManagerMBean;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.PooledObjectFactory;
 import org.apache.camel.util.URISupport;
 
 @ManagedResource(description = "Managed ExchangeFactory")
@@ -143,4 +145,32 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public TabularData listStatisticsPerType() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listPooledObjectTypeTabularType());
+            Map<String, PooledObjectFactory.Statistics> types = exchangeFactoryManager.getStatisticsPerType();
+            for (Map.Entry<String, PooledObjectFactory.Statistics> entry : types.entrySet()) {
+                CompositeType ct = CamelOpenMBeanTypes.listPooledObjectTypeCompositeType();
+                String type = entry.getKey();
+                int size = exchangeFactoryManager.getPooledCounter(type);
+                long created = entry.getValue().getCreatedCounter();
+                long acquired = entry.getValue().getAcquiredCounter();
+                long released = entry.getValue().getReleasedCounter();
+                long discarded = entry.getValue().getDiscardedCounter();
+                // acquired is a hit in the pool, and created is a miss
+                double hitRatio = created + acquired > 0 ? (double) acquired / (created + acquired) : 0d;
+
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] { "type", "pooled", "created", "acquired", "released", "discarded", "hitRatio" },
+                        new Object[] { type, size, created, acquired, released, discarded, hitRatio });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
@@ -31,6 +31,12 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         this.processor = processor;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        processor.resetCopiesAvoided();
+    }
+
     @Override
     public Boolean isParallelAggregate() {
         return processor.isParallelAggregate();
@@ -56,6 +62,16 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         return processor.isShareUnitOfWork();
     }
 
+    @Override
+    public Boolean isCopyOnWrite() {
+        return processor.isCopyOnWrite();
+    }
+
+    @Override
+    public Long getCopiesAvoided() {
+        return processor.getCopiesAvoided();
+    }
+
     @Override
     public Long getTimeout() {
         return processor.getTimeout();
@@ -59,6 +59,7 @@ public class ManagedRecipientList extends ManagedProcessor implements ManagedRec
     @Override
     public void reset() {
         super.reset();
+        processor.resetCopiesAvoided();
         if (processor.getEndpointUtilizationStatistics() != null) {
             processor.getEndpointUtilizationStatistics().clear();
         }
@@ -119,6 +120,16 @@ public class ManagedRecipientList extends ManagedProcessor implements ManagedRec
         return processor.isShareUnitOfWork();
     }
 
+    @Override
+    public Boolean isCopyOnWrite() {
+        return processor.isCopyOnWrite();
+    }
+
+    @Override
+    public Long getCopiesAvoided() {
+        return processor.getCopiesAvoided();
+    }
+
     @Override
     public Long getTimeout() {
         return processor.getTimeout();
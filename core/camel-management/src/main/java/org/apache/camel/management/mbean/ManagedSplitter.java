@@ -45,4 +45,9 @@ public class ManagedSplitter extends ManagedMulticast implements ManagedSplitter
     public String getExpression() {
         return getDefinition().getExpression().getExpression();
     }
+
+    @Override
+    public Integer getInflightWindowSize() {
+        return processor.getInflightWindowSize();
+    }
 }
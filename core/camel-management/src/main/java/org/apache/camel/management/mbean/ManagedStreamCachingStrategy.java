@@ -133,6 +133,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isRemoveSpoolDirectoryWhenStopping();
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return streamCachingStrategy.isSpoolOffHeap();
+    }
+
+    @Override
+    public void setSpoolOffHeapMemoryLimit(long limit) {
+        streamCachingStrategy.setSpoolOffHeapMemoryLimit(limit);
+    }
+
+    @Override
+    public long getSpoolOffHeapMemoryLimit() {
+        return streamCachingStrategy.getSpoolOffHeapMemoryLimit();
+    }
+
     @Override
     public void setAnySpoolRules(boolean any) {
         streamCachingStrategy.setAnySpoolRules(any);
@@ -173,6 +188,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public long getOffHeapMemoryUsed() {
+        return streamCachingStrategy.getStatistics().getOffHeapMemoryUsed();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedPooledExchangeStatisticsPerTypeTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        PooledExchangeFactory pef = new PooledExchangeFactory();
+        pef.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(pef);
+        PooledProcessorExchangeFactory ppef = new PooledProcessorExchangeFactory();
+        ppef.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setProcessorExchangeFactory(ppef);
+
+        return context;
+    }
+
+    @Test
+    public void testStatisticsPerType() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "DefaultExchangeFactoryManager");
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listStatisticsPerType", null, null);
+        assertNotNull(data);
+
+        CompositeData exchange = data.get(new Object[] { "Exchange" });
+        assertNotNull(exchange);
+        // the exchange is reused for every message
+        assertEquals(1L, exchange.get("created"));
+        assertEquals(4L, exchange.get("acquired"));
+        assertEquals(0.8d, (double) exchange.get("hitRatio"), 0.001d);
+
+        CompositeData pipeline = data.get(new Object[] { "PipelineTask" });
+        assertNotNull(pipeline);
+        assertTrue((long) pipeline.get("acquired") > 0);
+        assertTrue((double) pipeline.get("hitRatio") > 0);
+
+        CompositeData internal = data.get(new Object[] { "CamelInternalTask" });
+        assertNotNull(internal);
+        assertTrue((long) internal.get("acquired") > 0);
+
+        CompositeData processor = data.get(new Object[] { "ProcessorExchange" });
+        assertNotNull(processor);
+        assertTrue((long) processor.get("created") > 0);
+
+        // reset statistics
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+        data = (TabularData) mbeanServer.invoke(on, "listStatisticsPerType", null, null);
+        assertEquals(0L, data.get(new Object[] { "PipelineTask" }).get("acquired"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=1&delay=1&repeatCount=5").noAutoStartup()
+                        .setHeader("foo", constant("bar"))
+                        .wireTap("direct:tap")
+                        .to("mock:result");
+
+                from("direct:tap")
+                        .setBody(constant("Tapped"))
+                        .to("mock:tap");
+            }
+        };
+    }
+}
@@ -24,6 +24,7 @@ import javax.management.ObjectName;
 import org.apache.camel.StreamCache;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.util.IOHelper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
@@ -80,6 +81,18 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
         cacheSize = (Long) mbeanServer.getAttribute(name, "CacheSpoolSize");
         assertEquals(0, cacheSize.longValue());
 
+        counter = (Long) mbeanServer.getAttribute(name, "CacheOffHeapCounter");
+        assertEquals(0, counter.longValue());
+
+        Long used = (Long) mbeanServer.getAttribute(name, "OffHeapMemoryUsed");
+        assertEquals(0, used.longValue());
+
+        Boolean offHeap = (Boolean) mbeanServer.getAttribute(name, "SpoolOffHeap");
+        assertEquals(Boolean.FALSE, offHeap);
+
+        Long limit = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapMemoryLimit");
+        assertEquals(StreamCachingStrategy.DEFAULT_SPOOL_OFF_HEAP_MEMORY_LIMIT, limit.longValue());
+
         String cipher = (String) mbeanServer.getAttribute(name, "SpoolCipher");
         assertNull(cipher);
 
@@ -77,6 +77,11 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         // should hit
         Long hit = (Long) mbeanServer.getAttribute(name, "HitCounter");
         assertEquals(1, hit.intValue());
+        // the type converter was resolved when converting the previous messages
+        Long cacheHit = (Long) mbeanServer.getAttribute(name, "CacheHitCounter");
+        assertEquals(1, cacheHit.intValue());
+        Long cacheMiss = (Long) mbeanServer.getAttribute(name, "CacheMissCounter");
+        assertEquals(0, cacheMiss.intValue());
         failed = (Long) mbeanServer.getAttribute(name, "FailedCounter");
         assertEquals(0, failed.intValue());
         miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
@@ -25,6 +25,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
@@ -36,6 +37,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * When {@link StreamCachingStrategy#isSpoolOffHeap()} is enabled, the content is spooled to off-heap memory instead,
+ * and only to (memory mapped) temp files when the off-heap memory limit has been reached.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -142,6 +146,8 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (tempFileManager.getOffHeapOutputStream() != null) {
+            return new OffHeapInputStreamCache(tempFileManager);
         } else {
             return tempFileManager.newStreamCache();
         }
@@ -151,8 +157,13 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates an tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            if (strategy.isSpoolOffHeap() && ObjectHelper.isEmpty(strategy.getSpoolCipher())) {
+                // spool to off-heap memory (and memory mapped tmp file if over the off-heap memory limit)
+                currentStream = tempFileManager.createOffHeapOutputStream(strategy);
+            } else {
+                // creates an tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
@@ -100,6 +100,19 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
     }
 
+    /**
+     * Gets the spool file, when the cached data can be read directly from the file, such as when transferring the file
+     * directly to a socket (zero-copy).
+     *
+     * @return the spool file, or <tt>null</tt> if the spool file is encrypted, or the stream has been partially read
+     */
+    public File getSpoolFile() {
+        if (stream == null && ciphers == null) {
+            return file;
+        }
+        return null;
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -205,6 +218,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private OffHeapOutputStream offHeapOutputStream; // off-heap (and memory mapped) output stream
         private CipherPair ciphers;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
@@ -288,18 +302,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             if (tempFile != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
-            if (closedOnCompletion && exchangeCounter.get() == 0) {
-                // exchange was already stopped -> in this case the tempFile would never be deleted.
-                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
-                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
-                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
-                String error
-                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
-                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
-                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
-                LOG.error(error);
-                throw new IOException(error);
-            }
+            checkExchangesActive();
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
@@ -329,6 +332,45 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
+        OffHeapOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (offHeapOutputStream != null || tempFile != null) {
+                throw new IllegalStateException("The method 'createOffHeapOutputStream' can only be called once!");
+            }
+            checkExchangesActive();
+            offHeapOutputStream = new OffHeapOutputStream(strategy, this);
+            outputStream = offHeapOutputStream;
+            return offHeapOutputStream;
+        }
+
+        /**
+         * Creates the temporary file used by the {@link OffHeapOutputStream} for memory mapped regions when the
+         * off-heap memory limit has been reached.
+         */
+        File createMappedFile(StreamCachingStrategy strategy) throws IOException {
+            if (tempFile != null) {
+                throw new IllegalStateException("The method 'createMappedFile' can only be called once!");
+            }
+            tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            LOG.trace("Creating temporary memory mapped stream cache file: {}", tempFile);
+            return tempFile;
+        }
+
+        private void checkExchangesActive() throws IOException {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped -> in this case the tempFile would never be deleted.
+                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
+                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
+                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
+                String error
+                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
+                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
+                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
+                LOG.error(error);
+                throw new IOException(error);
+            }
+        }
+
         FileInputStreamCache newStreamCache() throws IOException {
             try {
                 return new FileInputStreamCache(this);
@@ -347,6 +389,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
 
         void cleanUpTempFile() {
+            // release off-heap memory and memory mapped regions
+            if (offHeapOutputStream != null) {
+                offHeapOutputStream.release();
+            }
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -366,6 +412,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return ciphers;
         }
 
+        OffHeapOutputStream getOffHeapOutputStream() {
+            return offHeapOutputStream;
+        }
+
     }
 
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link StreamCache} for data spooled to off-heap memory, and memory mapped regions of a temporary file when the
+ * off-heap memory limit was reached.
+ * <p/>
+ * Copies of this stream cache share the spooled data with this stream cache, and writing to a {@link FileOutputStream}
+ * transfers the data directly from the off-heap memory without copying into the heap.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final OffHeapOutputStream spool;
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private int index;
+    private long position;
+
+    OffHeapInputStreamCache(TempFileManager tempFileManager) throws IOException {
+        this.tempFileManager = tempFileManager;
+        this.spool = tempFileManager.getOffHeapOutputStream();
+        this.buffers = spool.newReadBuffers();
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        this.length = total;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+        position = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        spool.beginRead();
+        try {
+            // write the remainder without moving the position of this stream cache
+            if (os instanceof FileOutputStream) {
+                FileChannel channel = ((FileOutputStream) os).getChannel();
+                for (int i = index; i < buffers.length; i++) {
+                    ByteBuffer buffer = buffers[i].duplicate();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } else {
+                byte[] chunk = new byte[(int) Math.min(IOHelper.DEFAULT_BUFFER_SIZE, Math.max(1, length - position))];
+                for (int i = index; i < buffers.length; i++) {
+                    ByteBuffer buffer = buffers[i].duplicate();
+                    while (buffer.hasRemaining()) {
+                        int n = Math.min(chunk.length, buffer.remaining());
+                        buffer.get(chunk, 0, n);
+                        os.write(chunk, 0, n);
+                    }
+                }
+            }
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return !spool.isMapped();
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkNotReleased();
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    @Override
+    public int read() throws IOException {
+        spool.beginRead();
+        try {
+            ByteBuffer buffer = currentBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            position++;
+            return buffer.get() & 0xff;
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        spool.beginRead();
+        try {
+            int total = 0;
+            ByteBuffer buffer;
+            while (len > 0 && (buffer = currentBuffer()) != null) {
+                int n = Math.min(len, buffer.remaining());
+                buffer.get(b, off, n);
+                off += n;
+                len -= n;
+                total += n;
+            }
+            position += total;
+            return total == 0 ? -1 : total;
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkNotReleased();
+        long total = 0;
+        ByteBuffer buffer;
+        while (n > 0 && (buffer = currentBuffer()) != null) {
+            int skip = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            n -= skip;
+            total += skip;
+        }
+        position += total;
+        return total;
+    }
+
+    private ByteBuffer currentBuffer() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private void checkNotReleased() throws IOException {
+        // the released buffers may be reused by other stream caches
+        if (spool.isReleased()) {
+            throw new IOException("Off-heap stream cache has already been released");
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link OutputStream} which spools to off-heap memory (direct byte buffers) while the off-heap memory limit of the
+ * {@link StreamCachingStrategy} permits, and to memory mapped regions of a temporary file beyond the limit.
+ * <p/>
+ * The buffers are shared (not copied) by all the {@link OffHeapInputStreamCache} created from this stream, and are
+ * released by the {@link TempFileManager} when the exchanges using them are done.
+ */
+final class OffHeapOutputStream extends OutputStream {
+
+    static final int MAPPED_REGION_SIZE = 8 * 1024 * 1024;
+
+    private final StreamCachingStrategy strategy;
+    private final TempFileManager tempFileManager;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer current;
+    // the first buffers are off-heap buffers acquired from the strategy, the remainder are memory mapped regions
+    private int offHeapBuffers;
+    private FileChannel channel;
+    private long mappedSize;
+    private long length;
+    private volatile boolean released;
+    // the number of stream caches reading the buffers, which are released when the last read completes
+    private int activeReads;
+
+    OffHeapOutputStream(StreamCachingStrategy strategy, TempFileManager tempFileManager) {
+        this.strategy = strategy;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity();
+        current.put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ensureCapacity();
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+    }
+
+    @Override
+    public void close() {
+        // the buffers are in use by the stream caches until released
+    }
+
+    long length() {
+        return length;
+    }
+
+    boolean isMapped() {
+        return channel != null;
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Creates read-only views of the data written so far, which share the underlying memory with this stream.
+     */
+    synchronized ByteBuffer[] newReadBuffers() throws IOException {
+        if (released) {
+            throw new IOException("Off-heap stream cache has already been released");
+        }
+        ByteBuffer[] answer = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < answer.length; i++) {
+            ByteBuffer view = buffers.get(i).asReadOnlyBuffer();
+            view.flip();
+            answer[i] = view;
+        }
+        return answer;
+    }
+
+    /**
+     * Marks the start of a read from the buffers, which are not released until {@link #endRead()} is called.
+     */
+    synchronized void beginRead() throws IOException {
+        if (released) {
+            throw new IOException("Off-heap stream cache has already been released");
+        }
+        activeReads++;
+    }
+
+    /**
+     * Marks the end of a read from the buffers, and releases the buffers if this stream was released during the read.
+     */
+    synchronized void endRead() {
+        activeReads--;
+        if (activeReads == 0 && released) {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * Releases the off-heap buffers back to the strategy and closes the memory mapped file, or when the buffers are
+     * being read, then when the reads complete.
+     */
+    synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (activeReads == 0) {
+            releaseBuffers();
+        }
+    }
+
+    private void releaseBuffers() {
+        for (int i = 0; i < offHeapBuffers; i++) {
+            strategy.releaseOffHeapBuffer(buffers.get(i));
+        }
+        buffers.clear();
+        current = null;
+        // the mapped regions are unmapped when garbage collected
+        IOHelper.close(channel);
+        channel = null;
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (released) {
+            throw new IOException("Off-heap stream cache has already been released");
+        }
+        if (current != null && current.hasRemaining()) {
+            return;
+        }
+        ByteBuffer next = null;
+        if (channel == null) {
+            next = strategy.acquireOffHeapBuffer();
+        }
+        if (next != null) {
+            offHeapBuffers++;
+        } else {
+            next = mapNextRegion();
+        }
+        synchronized (this) {
+            buffers.add(next);
+        }
+        current = next;
+    }
+
+    private ByteBuffer mapNextRegion() throws IOException {
+        if (channel == null) {
+            File file = tempFileManager.createMappedFile(strategy);
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        ByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, MAPPED_REGION_SIZE);
+        mappedSize += MAPPED_REGION_SIZE;
+        return region;
+    }
+
+}
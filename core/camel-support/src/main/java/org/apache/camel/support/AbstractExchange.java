@@ -132,17 +132,26 @@ class AbstractExchange implements ExtendedExchange {
 
     @Override
     public Exchange copy() {
+        return doCopy(false);
+    }
+
+    @Override
+    public Exchange copyOnWrite() {
+        return doCopy(true);
+    }
+
+    private Exchange doCopy(boolean copyOnWrite) {
         DefaultExchange exchange = new DefaultExchange(this);
 
-        exchange.setIn(getIn().copy());
+        exchange.setIn(copyMessage(getIn(), copyOnWrite));
         copyBody(getIn(), exchange.getIn());
-        if (getIn().hasHeaders()) {
+        if (isHeadersCopyNeeded(getIn(), copyOnWrite)) {
             exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
         }
         if (hasOut()) {
-            exchange.setOut(getOut().copy());
+            exchange.setOut(copyMessage(getOut(), copyOnWrite));
             copyBody(getOut(), exchange.getOut());
-            if (getOut().hasHeaders()) {
+            if (isHeadersCopyNeeded(getOut(), copyOnWrite)) {
                 exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
             }
         }
@@ -157,7 +166,11 @@ class AbstractExchange implements ExtendedExchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            copyProperties(getProperties(), exchange.getProperties());
+            if (copyOnWrite) {
+                exchange.properties = shareProperties();
+            } else {
+                copyProperties(getProperties(), exchange.getProperties());
+            }
         }
 
         if (hasSafeCopyProperties()) {
@@ -180,6 +193,26 @@ class AbstractExchange implements ExtendedExchange {
         return exchange;
     }
 
+    private static Message copyMessage(Message message, boolean copyOnWrite) {
+        if (copyOnWrite && message instanceof DefaultMessage) {
+            return ((DefaultMessage) message).copyOnWrite();
+        }
+        return message.copy();
+    }
+
+    private static boolean isHeadersCopyNeeded(Message message, boolean copyOnWrite) {
+        // the headers are shared when copy-on-write
+        return !(copyOnWrite && message instanceof DefaultMessage) && message.hasHeaders();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> shareProperties() {
+        if (!(properties instanceof CopyOnWriteMap)) {
+            properties = new CopyOnWriteMap<>(properties, ConcurrentHashMap::new);
+        }
+        return ((CopyOnWriteMap<String, Object>) properties).copy();
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -0,0 +1,503 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A compact binary codec for {@link DefaultExchangeHolder}, which can be used by the persistent aggregation
+ * repositories as a faster and smaller alternative to Java serialization of the holder.
+ * <p/>
+ * Each string which is written more than once in a record, such as the names of the headers, is only written the first
+ * time and is referred to by index afterwards, and the names of the well known Camel headers and properties are never
+ * written. The values of the common types (strings, numbers, booleans, dates, byte arrays, and array lists and maps of
+ * these) are written in binary, and any other value is written using Java serialization.
+ * <p/>
+ * A list can also be written as a number of segments of values using {@link #encodeValues(List)}, so a repository can
+ * store a list which is appended to by only writing the new elements.
+ */
+public final class BinaryExchangeCodec {
+
+    private static final int MAGIC = 0xCA;
+    private static final int VERSION = 1;
+    private static final int RECORD = 1;
+    private static final int VALUES = 2;
+
+    // the longer strings are not added to the string table, as they are unlikely to be repeated
+    private static final int MAX_TABLE_STRING_LENGTH = 64;
+
+    // the strings which are in the string table of every record, which must only be appended to
+    private static final String[] WELL_KNOWN_STRINGS = {
+            Exchange.AGGREGATED_SIZE, Exchange.AGGREGATED_TIMEOUT, Exchange.AGGREGATED_COMPLETED_BY,
+            Exchange.AGGREGATED_CORRELATION_KEY, Exchange.AGGREGATED_COLLECTION_GUARD, "CamelAggregatedFromEndpoint",
+            Exchange.BATCH_INDEX, Exchange.BATCH_SIZE, Exchange.BATCH_COMPLETE, Exchange.BREADCRUMB_ID,
+            Exchange.CHARSET_NAME, Exchange.CONTENT_ENCODING, Exchange.CONTENT_TYPE, Exchange.CORRELATION_ID,
+            Exchange.DUPLICATE_MESSAGE, Exchange.FILE_NAME, Exchange.FILE_NAME_ONLY, Exchange.FILE_NAME_CONSUMED,
+            Exchange.FILE_PATH, Exchange.FILE_PARENT, Exchange.FILE_LAST_MODIFIED, Exchange.FILE_LENGTH,
+            Exchange.HTTP_METHOD, Exchange.HTTP_PATH, Exchange.HTTP_QUERY, Exchange.HTTP_RESPONSE_CODE, Exchange.HTTP_URI,
+            Exchange.MESSAGE_TIMESTAMP, Exchange.REDELIVERED, Exchange.REDELIVERY_COUNTER, Exchange.SPLIT_INDEX,
+            Exchange.SPLIT_COMPLETE, Exchange.SPLIT_SIZE, "completed", "timeout", "size", "interval", "predicate",
+            "consumer", "force" };
+
+    private static final Map<String, Integer> WELL_KNOWN_INDEX = new HashMap<>();
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    private static final byte DOUBLE = 7;
+    private static final byte FLOAT = 8;
+    private static final byte SHORT = 9;
+    private static final byte BYTE = 10;
+    private static final byte CHAR = 11;
+    private static final byte DATE = 12;
+    private static final byte ARRAY_LIST = 13;
+    private static final byte HASH_MAP = 14;
+    private static final byte LINKED_HASH_MAP = 15;
+    private static final byte SERIALIZED = 16;
+
+    static {
+        for (int i = 0; i < WELL_KNOWN_STRINGS.length; i++) {
+            WELL_KNOWN_INDEX.put(WELL_KNOWN_STRINGS[i], i);
+        }
+    }
+
+    private BinaryExchangeCodec() {
+    }
+
+    /**
+     * Encodes the holder.
+     *
+     * @param  holder      the holder, must <b>not</b> be <tt>null</tt>
+     * @return             the encoded holder
+     * @throws IOException is thrown if a value could not be serialized
+     */
+    public static byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        Encoder encoder = new Encoder(RECORD);
+        encoder.writeString(holder.getExchangeId());
+        encoder.writeValue(holder.getInBody());
+        encoder.writeValue(holder.getOutBody());
+        encoder.writeMap(holder.getInHeaders());
+        encoder.writeMap(holder.getOutHeaders());
+        encoder.writeMap(holder.getProperties());
+        encoder.writeValue(holder.getException());
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Decodes a holder which has been encoded with {@link #encode(DefaultExchangeHolder)}.
+     *
+     * @param  data        the encoded holder
+     * @return             the holder
+     * @throws IOException is thrown if the data is not an encoded holder, or a value could not be deserialized
+     */
+    public static DefaultExchangeHolder decode(byte[] data) throws IOException {
+        Decoder decoder = new Decoder(data, RECORD);
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId(decoder.readString());
+        holder.setInBody(decoder.readValue());
+        holder.setOutBody(decoder.readValue());
+        holder.setInHeaders(decoder.readMap());
+        holder.setOutHeaders(decoder.readMap());
+        holder.setProperties(decoder.readMap());
+        Object exception = decoder.readValue();
+        if (exception != null && !(exception instanceof Exception)) {
+            throw new StreamCorruptedException("Expected an exception but was " + exception.getClass().getName());
+        }
+        holder.setException((Exception) exception);
+        return holder;
+    }
+
+    /**
+     * Encodes the values, such as the elements of a list which has been appended to since it was last stored.
+     *
+     * @param  values      the values, must <b>not</b> be <tt>null</tt>
+     * @return             the encoded values
+     * @throws IOException is thrown if a value could not be serialized
+     */
+    public static byte[] encodeValues(List<?> values) throws IOException {
+        Encoder encoder = new Encoder(VALUES);
+        encoder.writeVarLong(values.size());
+        for (Object value : values) {
+            encoder.writeValue(value);
+        }
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Decodes values which has been encoded with {@link #encodeValues(List)}.
+     *
+     * @param  data        the encoded values
+     * @return             the values
+     * @throws IOException is thrown if the data is not encoded values, or a value could not be deserialized
+     */
+    public static List<Object> decodeValues(byte[] data) throws IOException {
+        Decoder decoder = new Decoder(data, VALUES);
+        int size = decoder.readSize();
+        List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(decoder.readValue());
+        }
+        return values;
+    }
+
+    private static final class Encoder {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private byte[] buffer = new byte[256];
+        private int count;
+
+        Encoder(int kind) {
+            writeByte(MAGIC);
+            writeByte(VERSION);
+            writeByte(kind);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) b;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, count, bytes.length);
+            count += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixed64(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (value >>> shift));
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeByte(NULL);
+                return;
+            }
+            writeByte(STRING);
+            writeStringReference(value);
+        }
+
+        private void writeStringReference(String value) {
+            // 0 is followed by the string, and any other number is the index of the string in the table plus one
+            Integer index = WELL_KNOWN_INDEX.get(value);
+            if (index == null && value.length() <= MAX_TABLE_STRING_LENGTH) {
+                index = strings.get(value);
+                if (index == null) {
+                    strings.put(value, WELL_KNOWN_STRINGS.length + strings.size());
+                }
+            }
+            if (index != null) {
+                writeVarLong(index + 1L);
+            } else {
+                writeVarLong(0);
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        void writeMap(Map<?, ?> map) throws IOException {
+            if (map == null) {
+                writeByte(NULL);
+                return;
+            }
+            writeByte(LINKED_HASH_MAP);
+            writeEntries(map);
+        }
+
+        private void writeEntries(Map<?, ?> map) throws IOException {
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        void writeValue(Object value) throws IOException {
+            if (value == null) {
+                writeByte(NULL);
+                return;
+            }
+            // only the exact types are written in binary, so the values are decoded as the same type
+            Class<?> type = value.getClass();
+            if (type == String.class) {
+                writeByte(STRING);
+                writeStringReference((String) value);
+            } else if (type == byte[].class) {
+                writeByte(BYTES);
+                writeBytes((byte[]) value);
+            } else if (type == Integer.class) {
+                writeByte(INT);
+                writeZigZag((Integer) value);
+            } else if (type == Long.class) {
+                writeByte(LONG);
+                writeZigZag((Long) value);
+            } else if (type == Boolean.class) {
+                writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (type == Double.class) {
+                writeByte(DOUBLE);
+                writeFixed64(Double.doubleToRawLongBits((Double) value));
+            } else if (type == Float.class) {
+                writeByte(FLOAT);
+                writeVarLong(Integer.toUnsignedLong(Float.floatToRawIntBits((Float) value)));
+            } else if (type == Short.class) {
+                writeByte(SHORT);
+                writeZigZag((Short) value);
+            } else if (type == Byte.class) {
+                writeByte(BYTE);
+                writeByte((Byte) value);
+            } else if (type == Character.class) {
+                writeByte(CHAR);
+                writeVarLong((Character) value);
+            } else if (type == Date.class) {
+                writeByte(DATE);
+                writeZigZag(((Date) value).getTime());
+            } else if (type == ArrayList.class) {
+                List<?> list = (List<?>) value;
+                writeByte(ARRAY_LIST);
+                writeVarLong(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if (type == HashMap.class) {
+                writeByte(HASH_MAP);
+                writeEntries((Map<?, ?>) value);
+            } else if (type == LinkedHashMap.class) {
+                writeByte(LINKED_HASH_MAP);
+                writeEntries((Map<?, ?>) value);
+            } else {
+                writeByte(SERIALIZED);
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(value);
+                }
+                writeBytes(bos.toByteArray());
+            }
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + length));
+            }
+        }
+    }
+
+    private static final class Decoder {
+
+        private final List<String> strings = new ArrayList<>();
+        private final byte[] data;
+        private int position;
+
+        Decoder(byte[] data, int kind) throws IOException {
+            this.data = data;
+            if (data.length < 3 || (data[0] & 0xFF) != MAGIC) {
+                throw new StreamCorruptedException("Not encoded with " + BinaryExchangeCodec.class.getSimpleName());
+            }
+            if (data[1] != VERSION) {
+                throw new StreamCorruptedException("Unsupported version " + data[1]);
+            }
+            if (data[2] != kind) {
+                throw new StreamCorruptedException("Expected " + (kind == RECORD ? "a record" : "values"));
+            }
+            position = 3;
+        }
+
+        int readByte() throws IOException {
+            if (position >= data.length) {
+                throw new EOFException();
+            }
+            return data[position++];
+        }
+
+        byte[] readBytes() throws IOException {
+            int length = readSize();
+            if (length > data.length - position) {
+                throw new EOFException();
+            }
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed number");
+        }
+
+        int readSize() throws IOException {
+            long size = readVarLong();
+            if (size < 0 || size > data.length - position) {
+                // each element is at least one byte
+                throw new StreamCorruptedException("Malformed size " + size);
+            }
+            return (int) size;
+        }
+
+        long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readFixed64() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() throws IOException {
+            Object value = readValue();
+            if (value != null && !(value instanceof String)) {
+                throw new StreamCorruptedException("Expected a string but was " + value.getClass().getName());
+            }
+            return (String) value;
+        }
+
+        private String readStringReference() throws IOException {
+            long reference = readVarLong();
+            if (reference == 0) {
+                String value = new String(readBytes(), StandardCharsets.UTF_8);
+                if (value.length() <= MAX_TABLE_STRING_LENGTH && !WELL_KNOWN_INDEX.containsKey(value)) {
+                    strings.add(value);
+                }
+                return value;
+            }
+            long index = reference - 1;
+            if (index < WELL_KNOWN_STRINGS.length) {
+                return WELL_KNOWN_STRINGS[(int) index];
+            }
+            index -= WELL_KNOWN_STRINGS.length;
+            if (index >= strings.size()) {
+                throw new StreamCorruptedException("Unknown string reference " + reference);
+            }
+            return strings.get((int) index);
+        }
+
+        Map<String, Object> readMap() throws IOException {
+            Object value = readValue();
+            if (value != null && !(value instanceof Map)) {
+                throw new StreamCorruptedException("Expected a map but was " + value.getClass().getName());
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) value;
+            return map;
+        }
+
+        private <M extends Map<Object, Object>> M readEntries(M map) throws IOException {
+            int size = readSize();
+            for (int i = 0; i < size; i++) {
+                map.put(readValue(), readValue());
+            }
+            return map;
+        }
+
+        Object readValue() throws IOException {
+            int type = readByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readStringReference();
+                case BYTES:
+                    return readBytes();
+                case INT:
+                    return (int) readZigZag();
+                case LONG:
+                    return readZigZag();
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case DOUBLE:
+                    return Double.longBitsToDouble(readFixed64());
+                case FLOAT:
+                    return Float.intBitsToFloat((int) readVarLong());
+                case SHORT:
+                    return (short) readZigZag();
+                case BYTE:
+                    return (byte) readByte();
+                case CHAR:
+                    return (char) readVarLong();
+                case DATE:
+                    return new Date(readZigZag());
+                case ARRAY_LIST:
+                    int size = readSize();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                case HASH_MAP:
+                    return readEntries(new HashMap<>());
+                case LINKED_HASH_MAP:
+                    return readEntries(new LinkedHashMap<>());
+                case SERIALIZED:
+                    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes()))) {
+                        return ois.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException("Cannot deserialize value", e);
+                    }
+                default:
+                    throw new StreamCorruptedException("Unknown value type " + type);
+            }
+        }
+    }
+}
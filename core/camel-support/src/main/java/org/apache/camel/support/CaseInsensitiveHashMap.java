@@ -0,0 +1,520 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is optimized for storing message
+ * headers.
+ * <p/>
+ * The map is a hash map using open addressing, where the case insensitive hash of each key is computed once and stored
+ * together with the key, so lookups are O(1). The keys of the well known Camel headers (such as
+ * {@link Exchange#FILE_NAME}) are interned when added, which allows lookups using the constants to match on identity.
+ * <p/>
+ * The iteration order is the same as {@link org.apache.camel.util.CaseInsensitiveMap}, which is sorted by the case
+ * insensitive order of the keys.
+ * <p/>
+ * Copying a map using the {@link #CaseInsensitiveHashMap(CaseInsensitiveHashMap)} constructor is cheap, as the copy
+ * shares the internal state with the original map until either of the maps is changed (copy-on-write). This makes
+ * copying exchanges, such as done by the Multicast EIP, cheaper.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 4387163536426405128L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // table slots which are free, or which refer to a removed entry
+    private static final int FREE = 0;
+    private static final int REMOVED = -1;
+    private static final int[] EMPTY_ORDER = new int[0];
+    private static final Map<String, String> WELL_KNOWN_KEYS = wellKnownKeys();
+
+    // the hash table with the position + 1 of the entries
+    private int[] table;
+    // the entries in insertion order, a removed entry has a null key
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // number of positions in use (including removed entries)
+    private int count;
+    private int size;
+    // whether the internal state is shared with a copy of this map
+    private boolean shared;
+    // the positions of the entries sorted by key (lazy computed)
+    private transient int[] order;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+        init(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap) {
+            copyFrom((CaseInsensitiveHashMap) map);
+        } else {
+            init(tableSizeFor(map.size()));
+            putAll(map);
+        }
+    }
+
+    /**
+     * Creates a copy of the given map, which shares the internal state with the given map until either of the maps is
+     * changed.
+     */
+    public CaseInsensitiveHashMap(CaseInsensitiveHashMap map) {
+        copyFrom(map);
+    }
+
+    private void init(int capacity) {
+        table = new int[capacity];
+        keys = new String[capacity >> 1];
+        values = new Object[capacity >> 1];
+        hashes = new int[capacity >> 1];
+        count = 0;
+        size = 0;
+        shared = false;
+        order = EMPTY_ORDER;
+    }
+
+    private void copyFrom(CaseInsensitiveHashMap map) {
+        table = map.table;
+        keys = map.keys;
+        values = map.values;
+        hashes = map.hashes;
+        count = map.count;
+        size = map.size;
+        order = map.order;
+        // both maps must copy the state before they are changed
+        shared = true;
+        map.shared = true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            int pos = indexOf((String) key);
+            if (pos >= 0) {
+                return values[pos];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int slot = slotOf(key, hash);
+        if (slot >= 0) {
+            // preserve the case of the existing key
+            ensureNotShared();
+            int pos = table[slot] - 1;
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        ensureNotShared();
+        if (count == keys.length) {
+            resize();
+        }
+        int pos = count++;
+        keys[pos] = intern(key);
+        values[pos] = value;
+        hashes[pos] = hash;
+        table[freeSlot(hash)] = pos + 1;
+        size++;
+        order = null;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return null;
+        }
+        int slot = slotOf((String) key, hash((String) key));
+        if (slot < 0) {
+            return null;
+        }
+        return removeAt(slot);
+    }
+
+    @Override
+    public void clear() {
+        if (count == 0) {
+            return;
+        }
+        if (shared) {
+            init(table.length);
+        } else {
+            Arrays.fill(table, FREE);
+            Arrays.fill(keys, 0, count, null);
+            Arrays.fill(values, 0, count, null);
+            count = 0;
+            size = 0;
+            order = EMPTY_ORDER;
+        }
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int[] positions = order();
+        int expected = modCount;
+        for (int pos : positions) {
+            action.accept(keys[pos], values[pos]);
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * The case insensitive hash of the key, which is the same for keys that are equal ignoring case.
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 32;
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        // spread the higher bits as the table uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String key) {
+        if (size == 0) {
+            return -1;
+        }
+        int slot = slotOf(key, hash(key));
+        return slot >= 0 ? table[slot] - 1 : -1;
+    }
+
+    private int slotOf(String key, int hash) {
+        int mask = table.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            int t = table[i];
+            if (t == FREE) {
+                return -1;
+            } else if (t != REMOVED) {
+                String k = keys[t - 1];
+                if (k == key || hashes[t - 1] == hash && k.equalsIgnoreCase(key)) {
+                    return i;
+                }
+            }
+        }
+    }
+
+    private int freeSlot(int hash) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] != FREE) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private Object removeAt(int slot) {
+        ensureNotShared();
+        int pos = table[slot] - 1;
+        Object answer = values[pos];
+        // the position is not reused until the map is resized, so iterators can keep using their positions
+        table[slot] = REMOVED;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        order = null;
+        modCount++;
+        return answer;
+    }
+
+    private void ensureNotShared() {
+        if (shared) {
+            table = table.clone();
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            shared = false;
+        }
+    }
+
+    private void resize() {
+        // the table is at most half full, and the removed entries are purged
+        int[] oldHashes = hashes;
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldCount = count;
+        int capacity = tableSizeFor(size + 1);
+        if (capacity < table.length) {
+            capacity = table.length;
+        }
+        table = new int[capacity];
+        keys = new String[capacity >> 1];
+        values = new Object[capacity >> 1];
+        hashes = new int[capacity >> 1];
+        count = 0;
+        for (int i = 0; i < oldCount; i++) {
+            if (oldKeys[i] != null) {
+                int pos = count++;
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+                hashes[pos] = oldHashes[i];
+                table[freeSlot(oldHashes[i])] = pos + 1;
+            }
+        }
+        order = null;
+    }
+
+    private static int tableSizeFor(int size) {
+        // keep the table at most half full
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int[] order() {
+        int[] answer = order;
+        if (answer == null) {
+            answer = new int[size];
+            int n = 0;
+            for (int i = 0; i < count; i++) {
+                if (keys[i] != null) {
+                    answer[n++] = i;
+                }
+            }
+            sort(answer, keys);
+            order = answer;
+        }
+        return answer;
+    }
+
+    private static void sort(int[] positions, String[] keys) {
+        // insertion sort as there are usually only a few headers, and merge sort when there are many
+        if (positions.length < 32) {
+            for (int i = 1; i < positions.length; i++) {
+                int pos = positions[i];
+                int j = i - 1;
+                while (j >= 0 && String.CASE_INSENSITIVE_ORDER.compare(keys[positions[j]], keys[pos]) > 0) {
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                positions[j + 1] = pos;
+            }
+        } else {
+            mergeSort(positions.clone(), positions, 0, positions.length, keys);
+        }
+    }
+
+    private static void mergeSort(int[] src, int[] dest, int low, int high, String[] keys) {
+        if (high - low < 2) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, keys);
+        mergeSort(dest, src, mid, high, keys);
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && String.CASE_INSENSITIVE_ORDER.compare(keys[src[p]], keys[src[q]]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private static String intern(String key) {
+        String answer = WELL_KNOWN_KEYS.get(key);
+        return answer != null ? answer : key;
+    }
+
+    private static Map<String, String> wellKnownKeys() {
+        Map<String, String> answer = new HashMap<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    String key = (String) field.get(null);
+                    answer.put(key, key);
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        return answer;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final int[] positions = order();
+        private int index;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return index < positions.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (index >= positions.length) {
+                throw new NoSuchElementException();
+            }
+            last = positions[index++];
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            CaseInsensitiveHashMap.this.remove(keys[last]);
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+
+        private final int pos;
+        private final String key;
+
+        MapEntry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            ensureNotShared();
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link Map} that shares its content with other copies of the map until it is changed, at which point the map makes
+ * its own copy of the content (copy-on-write).
+ * <p/>
+ * This is used for sharing the message headers and exchange properties between an exchange and its copies, such as the
+ * copies created by the Multicast, Splitter and Recipient List EIPs, when the copies only read the headers and
+ * properties. All the maps sharing the content must be a {@link CopyOnWriteMap}, as the shared content is never
+ * changed.
+ * <p/>
+ * Iterating the map while it is changed does not fail, but iterates the content from when the iteration began.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    private final Function<Map<K, V>, Map<K, V>> copier;
+    private volatile Map<K, V> map;
+    private volatile boolean shared;
+    private Set<Entry<K, V>> entrySet;
+
+    /**
+     * Creates a map which shares the given content.
+     *
+     * @param map    the content to share, which must not be changed afterwards
+     * @param copier to create a copy of the content when this map is changed
+     */
+    public CopyOnWriteMap(Map<K, V> map, Function<Map<K, V>, Map<K, V>> copier) {
+        this.map = map;
+        this.copier = copier;
+        this.shared = true;
+    }
+
+    /**
+     * Creates a copy of this map, which shares the content with this map until either map is changed.
+     */
+    public synchronized CopyOnWriteMap<K, V> copy() {
+        shared = true;
+        return new CopyOnWriteMap<>(map, copier);
+    }
+
+    /**
+     * Whether this map still shares the content with other maps, ie this map has not been changed.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            // avoid copying when nothing is removed
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        writable().putAll(m);
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (shared) {
+            // no need to copy the content
+            map = copier.apply(Collections.emptyMap());
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Map<K, V> writable() {
+        if (shared) {
+            synchronized (this) {
+                if (shared) {
+                    map = copier.apply(map);
+                    shared = false;
+                }
+            }
+        }
+        return map;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator(map.entrySet().iterator());
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<K, V>> it;
+        private final boolean iteratingShared;
+        private Entry<K, V> last;
+
+        EntryIterator(Iterator<Entry<K, V>> it) {
+            this.it = it;
+            this.iteratingShared = shared;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            last = it.next();
+            if (iteratingShared) {
+                return new MapEntry(last.getKey(), last.getValue());
+            }
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (iteratingShared) {
+                // the shared content must not be changed
+                CopyOnWriteMap.this.remove(last.getKey());
+            } else {
+                it.remove();
+            }
+            last = null;
+        }
+    }
+
+    private final class MapEntry extends SimpleEntry<K, V> {
+
+        MapEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            writable().put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+}
@@ -23,8 +23,10 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -312,6 +314,47 @@ public class DefaultMessage extends MessageSupport {
         return new DefaultMessage(camelContext);
     }
 
+    /**
+     * Creates a copy of this message, where the headers are shared with this message until either of the messages
+     * changes the headers (copy-on-write).
+     *
+     * @return the copy
+     * @see    CopyOnWriteMap
+     */
+    public Message copyOnWrite() {
+        if (headers == null || headers.isEmpty()) {
+            // nothing to share
+            return copy();
+        }
+        Message answer = newInstance();
+        if (!(answer instanceof DefaultMessage)) {
+            answer.copyFrom(this);
+            return answer;
+        }
+
+        DefaultMessage copy = (DefaultMessage) answer;
+        CamelContextAware.trySetCamelContext(copy, camelContext);
+        CopyOnWriteMap<String, Object> shared = shareHeaders();
+        // use the same headers instance while copying so the headers are not copied
+        copy.headers = headers;
+        copy.copyFrom(this);
+        copy.headers = shared;
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CopyOnWriteMap<String, Object> shareHeaders() {
+        if (!(headers instanceof CopyOnWriteMap)) {
+            HeadersMapFactory factory = camelContext != null ? camelContext.getHeadersMapFactory() : null;
+            if (factory != null) {
+                headers = new CopyOnWriteMap<>(headers, factory::newMap);
+            } else {
+                headers = new CopyOnWriteMap<>(headers, HashMap::new);
+            }
+        }
+        return ((CopyOnWriteMap<String, Object>) headers).copy();
+    }
+
     /**
      * A factory method to lazily create the headers to make it easy to create efficient Message implementations which
      * only construct and populate the Map on demand
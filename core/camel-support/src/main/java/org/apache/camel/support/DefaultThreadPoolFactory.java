@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,15 +35,26 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * Thread pool profiles with virtual threads enabled creates executors which starts a new virtual thread per task when
+ * running on JDK 19 or newer (with preview features enabled on JDK 19 and 20), otherwise a regular thread pool is
+ * created.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
 
     @Override
@@ -62,6 +74,10 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && isVirtualThreadsSupported()) {
+            return newVirtualThreadPool(profile, factory);
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -138,4 +154,80 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         }
     }
 
+    /**
+     * Whether virtual threads are supported by the running JVM.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.FACTORY != null;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread per task.
+     *
+     * @param  threadFactory factory for creating threads (used for the thread names)
+     * @return               the created executor
+     */
+    protected ExecutorService newVirtualThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        if (!isVirtualThreadsSupported()) {
+            throw new UnsupportedOperationException("Virtual threads is not supported on this JVM");
+        }
+        ThreadFactory factory = VirtualThreads.FACTORY;
+        if (threadFactory instanceof CamelThreadFactory) {
+            CamelThreadFactory ctf = (CamelThreadFactory) threadFactory;
+            factory = runnable -> {
+                Thread answer = VirtualThreads.FACTORY.newThread(runnable);
+                answer.setName(ThreadHelper.resolveThreadName(ctf.getPattern(), ctf.getName()));
+                return answer;
+            };
+        }
+        try {
+            return (ExecutorService) VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (Exception e) {
+            throw new UnsupportedOperationException("Cannot create virtual thread executor due " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread per task. The number of tasks executing concurrently is not
+     * limited by the pool sizes (of the profile), but only by the max concurrent tasks (if set), and then the max queue
+     * size limits the number of tasks waiting to be executed.
+     *
+     * @param  profile       parameters of the thread pool
+     * @param  threadFactory factory for creating threads
+     * @return               the created executor
+     */
+    protected ExecutorService newVirtualThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        int maxConcurrentTasks = profile.getMaxConcurrentTasks() != null ? profile.getMaxConcurrentTasks() : 0;
+        int maxQueueSize = profile.getMaxQueueSize() != null ? Math.max(0, profile.getMaxQueueSize()) : 0;
+        String name = threadFactory instanceof CamelThreadFactory ? ((CamelThreadFactory) threadFactory).getName() : null;
+        return new ThreadPerTaskExecutorService(
+                newVirtualThreadPerTaskExecutor(threadFactory), maxConcurrentTasks, maxQueueSize, profile.getRejectedPolicy(),
+                name);
+    }
+
+    /**
+     * Virtual threads are resolved by reflection as they are only available on JDK 19 or newer.
+     */
+    private static final class VirtualThreads {
+
+        private static final ThreadFactory FACTORY;
+        private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+        static {
+            ThreadFactory factory = null;
+            Method method = null;
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+                method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            } catch (Throwable e) {
+                LOG.debug("Virtual threads is not supported on this JVM due: {}", e.getMessage());
+                factory = null;
+                method = null;
+            }
+            FACTORY = factory;
+            NEW_THREAD_PER_TASK_EXECUTOR = method;
+        }
+    }
+
 }
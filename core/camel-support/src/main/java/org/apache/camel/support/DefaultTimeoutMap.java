@@ -17,13 +17,15 @@
 package org.apache.camel.support;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -48,12 +50,19 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are kept in a hierarchical timer wheel, so adding, removing and expiring entries are O(1), and the purge
+ * task only visits the expired entries, instead of scanning all the entries in the map.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final TimeoutMapWheel<K, V> wheel = new TimeoutMapWheel<>(1);
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder evictionLag = new LongAdder();
+    private final AtomicLong maxEvictionLag = new AtomicLong();
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
@@ -90,12 +99,23 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            wheel.schedule(entry, currentTime());
         } finally {
             lock.unlock();
         }
         return entry.getValue();
     }
 
+    /**
+     * Whether the map contains the key, which unlike {@link #get(Object)} does not update the expire time of the entry.
+     *
+     * @param  key the key
+     * @return     <tt>true</tt> if the key is present
+     */
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
     @Override
     public V put(K key, V value, long timeoutMillis) {
         TimeoutMapEntry<K, V> entry = new TimeoutMapEntry<>(key, value, timeoutMillis);
@@ -103,6 +123,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (result != null) {
+                wheel.unschedule(result);
+            }
+            wheel.schedule(entry, currentTime());
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -119,6 +143,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                wheel.schedule(entry, currentTime());
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -133,7 +160,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (entry != null) {
+                wheel.unschedule(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -175,16 +206,19 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
+            // advance the timer wheel to find the expired entries
+            wheel.advance(now, expired);
+            for (Iterator<TimeoutMapEntry<K, V>> it = expired.iterator(); it.hasNext();) {
+                TimeoutMapEntry<K, V> entry = it.next();
+                if (isValidForEviction(entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                } else {
+                    // check again on the next purge
+                    wheel.schedule(entry, now);
+                    it.remove();
                 }
             }
 
@@ -201,6 +235,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         } finally {
             lock.unlock();
             for (TimeoutMapEntry<K, V> entry : expired) {
+                long lag = now - entry.getExpireTime();
+                evicted.increment();
+                evictionLag.add(lag);
+                maxEvictionLag.accumulateAndGet(lag, Math::max);
                 emitEvent(Evict, entry.getKey(), entry.getValue());
             }
         }
@@ -217,6 +255,37 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    /**
+     * The number of entries which has been evicted because they timed out
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * The mean time in millis from the entries timed out until they were evicted
+     */
+    public long getMeanEvictionLag() {
+        long count = evicted.sum();
+        return count > 0 ? evictionLag.sum() / count : 0;
+    }
+
+    /**
+     * The maximum time in millis from an entry timed out until it was evicted
+     */
+    public long getMaxEvictionLag() {
+        return maxEvictionLag.get();
+    }
+
+    /**
+     * Resets the eviction statistics
+     */
+    public void resetStatistics() {
+        evicted.reset();
+        evictionLag.reset();
+        maxEvictionLag.set(0);
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -277,7 +346,13 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            wheel.clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
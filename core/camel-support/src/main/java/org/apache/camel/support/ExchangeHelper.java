@@ -301,10 +301,30 @@ public final class ExchangeHelper {
      */
     public static Exchange createCorrelatedCopy(
             Exchange exchange, boolean handover, boolean useSameMessageId, Predicate<Synchronization> filter) {
+        // make sure to do a safe copy as the correlated copy can be routed independently of the source.
+        return doCreateCorrelatedCopy(exchange, exchange.copy(), handover, useSameMessageId);
+    }
+
+    /**
+     * Creates a new instance and copies from the current message exchange so that it can be forwarded to another
+     * destination as a new instance, where the message headers and exchange properties are shared with the current
+     * exchange until either of the exchanges changes them (copy-on-write). Unlike regular copy this operation will not
+     * share the same {@link org.apache.camel.spi.UnitOfWork} so its should be used for async messaging, where the
+     * original and copied exchange are independent.
+     *
+     * @param exchange original copy of the exchange
+     * @param handover whether the on completion callbacks should be handed over to the new copy.
+     * @see            ExtendedExchange#copyOnWrite()
+     */
+    public static Exchange createCorrelatedCopyOnWrite(Exchange exchange, boolean handover) {
+        Exchange copy = exchange.adapt(ExtendedExchange.class).copyOnWrite();
+        return doCreateCorrelatedCopy(exchange, copy, handover, false);
+    }
+
+    private static Exchange doCreateCorrelatedCopy(
+            Exchange exchange, Exchange copy, boolean handover, boolean useSameMessageId) {
         String id = exchange.getExchangeId();
 
-        // make sure to do a safe copy as the correlated copy can be routed independently of the source.
-        Exchange copy = exchange.copy();
         // do not reuse message id on copy
         if (!useSameMessageId) {
             if (copy.hasOut()) {
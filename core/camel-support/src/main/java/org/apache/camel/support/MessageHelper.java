@@ -34,6 +34,7 @@ import org.apache.camel.MessageHistory;
 import org.apache.camel.Route;
 import org.apache.camel.StreamCache;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
 import org.apache.camel.spi.DataTypeAware;
 import org.apache.camel.spi.ExchangeFormatter;
 import org.apache.camel.spi.HeaderFilterStrategy;
@@ -140,6 +141,44 @@ public final class MessageHelper {
         }
     }
 
+    /**
+     * Gets the file which the message body is backed by, such as a file consumed by the file component, or a stream
+     * cache spooled to disk. This allows transferring the file directly from the file system to a socket (zero-copy),
+     * instead of reading the file into memory.
+     * <p/>
+     * A file with an explicit charset is not returned, as its content must be read using the charset.
+     *
+     * @param  message the message
+     * @return         the file, or <tt>null</tt> if the message body is not backed by a readable file
+     */
+    public static File getBodyFile(Message message) {
+        if (message == null) {
+            return null;
+        }
+        Object body = message.getBody();
+        File answer = null;
+        if (body instanceof WrappedFile) {
+            if (message.getExchange() != null
+                    && message.getExchange().getProperty(ExchangePropertyKey.CHARSET_NAME) != null) {
+                return null;
+            }
+            WrappedFile<?> wrapped = (WrappedFile<?>) body;
+            if (wrapped.getFile() instanceof File) {
+                answer = (File) wrapped.getFile();
+            } else if (wrapped.getBody() instanceof File) {
+                answer = (File) wrapped.getBody();
+            }
+        } else if (body instanceof File) {
+            answer = (File) body;
+        } else if (body instanceof FileInputStreamCache) {
+            answer = ((FileInputStreamCache) body).getSpoolFile();
+        }
+        if (answer != null && answer.isFile() && answer.canRead()) {
+            return answer;
+        }
+        return null;
+    }
+
     /**
      * Returns the MIME content type on the message or <tt>null</tt> if none defined
      */
@@ -21,6 +21,8 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.PooledObjectFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
@@ -30,11 +32,13 @@ import org.apache.camel.support.service.ServiceSupport;
 public abstract class PooledObjectFactorySupport<T> extends ServiceSupport implements PooledObjectFactory<T> {
 
     protected final Object source;
-    protected UtilizationStatistics statistics;
+    protected volatile UtilizationStatistics statistics;
     protected CamelContext camelContext;
     protected BlockingQueue<T> pool;
     protected int capacity = 100;
-    protected boolean statisticsEnabled;
+    protected volatile boolean statisticsEnabled;
+    protected String type;
+    private ExchangeFactoryManager exchangeFactoryManager;
 
     public PooledObjectFactorySupport() {
         this.source = null;
@@ -50,11 +54,29 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         if (isPooled()) {
             this.pool = new ArrayBlockingQueue<>(capacity);
         }
-        if (isStatisticsEnabled()) {
+        if (isStatisticsEnabled() && statistics == null) {
             this.statistics = new UtilizationStatistics();
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (type != null && camelContext != null) {
+            exchangeFactoryManager = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactoryManager();
+            exchangeFactoryManager.addPooledObjectFactory(type, this);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (exchangeFactoryManager != null) {
+            exchangeFactoryManager.removePooledObjectFactory(type, this);
+            exchangeFactoryManager = null;
+        }
+    }
+
     @Override
     public CamelContext getCamelContext() {
         return camelContext;
@@ -72,9 +94,30 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
 
     @Override
     public void setStatisticsEnabled(boolean statisticsEnabled) {
+        if (statisticsEnabled && statistics == null) {
+            // statistics can be enabled at runtime, so create the statistics before enabling them, as the pooled objects
+            // are acquired and released concurrently
+            this.statistics = new UtilizationStatistics();
+        }
         this.statisticsEnabled = statisticsEnabled;
     }
 
+    /**
+     * The type of the pooled objects, such as <tt>PipelineTask</tt>.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * The type of the pooled objects, such as <tt>PipelineTask</tt>. When a type is set, then this factory is
+     * registered in the {@link ExchangeFactoryManager} when started, so its usage is included in the statistics per
+     * pooled object type.
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
     @Override
     public int getSize() {
         if (pool != null) {
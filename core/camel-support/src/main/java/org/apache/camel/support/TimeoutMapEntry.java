@@ -24,6 +24,11 @@ import org.apache.camel.TimeoutMap;
  * Represents an entry in a {@link TimeoutMap}
  */
 public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V> {
+    // used by the timer wheel of the timeout map
+    long expireTick;
+    TimeoutMapEntry<K, V> prev;
+    TimeoutMapEntry<K, V> next;
+
     private K key;
     private V value;
     private long timeout;
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+
+/**
+ * A hierarchical hashed timer wheel of {@link TimeoutMapEntry}s, which is used by {@link DefaultTimeoutMap} to find the
+ * expired entries without scanning all the entries.
+ * <p/>
+ * The wheel has a number of levels with 64 buckets each, where a bucket on the first level spans one tick, and a bucket
+ * on each next level spans 64 times the ticks of a bucket on the previous level. An entry is added to the bucket of the
+ * lowest level which can hold its expire time, and is moved (cascaded) to a lower level when the wheel advances to its
+ * bucket. Adding and removing entries are O(1), and advancing the wheel only visits the buckets which has passed.
+ * <p/>
+ * This class is not thread safe, and is guarded by the lock of the timeout map.
+ */
+final class TimeoutMapWheel<K, V> {
+
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final TimeoutMapEntry<K, V>[][] buckets;
+    private long currentTick = Long.MIN_VALUE;
+
+    @SuppressWarnings("unchecked")
+    TimeoutMapWheel(long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new TimeoutMapEntry[LEVELS][SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < SIZE; i++) {
+                // each bucket is a circular doubly linked list with a sentinel
+                TimeoutMapEntry<K, V> sentinel = new TimeoutMapEntry<>(null, null, 0);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                buckets[level][i] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Adds the entry to the wheel, or moves the entry if its expire time has changed
+     */
+    void schedule(TimeoutMapEntry<K, V> entry, long now) {
+        unschedule(entry);
+        if (currentTick == Long.MIN_VALUE) {
+            currentTick = Math.floorDiv(now, tickMillis);
+        }
+        // the entry expires at the first tick after its expire time
+        entry.expireTick = Math.floorDiv(entry.getExpireTime(), tickMillis) + 1;
+        link(bucketFor(entry.expireTick), entry);
+    }
+
+    /**
+     * Removes the entry from the wheel
+     */
+    void unschedule(TimeoutMapEntry<K, V> entry) {
+        if (entry.next != null) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time, and removes the expired entries from the wheel
+     *
+     * @param now     the current time
+     * @param expired the list to add the expired entries to
+     */
+    void advance(long now, List<TimeoutMapEntry<K, V>> expired) {
+        long nowTick = Math.floorDiv(now, tickMillis);
+        if (currentTick == Long.MIN_VALUE || nowTick <= currentTick) {
+            return;
+        }
+        long previousTick = currentTick;
+        currentTick = nowTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * level;
+            long previous = previousTick >> shift;
+            long current = nowTick >> shift;
+            if (current == previous) {
+                // the higher levels has not advanced either
+                break;
+            }
+            long steps = Math.min(current - previous, SIZE);
+            for (long i = 1; i <= steps; i++) {
+                expireBucket(buckets[level][(int) ((previous + i) & MASK)], nowTick, expired);
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries from the wheel
+     */
+    void clear() {
+        for (TimeoutMapEntry<K, V>[] level : buckets) {
+            for (TimeoutMapEntry<K, V> sentinel : level) {
+                TimeoutMapEntry<K, V> entry = sentinel.next;
+                while (entry != sentinel) {
+                    TimeoutMapEntry<K, V> next = entry.next;
+                    entry.prev = null;
+                    entry.next = null;
+                    entry = next;
+                }
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+            }
+        }
+        currentTick = Long.MIN_VALUE;
+    }
+
+    private void expireBucket(TimeoutMapEntry<K, V> sentinel, long nowTick, List<TimeoutMapEntry<K, V>> expired) {
+        // detach the entries of the bucket, and then either expire or cascade them to a lower level
+        TimeoutMapEntry<K, V> entry = sentinel.next;
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        while (entry != sentinel) {
+            TimeoutMapEntry<K, V> next = entry.next;
+            entry.prev = null;
+            entry.next = null;
+            if (entry.expireTick <= nowTick) {
+                expired.add(entry);
+            } else {
+                link(bucketFor(entry.expireTick), entry);
+            }
+            entry = next;
+        }
+    }
+
+    private TimeoutMapEntry<K, V> bucketFor(long expireTick) {
+        // overdue entries are expired on the next tick
+        long tick = Math.max(expireTick, currentTick + 1);
+        long delta = tick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                return buckets[level][(int) ((tick >> (BITS * level)) & MASK)];
+            }
+        }
+        // beyond the range of the wheel, so add to the last bucket of the highest level and cascade it from there
+        int shift = BITS * (LEVELS - 1);
+        return buckets[LEVELS - 1][(int) (((currentTick >> shift) - 1) & MASK)];
+    }
+
+    private static <K, V> void link(TimeoutMapEntry<K, V> sentinel, TimeoutMapEntry<K, V> entry) {
+        // add to the tail so entries are expired in the order they were added
+        entry.prev = sentinel.prev;
+        entry.next = sentinel;
+        sentinel.prev.next = entry;
+        sentinel.prev = entry;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for thread pools that starts a new virtual thread per task (JDK 19 or newer), instead of pooling platform
+ * threads.
+ * <p/>
+ * This is useful for routes that uses blocking producers (such as JDBC, SQL, HTTP or files), where the thread pools
+ * otherwise must be sized in the hundreds. The number of tasks executing concurrently is not limited by the pool sizes
+ * of the thread pool profiles (such as the default max pool size of 20), but only by their max concurrent tasks (if
+ * set), and then the max queue size is the maximum number of tasks waiting to be executed. These limits are enforced by
+ * semaphores, as virtual threads should not be pooled.
+ * <p/>
+ * Scheduled thread pools are not affected and uses platform threads. When virtual threads is not supported by the JVM
+ * then this factory creates regular thread pools, the same as {@link DefaultThreadPoolFactory}.
+ */
+public class VirtualThreadPoolFactory extends DefaultThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolFactory.class);
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (isVirtualThreadsSupported()) {
+            return newVirtualThreadPerTaskExecutor(threadFactory);
+        }
+        return super.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (isVirtualThreadsSupported() && !Boolean.FALSE.equals(profile.getVirtualThreads())) {
+            return newVirtualThreadPool(profile, factory);
+        }
+        return super.newThreadPool(profile, factory);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (!isVirtualThreadsSupported()) {
+            LOG.warn("Virtual threads is not supported on this JVM (requires JDK 19 or newer). Using regular thread pools.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadPoolFactory";
+    }
+}
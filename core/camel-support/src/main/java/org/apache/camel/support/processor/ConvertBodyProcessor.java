@@ -22,9 +22,13 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
@@ -43,6 +47,8 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    // the type converter bound for the type of the last converted body
+    private volatile BoundTypeConverter bound;
 
     public ConvertBodyProcessor(Class<?> type) {
         ObjectHelper.notNull(type, "type", this);
@@ -112,13 +118,7 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
             // have explicit configured and expects to be used
             exchange.setProperty(ExchangePropertyKey.CHARSET_NAME, charset);
         }
-        // use mandatory conversion
-        Object value;
-        if (mandatory) {
-            value = old.getMandatoryBody(type);
-        } else {
-            value = old.getBody(type);
-        }
+        Object value = convertBody(exchange, old);
 
         // create a new message container so we do not drag specialized message objects along
         // but that is only needed if the old message is a specialized message
@@ -146,6 +146,52 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
         }
     }
 
+    private Object convertBody(Exchange exchange, Message message) throws InvalidPayloadException {
+        Object body = message.getBody();
+        if (type.isInstance(body)) {
+            return body;
+        }
+
+        // use the bound type converter directly if the body is of the same type as last time
+        // (unless statistics is enabled as then the conversions must be counted by the type converter registry)
+        Class<?> fromType = body.getClass();
+        BoundTypeConverter bound = this.bound;
+        if (bound != null && bound.fromType == fromType && !bound.statistics.isStatisticsEnabled()) {
+            Object value;
+            try {
+                value = bound.converter.convertTo(type, exchange, body);
+            } catch (Exception e) {
+                TypeConversionException cause = e instanceof TypeConversionException
+                        ? (TypeConversionException) e : new TypeConversionException(body, type, e);
+                if (mandatory) {
+                    throw new InvalidPayloadException(exchange, type, message, cause);
+                }
+                throw cause;
+            }
+            if (value != null && value != TypeConverter.MISS_VALUE) {
+                return value;
+            }
+        }
+
+        // use mandatory conversion
+        Object value;
+        if (mandatory) {
+            value = message.getMandatoryBody(type);
+        } else {
+            value = message.getBody(type);
+        }
+
+        if (value != null && (bound == null || bound.fromType != fromType)) {
+            // bind the type converter which is used for the type of the body, so we can use it directly next time
+            TypeConverterRegistry registry = exchange.getContext().getTypeConverterRegistry();
+            TypeConverter converter = registry.resolveTypeConverter(type, fromType);
+            if (converter != null) {
+                this.bound = new BoundTypeConverter(fromType, converter, registry.getStatistics());
+            }
+        }
+        return value;
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
@@ -179,6 +225,19 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        // the type converters may change when restarted
+        bound = null;
+    }
+
+    private static final class BoundTypeConverter {
+        private final Class<?> fromType;
+        private final TypeConverter converter;
+        private final TypeConverterRegistry.Statistics statistics;
+
+        private BoundTypeConverter(Class<?> fromType, TypeConverter converter, TypeConverterRegistry.Statistics statistics) {
+            this.fromType = fromType;
+            this.converter = converter;
+            this.statistics = statistics;
+        }
     }
 }
@@ -0,0 +1,401 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.IdempotentRepository} which wraps another (usually remote) repository with an
+ * in-process {@link ScalableBloomFilter} of all the keys in the repository.
+ * <p/>
+ * When the filter tells that a key is definitely new, then <tt>contains</tt> returns <tt>false</tt> without calling the
+ * wrapped repository, which saves a network round-trip for each new message when the idempotent consumer is not using
+ * eager mode. Only keys which might be in the filter are confirmed by the wrapped repository. The keys are always added
+ * to and removed from the wrapped repository.
+ * <p/>
+ * The filter must know all the keys in the wrapped repository. Therefore the filter state can be stored in a file when
+ * the repository is stopped, and loaded again when the repository is started. The file is deleted when loaded, so if
+ * the JVM is not stopped gracefully, then there is no filter state on the next start. When there is no filter state
+ * then the filter is not used to skip calling the wrapped repository (unless {@link #setInitiallyEmpty(boolean)} is
+ * enabled), until the repository is cleared, as the wrapped repository may have keys which are not in the filter.
+ * <p/>
+ * <b>Important:</b> the wrapped repository must only be updated through this repository. A repository which is shared
+ * by several nodes (such as a JDBC repository used by a cluster of applications) has keys added by the other nodes,
+ * which are not in the filter of this node, and so these keys are wrongly told to be new.
+ */
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private CamelContext camelContext;
+    private IdempotentRepository repository;
+    private File filterFile;
+    private long initialCapacity = 100000;
+    private double falsePositiveProbability = 0.01;
+    private boolean initiallyEmpty;
+
+    // adding keys (to the filter and then the repository) must not interleave with clearing the repository and filter,
+    // as then the key could be in the repository without being in the filter
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+
+    private volatile ScalableBloomFilter filter;
+    private volatile boolean filterComplete;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository, File filterFile) {
+        this.repository = repository;
+        this.filterFile = filterFile;
+    }
+
+    /**
+     * Creates a new repository which wraps the given repository with a Bloom filter.
+     *
+     * @param repository the repository to wrap
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(IdempotentRepository repository) {
+        return new BloomFilterIdempotentRepository(repository);
+    }
+
+    /**
+     * Creates a new repository which wraps the given repository with a Bloom filter, which state is stored in the given
+     * file.
+     *
+     * @param repository the repository to wrap
+     * @param filterFile the file for storing the filter state
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(IdempotentRepository repository, File filterFile) {
+        return new BloomFilterIdempotentRepository(repository, filterFile);
+    }
+
+    @Override
+    public boolean add(String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            // add to the filter first, so the key is never in the repository without being in the filter
+            filter.add(key);
+            return repository.add(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            // add to the filter first, so the key is never in the repository without being in the filter
+            filter.add(key);
+            return repository.add(exchange, key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        if (isDefinitelyNew(key)) {
+            return false;
+        }
+        return confirmContains(repository.contains(key));
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        if (isDefinitelyNew(key)) {
+            return false;
+        }
+        return confirmContains(repository.contains(exchange, key));
+    }
+
+    @Override
+    public boolean remove(String key) {
+        // keys cannot be removed from the filter, which then returns a false positive for the key
+        return repository.remove(key);
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return repository.remove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        Lock lock = clearLock.writeLock();
+        lock.lock();
+        try {
+            repository.clear();
+            filter.clear();
+            filterComplete = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * The repository to wrap with the Bloom filter.
+     */
+    public void setRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    public File getFilterFile() {
+        return filterFile;
+    }
+
+    /**
+     * The file for storing the filter state when the repository is stopped, and which is loaded when the repository is
+     * started.
+     */
+    public void setFilterFile(File filterFile) {
+        this.filterFile = filterFile;
+    }
+
+    @ManagedAttribute(description = "The number of keys of the first Bloom filter slice")
+    public long getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    /**
+     * Sets the number of keys of the first Bloom filter slice. When the slice is full then a new slice is added with
+     * twice the capacity.
+     * <p/>
+     * The default is 100000.
+     */
+    public void setInitialCapacity(long initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    @ManagedAttribute(description = "The configured false positive probability")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the probability (between 0 and 1) that the filter tells a new key might be in the repository, which then is
+     * checked by the wrapped repository.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public boolean isInitiallyEmpty() {
+        return initiallyEmpty;
+    }
+
+    /**
+     * Whether the wrapped repository is known to be empty when there is no stored filter state, such as the first time
+     * the repository is used. Otherwise the filter is not used to skip calling the wrapped repository until the
+     * repository is cleared, as the wrapped repository may have keys which are not in the filter.
+     */
+    public void setInitiallyEmpty(boolean initiallyEmpty) {
+        this.initiallyEmpty = initiallyEmpty;
+    }
+
+    @ManagedAttribute(description = "Whether the filter knows all the keys and is used to skip calling the wrapped repository")
+    public boolean isFilterComplete() {
+        return filterComplete;
+    }
+
+    @ManagedAttribute(description = "The number of keys added to the filter")
+    public long getFilterSize() {
+        return filter != null ? filter.getSize() : 0;
+    }
+
+    @ManagedAttribute(description = "The memory used by the filter in bytes")
+    public long getFilterSizeInBytes() {
+        return filter != null ? filter.getSizeInBytes() : 0;
+    }
+
+    @ManagedAttribute(description = "The number of Bloom filter slices")
+    public int getFilterSliceCount() {
+        return filter != null ? filter.getSliceCount() : 0;
+    }
+
+    @ManagedAttribute(description = "The number of lookups skipped as the key was definitely new")
+    public long getSkippedLookups() {
+        return skipped.sum();
+    }
+
+    @ManagedAttribute(description = "The number of lookups where the filter told the key might exist")
+    public long getFilterPositives() {
+        return positives.sum();
+    }
+
+    @ManagedAttribute(description = "The number of lookups where the filter told the key might exist but it did not")
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    @ManagedAttribute(description = "The ratio of lookups of new keys where the filter told the key might exist")
+    public double getFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long total = fp + skipped.sum();
+        return total > 0 ? (double) fp / total : 0;
+    }
+
+    @ManagedAttribute(description = "The false positive probability estimated from the number of keys in the filter")
+    public double getEstimatedFalsePositiveProbability() {
+        return filter != null ? filter.getEstimatedFalsePositiveProbability() : 0;
+    }
+
+    @ManagedOperation(description = "Reset the counters")
+    public void resetStatistics() {
+        skipped.reset();
+        positives.reset();
+        falsePositives.reset();
+    }
+
+    private boolean isDefinitelyNew(String key) {
+        if (filterComplete && !filter.mightContain(key)) {
+            skipped.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean confirmContains(boolean contains) {
+        if (filterComplete) {
+            positives.increment();
+            if (!contains) {
+                falsePositives.increment();
+            }
+        }
+        return contains;
+    }
+
+    private void saveFilter() throws IOException {
+        ObjectHelper.notNull(filterFile, "filterFile", this);
+
+        // write to a temporary file first so the filter file is not corrupt if writing fails
+        File tmp = new File(filterFile.getPath() + ".tmp");
+        File parent = filterFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory: " + parent);
+        }
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp.toPath()))) {
+            filter.writeTo(new DataOutputStream(os));
+        }
+        Files.move(tmp.toPath(), filterFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        LOG.debug("Stored Bloom filter with {} keys in file: {}", filter.getSize(), filterFile);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        CamelContextAware.trySetCamelContext(repository, camelContext);
+        ServiceHelper.startService(repository);
+
+        filter = null;
+        filterComplete = false;
+        if (filterFile != null && filterFile.exists()) {
+            try (InputStream is = new BufferedInputStream(Files.newInputStream(filterFile.toPath()))) {
+                filter = ScalableBloomFilter.readFrom(new DataInputStream(is));
+                filterComplete = true;
+                LOG.debug("Loaded Bloom filter with {} keys from file: {}", filter.getSize(), filterFile);
+            } catch (IOException e) {
+                LOG.warn(
+                        "Cannot load Bloom filter from file: {} due {}. The filter is not used until the repository is cleared.",
+                        filterFile, e.getMessage(), e);
+            }
+            // the file is stored again when stopping, so if not stopped gracefully then the stale filter is not loaded
+            FileUtil.deleteFile(filterFile);
+        }
+        if (filter == null) {
+            filter = new ScalableBloomFilter(initialCapacity, falsePositiveProbability);
+            filterComplete = initiallyEmpty;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (filterFile != null && filterComplete) {
+            try {
+                saveFilter();
+            } catch (IOException e) {
+                LOG.warn("Cannot store Bloom filter in file: {} due {}", filterFile, e.getMessage(), e);
+            }
+        }
+        ServiceHelper.stopService(repository);
+    }
+}
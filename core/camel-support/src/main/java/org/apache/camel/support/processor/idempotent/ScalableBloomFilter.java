@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A scalable Bloom filter, which is a probabilistic set of keys that can tell whether a key is <b>definitely not</b> in
+ * the set, or <b>might be</b> in the set.
+ * <p/>
+ * The filter consists of a series of Bloom filters (slices). When the current slice is full then a new slice is added
+ * with twice the capacity and half the false positive probability, so the overall false positive probability stays
+ * below the configured probability no matter how many keys are added.
+ * <p/>
+ * Adding and looking up keys are lock-free, as the bits are set using compare-and-set. Keys cannot be removed.
+ */
+public class ScalableBloomFilter {
+
+    private static final int MAGIC = 0x43424c46;
+    private static final int VERSION = 1;
+    private static final double LN2 = Math.log(2);
+
+    private final long initialCapacity;
+    private final double falsePositiveProbability;
+    private volatile Slice[] slices;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param initialCapacity          the number of keys of the first slice
+     * @param falsePositiveProbability the overall false positive probability (between 0 and 1)
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("InitialCapacity must be positive, was: " + initialCapacity);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.slices = new Slice[] { newSlice(0) };
+    }
+
+    /**
+     * Whether the key might be in the set. If this method returns <tt>false</tt> then the key is definitely not in the
+     * set.
+     */
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the key to the set.
+     *
+     * @return <tt>true</tt> if the key was added, or <tt>false</tt> if the key might already be in the set
+     */
+    public boolean add(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        Slice[] current = slices;
+        for (Slice slice : current) {
+            if (slice.mightContain(h1, h2)) {
+                return false;
+            }
+        }
+        Slice last = current[current.length - 1];
+        if (last.count.get() >= last.capacity) {
+            last = grow(current);
+        }
+        last.add(h1, h2);
+        return true;
+    }
+
+    /**
+     * Removes all the keys from the set.
+     */
+    public synchronized void clear() {
+        slices = new Slice[] { newSlice(0) };
+    }
+
+    public long getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The number of keys added to the set
+     */
+    public long getSize() {
+        long answer = 0;
+        for (Slice slice : slices) {
+            answer += slice.count.get();
+        }
+        return answer;
+    }
+
+    /**
+     * The number of slices (Bloom filters) in the set
+     */
+    public int getSliceCount() {
+        return slices.length;
+    }
+
+    /**
+     * The memory used by the bits of all the slices, in bytes
+     */
+    public long getSizeInBytes() {
+        long answer = 0;
+        for (Slice slice : slices) {
+            answer += slice.bits.length() * 8L;
+        }
+        return answer;
+    }
+
+    /**
+     * The estimated probability that {@link #mightContain(String)} returns <tt>true</tt> for a key which is not in the
+     * set, computed from the number of keys in each slice.
+     */
+    public double getEstimatedFalsePositiveProbability() {
+        double none = 1;
+        for (Slice slice : slices) {
+            double fill = 1 - Math.exp(-(double) slice.hashes * slice.count.get() / slice.size);
+            none *= 1 - Math.pow(fill, slice.hashes);
+        }
+        return 1 - none;
+    }
+
+    /**
+     * Writes the state of the filter, which can be read again using {@link #readFrom(DataInput)}.
+     * <p/>
+     * Keys which are added while writing may or may not be included.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        Slice[] current = slices;
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(initialCapacity);
+        out.writeDouble(falsePositiveProbability);
+        out.writeInt(current.length);
+        for (Slice slice : current) {
+            out.writeLong(slice.capacity);
+            out.writeLong(slice.count.get());
+            out.writeInt(slice.hashes);
+            out.writeInt(slice.bits.length());
+            for (int i = 0; i < slice.bits.length(); i++) {
+                out.writeLong(slice.bits.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reads the state of a filter written by {@link #writeTo(DataOutput)}.
+     */
+    public static ScalableBloomFilter readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Bloom filter");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported Bloom filter version: " + version);
+        }
+        ScalableBloomFilter answer = new ScalableBloomFilter(in.readLong(), in.readDouble());
+        Slice[] slices = new Slice[in.readInt()];
+        for (int s = 0; s < slices.length; s++) {
+            long capacity = in.readLong();
+            long count = in.readLong();
+            int hashes = in.readInt();
+            long[] bits = new long[in.readInt()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = in.readLong();
+            }
+            slices[s] = new Slice(capacity, hashes, new AtomicLongArray(bits));
+            slices[s].count.set(count);
+        }
+        answer.slices = slices;
+        return answer;
+    }
+
+    private synchronized Slice grow(Slice[] current) {
+        Slice[] existing = slices;
+        if (existing != current) {
+            // another thread has already added a new slice
+            return existing[existing.length - 1];
+        }
+        Slice[] answer = new Slice[existing.length + 1];
+        System.arraycopy(existing, 0, answer, 0, existing.length);
+        answer[existing.length] = newSlice(existing.length);
+        slices = answer;
+        return answer[existing.length];
+    }
+
+    private Slice newSlice(int number) {
+        // the capacity doubles and the false positive probability halves for every slice, so the sum of the false
+        // positive probabilities of all the slices converges to the configured probability
+        long capacity = initialCapacity << Math.min(number, 30);
+        double probability = falsePositiveProbability * 0.5 * Math.pow(0.5, number);
+        long size = (long) Math.ceil(-capacity * Math.log(probability) / (LN2 * LN2));
+        int hashes = Math.max(1, (int) Math.round((double) size / capacity * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (size + 63) / 64);
+        return new Slice(capacity, hashes, new AtomicLongArray(words));
+    }
+
+    private static long hash(String key) {
+        // FNV-1a followed by the murmur3 finalizer
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Slice {
+        private final long capacity;
+        private final int hashes;
+        private final long size;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        private Slice(long capacity, int hashes, AtomicLongArray bits) {
+            this.capacity = capacity;
+            this.hashes = hashes;
+            this.bits = bits;
+            this.size = bits.length() * 64L;
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            long h = h1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h, size);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                h += h2;
+            }
+            return true;
+        }
+
+        private void add(long h1, long h2) {
+            long h = h1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h, size);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = bits.get(index);
+                while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                    word = bits.get(index);
+                }
+                h += h2;
+            }
+            count.incrementAndGet();
+        }
+    }
+}
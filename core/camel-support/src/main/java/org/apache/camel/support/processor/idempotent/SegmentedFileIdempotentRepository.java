@@ -0,0 +1,819 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in append-only
+ * log segments in a directory.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} all the keys are kept, as there is no 1st-level cache which can evict keys,
+ * and the file store is never scanned or rewritten when looking up or removing keys. Instead the keys are indexed in an
+ * on-disk hash index which is memory-mapped (so the index does not take up heap memory), and checking whether a key
+ * exists does not use any locking and does not become slower as the number of keys grows.
+ * <p/>
+ * Added keys are appended to the current log segment, and removed keys are appended as tombstones. When the current
+ * segment is full then a new segment is created. The oldest segment is compacted in the background (if a
+ * {@link CamelContext} has been set) when the ratio of garbage records (removed keys and tombstones) hits the
+ * {@link #setCompactionThreshold(double)}, by appending the keys that are still in use to the current segment, and then
+ * deleting the old segment.
+ * <p/>
+ * The hash index is re-built from the log segments when the repository is started.
+ */
+@ManagedResource(description = "Segmented file based idempotent repository")
+public class SegmentedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileIdempotentRepository.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_PREFIX = "index-";
+    private static final String INDEX_SUFFIX = ".dat";
+
+    // a record is the type (1 byte), the length of the key (4 bytes) followed by the key as utf-8 bytes
+    private static final byte RECORD_END = 0;
+    private static final byte RECORD_ADD = 1;
+    private static final byte RECORD_REMOVE = 2;
+    private static final int RECORD_HEADER_SIZE = 5;
+
+    private static final long TOMBSTONE = -1;
+    private static final long NOT_FOUND = -1;
+    private static final long RETRY = -2;
+
+    private final Lock lock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicLong compactions = new AtomicLong();
+
+    private CamelContext camelContext;
+    private File directory;
+    private int maxSegmentSize = 64 * 1024 * 1024;
+    private long initialIndexCapacity = 1024 * 1024;
+    private double compactionThreshold = 0.5;
+    private long compactionInterval = 60000;
+    private boolean syncOnWrite;
+
+    private volatile HashIndex index;
+    private volatile Segment activeSegment;
+    private volatile long keyCount;
+    private volatile long recordCount;
+    private int nextIndexId;
+    private ScheduledExecutorService compactionExecutorService;
+
+    public SegmentedFileIdempotentRepository() {
+    }
+
+    public SegmentedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new segmented file based repository which stores the log segments in the given directory.
+     *
+     * @param directory the directory for the log segments
+     */
+    public static IdempotentRepository segmentedFileIdempotentRepository(File directory) {
+        return new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+
+        lock.lock();
+        try {
+            if (findSlot(index, bytes, hash) >= 0) {
+                return false;
+            }
+            long location = append(RECORD_ADD, bytes);
+            insert(hash, location);
+            keyCount++;
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+
+        long slot = findSlot(index, bytes, hash);
+        if (slot == RETRY) {
+            // the segment was concurrently removed by compaction, so lookup again while holding the lock
+            lock.lock();
+            try {
+                slot = findSlot(index, bytes, hash);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return slot >= 0;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+
+        lock.lock();
+        try {
+            HashIndex current = index;
+            long slot = findSlot(current, bytes, hash);
+            if (slot < 0) {
+                return false;
+            }
+            long location = current.getLocation(slot);
+            append(RECORD_REMOVE, bytes);
+            current.setLocation(slot, TOMBSTONE);
+            segments.get(segmentId(location)).live--;
+            keyCount--;
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            int nextId = activeSegment != null ? activeSegment.id + 1 : 0;
+            for (Segment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            keyCount = 0;
+            recordCount = 0;
+            activeSegment = openSegment(nextId);
+            newIndex(initialIndexCapacity);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the oldest log segments, if the ratio of garbage records is at or above the compaction threshold.
+     *
+     * @return the number of segments compacted
+     */
+    @ManagedOperation(description = "Compacts the oldest log segments if the ratio of garbage records is above the threshold")
+    public int compact() {
+        Segment active = activeSegment;
+        if (active == null) {
+            return 0;
+        }
+        // only compact the segments which exists now, so we do not keep compacting the segments we append to
+        int lastId = active.id;
+        int compacted = 0;
+        while (isRunAllowed()) {
+            Map.Entry<Integer, Segment> oldest = segments.firstEntry();
+            if (oldest == null || oldest.getKey() >= lastId || !isCompactionNeeded(oldest.getValue())) {
+                break;
+            }
+            try {
+                compactSegment(oldest.getValue());
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            compacted++;
+        }
+        return compacted;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory to store the log segments.
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory for the log segments")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum size of a log segment in bytes")
+    public int getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * Sets the maximum size of a log segment in bytes, before a new segment is created.
+     * <p/>
+     * The default is 64mb.
+     */
+    public void setMaxSegmentSize(int maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    public long getInitialIndexCapacity() {
+        return initialIndexCapacity;
+    }
+
+    /**
+     * Sets the initial number of slots in the hash index, which is rounded up to the nearest power of two. The index is
+     * grown when it is half full, each slot takes up 16 bytes.
+     * <p/>
+     * The default is 1048576 (16mb).
+     */
+    public void setInitialIndexCapacity(long initialIndexCapacity) {
+        this.initialIndexCapacity = initialIndexCapacity;
+    }
+
+    @ManagedAttribute(description = "The ratio of garbage records that triggers compaction of the oldest log segment")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the ratio (between 0 and 1) of garbage records (removed keys and tombstones) that triggers compaction of the
+     * oldest log segment.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public long getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    /**
+     * Sets the interval in millis for the background task that checks whether log segments should be compacted. Use 0
+     * or a negative value to turn off background compaction.
+     * <p/>
+     * The default is 60000.
+     */
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    public boolean isSyncOnWrite() {
+        return syncOnWrite;
+    }
+
+    /**
+     * Whether to force every write to the log segment to be written to the storage device. This is safer in case of an
+     * operating system crash, but is much slower.
+     */
+    public void setSyncOnWrite(boolean syncOnWrite) {
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    @ManagedAttribute(description = "The number of records in the log segments")
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @ManagedAttribute(description = "The number of log segments")
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @ManagedAttribute(description = "The number of log segments compacted")
+    public long getCompactionCount() {
+        return compactions.get();
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    /**
+     * Finds the slot in the index for the given key.
+     *
+     * @return the slot, or <tt>-1</tt> if the key does not exist, or <tt>-2</tt> if the key is in a segment that has
+     *         been removed by compaction, and the lookup should be retried
+     */
+    private long findSlot(HashIndex index, byte[] key, long hash) {
+        long slot = hash & index.mask;
+        for (long i = 0; i <= index.mask; i++) {
+            long slotHash = index.getHash(slot);
+            if (slotHash == 0) {
+                return NOT_FOUND;
+            }
+            if (slotHash == hash) {
+                long location = index.getLocation(slot);
+                if (location != TOMBSTONE) {
+                    Segment segment = segments.get(segmentId(location));
+                    if (segment == null) {
+                        return RETRY;
+                    }
+                    if (segment.matches(offset(location), key)) {
+                        return slot;
+                    }
+                }
+            }
+            slot = (slot + 1) & index.mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private void insert(long hash, long location) throws IOException {
+        HashIndex current = index;
+        if ((current.used + 1) * 2 > current.mask + 1) {
+            current = growIndex(current);
+        }
+        current.put(hash, location);
+    }
+
+    private HashIndex growIndex(HashIndex old) throws IOException {
+        // the tombstones are not copied, so size the new index by the number of keys
+        long capacity = old.mask + 1;
+        while (capacity < (keyCount + 1) * 4) {
+            capacity <<= 1;
+        }
+        LOG.debug("Growing idempotent index from {} to {} slots", old.mask + 1, capacity);
+        HashIndex answer = new HashIndex(new File(directory, INDEX_PREFIX + nextIndexId++ + INDEX_SUFFIX), capacity);
+        for (long slot = 0; slot <= old.mask; slot++) {
+            long hash = old.getHash(slot);
+            if (hash != 0) {
+                long location = old.getLocation(slot);
+                if (location != TOMBSTONE) {
+                    answer.put(hash, location);
+                }
+            }
+        }
+        // readers may still use the old index, which is fine as the file stays mapped until its garbage collected
+        index = answer;
+        old.delete();
+        return answer;
+    }
+
+    private void newIndex(long capacity) throws IOException {
+        long size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        HashIndex old = index;
+        index = new HashIndex(new File(directory, INDEX_PREFIX + nextIndexId++ + INDEX_SUFFIX), size);
+        if (old != null) {
+            old.delete();
+        }
+    }
+
+    private long append(byte type, byte[] key) throws IOException {
+        if (RECORD_HEADER_SIZE + key.length > maxSegmentSize) {
+            throw new IllegalArgumentException(
+                    "Key with " + key.length + " bytes is too large for the maximum segment size: " + maxSegmentSize);
+        }
+        Segment segment = activeSegment;
+        int offset = segment.append(type, key, syncOnWrite);
+        if (offset < 0) {
+            // segment is full so roll over to a new segment
+            segment.buffer.force();
+            segment = openSegment(segment.id + 1);
+            activeSegment = segment;
+            offset = segment.append(type, key, syncOnWrite);
+        }
+        if (type == RECORD_ADD) {
+            segment.live++;
+        }
+        recordCount++;
+        return location(segment.id, offset);
+    }
+
+    private Segment openSegment(int id) throws IOException {
+        File file = new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+        Segment segment = new Segment(id, file, (int) Math.max(file.length(), maxSegmentSize));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private boolean isCompactionNeeded(Segment oldest) {
+        lock.lock();
+        try {
+            if (oldest.records > 0 && (double) (oldest.records - oldest.live) / oldest.records >= compactionThreshold) {
+                return true;
+            }
+            // also compact when there is too much garbage in the segments after the oldest, as these can only
+            // be compacted when they become the oldest segment
+            long records = 0;
+            long live = 0;
+            for (Segment segment : segments.values()) {
+                if (segment != activeSegment) {
+                    records += segment.records;
+                    live += segment.live;
+                }
+            }
+            return records > 0 && (double) (records - live) / records >= compactionThreshold;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void compactSegment(Segment segment) throws IOException {
+        LOG.debug("Compacting idempotent log segment: {} with {} records of which {} are in use", segment.file,
+                segment.records, segment.live);
+
+        // the segment is the oldest so the tombstones are no longer needed, and only the keys in use are kept,
+        // the lock is held for each record only, so adding and removing keys are not blocked while compacting
+        segment.scan((type, key, offset) -> {
+            if (type != RECORD_ADD) {
+                return;
+            }
+            long hash = hash(key);
+            lock.lock();
+            try {
+                HashIndex current = index;
+                long slot = findSlot(current, key, hash);
+                if (slot >= 0 && current.getLocation(slot) == location(segment.id, offset)) {
+                    current.setLocation(slot, append(RECORD_ADD, key));
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+
+        lock.lock();
+        try {
+            segments.remove(segment.id);
+            recordCount -= segment.records;
+            segment.delete();
+        } finally {
+            lock.unlock();
+        }
+        compactions.incrementAndGet();
+    }
+
+    private void compactTask() {
+        try {
+            int compacted = compact();
+            if (compacted > 0) {
+                LOG.debug("Compacted {} idempotent log segments in directory: {}", compacted, directory);
+            }
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent log segments in directory: {}. This exception is ignored.", directory, e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+
+        // the index is re-built from the log segments so remove any old index
+        Map<Integer, File> files = new TreeMap<>();
+        File[] existing = directory.listFiles();
+        if (existing != null) {
+            for (File file : existing) {
+                String name = file.getName();
+                if (name.startsWith(INDEX_PREFIX) && name.endsWith(INDEX_SUFFIX)) {
+                    FileUtil.deleteFile(file);
+                } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    String id = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                    files.put(Integer.valueOf(id), file);
+                }
+            }
+        }
+
+        keyCount = 0;
+        recordCount = 0;
+        newIndex(initialIndexCapacity);
+
+        Segment segment = null;
+        for (Integer id : files.keySet()) {
+            segment = openSegment(id);
+            Segment current = segment;
+            current.position = current.scan((type, key, offset) -> replay(current, type, key, offset));
+        }
+        activeSegment = segment != null ? segment : openSegment(0);
+        LOG.debug("Loaded {} keys from {} idempotent log segments in directory: {}", keyCount, segments.size(), directory);
+
+        if (camelContext != null && compactionInterval > 0) {
+            compactionExecutorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "SegmentedFileIdempotentRepositoryCompaction");
+            compactionExecutorService.scheduleWithFixedDelay(this::compactTask, compactionInterval, compactionInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void replay(Segment segment, byte type, byte[] key, int offset) throws IOException {
+        long hash = hash(key);
+        HashIndex current = index;
+        long slot = findSlot(current, key, hash);
+        if (type == RECORD_ADD) {
+            segment.live++;
+            if (slot >= 0) {
+                // the key has been appended again by compaction which was interrupted before the old segment was deleted
+                segments.get(segmentId(current.getLocation(slot))).live--;
+                current.setLocation(slot, location(segment.id, offset));
+            } else {
+                insert(hash, location(segment.id, offset));
+                keyCount++;
+            }
+        } else if (slot >= 0) {
+            segments.get(segmentId(current.getLocation(slot))).live--;
+            current.setLocation(slot, TOMBSTONE);
+            keyCount--;
+        }
+        // count all the records (also tombstones) so the garbage in the segment is known for compaction
+        segment.records++;
+        recordCount++;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactionExecutorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(compactionExecutorService);
+            compactionExecutorService = null;
+        }
+
+        lock.lock();
+        try {
+            if (activeSegment != null) {
+                activeSegment.buffer.force();
+                activeSegment = null;
+            }
+            segments.clear();
+            if (index != null) {
+                index.delete();
+                index = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long hash(byte[] key) {
+        // FNV-1a followed by the murmur3 finalizer, as the lower bits are used to select the slot in the index
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        // zero is used for empty slots in the index
+        return h != 0 ? h : 1;
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xffffffffL);
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(byte type, byte[] key, int offset) throws IOException;
+    }
+
+    /**
+     * A memory-mapped log segment.
+     */
+    private static final class Segment {
+        private final int id;
+        private final File file;
+        private final MappedByteBuffer buffer;
+        // guarded by the repository lock
+        private int position;
+        private long records;
+        private long live;
+
+        private Segment(int id, File file, int capacity) throws IOException {
+            this.id = id;
+            this.file = file;
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                // the mapping stays valid after the channel is closed
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        }
+
+        private boolean matches(int offset, byte[] key) {
+            if (buffer.getInt(offset + 1) != key.length) {
+                return false;
+            }
+            int start = offset + RECORD_HEADER_SIZE;
+            for (int i = 0; i < key.length; i++) {
+                if (buffer.get(start + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Appends the record
+         *
+         * @return the offset of the record, or <tt>-1</tt> if there is no room in this segment
+         */
+        private int append(byte type, byte[] key, boolean sync) {
+            int offset = position;
+            if (offset + RECORD_HEADER_SIZE + key.length > buffer.capacity()) {
+                return -1;
+            }
+            ByteBuffer record = buffer.duplicate();
+            record.position(offset + 1);
+            record.putInt(key.length);
+            record.put(key);
+            // write the type last, as a record with no type marks the end of the segment
+            buffer.put(offset, type);
+            if (sync) {
+                buffer.force();
+            }
+            position = offset + RECORD_HEADER_SIZE + key.length;
+            records++;
+            return offset;
+        }
+
+        /**
+         * Visits all the records in this segment
+         *
+         * @return the position after the last record
+         */
+        private int scan(RecordVisitor visitor) throws IOException {
+            int offset = 0;
+            int capacity = buffer.capacity();
+            while (offset + RECORD_HEADER_SIZE <= capacity) {
+                byte type = buffer.get(offset);
+                if (type == RECORD_END) {
+                    break;
+                }
+                int length = buffer.getInt(offset + 1);
+                if (type != RECORD_ADD && type != RECORD_REMOVE || length < 0
+                        || offset + RECORD_HEADER_SIZE + length > capacity) {
+                    LOG.warn("Idempotent log segment: {} is corrupt at offset: {}. Records after this offset are discarded.",
+                            file, offset);
+                    // clear the rest so new records can be appended from this offset
+                    for (int i = offset; i < capacity; i++) {
+                        if (buffer.get(i) != 0) {
+                            buffer.put(i, RECORD_END);
+                        }
+                    }
+                    break;
+                }
+                byte[] key = new byte[length];
+                ByteBuffer record = buffer.duplicate();
+                record.position(offset + RECORD_HEADER_SIZE);
+                record.get(key);
+                visitor.visit(type, key, offset);
+                offset += RECORD_HEADER_SIZE + length;
+            }
+            return offset;
+        }
+
+        private void delete() {
+            // the file may still be mapped by concurrent readers, which is fine as the mapping stays valid
+            FileUtil.deleteFile(file);
+        }
+    }
+
+    /**
+     * A memory-mapped hash index with open addressing, where each slot has the hash of the key and the location of the
+     * record in the log segments. The slots are updated with volatile semantics, which allows lookups without locking.
+     */
+    private static final class HashIndex {
+        private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+        private static final int SLOT_SIZE = 16;
+        // a mapped region is limited to 2gb so use regions of 1gb
+        private static final int CHUNK_SHIFT = 26;
+        private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+        private final File file;
+        private final MappedByteBuffer[] chunks;
+        private final long mask;
+        // guarded by the repository lock
+        private long used;
+
+        private HashIndex(File file, long capacity) throws IOException {
+            this.file = file;
+            this.mask = capacity - 1;
+            int count = (int) ((capacity + CHUNK_MASK) >>> CHUNK_SHIFT);
+            this.chunks = new MappedByteBuffer[count];
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (int i = 0; i < count; i++) {
+                    long start = (long) i << CHUNK_SHIFT;
+                    long slots = Math.min(CHUNK_MASK + 1, capacity - start);
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, start * SLOT_SIZE, slots * SLOT_SIZE);
+                }
+            }
+        }
+
+        private long getHash(long slot) {
+            return (long) LONGS.getVolatile((ByteBuffer) chunks[(int) (slot >>> CHUNK_SHIFT)],
+                    (int) (slot & CHUNK_MASK) * SLOT_SIZE);
+        }
+
+        private long getLocation(long slot) {
+            return (long) LONGS.getVolatile((ByteBuffer) chunks[(int) (slot >>> CHUNK_SHIFT)],
+                    (int) (slot & CHUNK_MASK) * SLOT_SIZE + 8);
+        }
+
+        private void setLocation(long slot, long location) {
+            LONGS.setVolatile((ByteBuffer) chunks[(int) (slot >>> CHUNK_SHIFT)], (int) (slot & CHUNK_MASK) * SLOT_SIZE + 8,
+                    location);
+        }
+
+        private void put(long hash, long location) {
+            long slot = hash & mask;
+            while (getHash(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            // set the location before the hash, as readers check the hash first
+            setLocation(slot, location);
+            LONGS.setVolatile((ByteBuffer) chunks[(int) (slot >>> CHUNK_SHIFT)], (int) (slot & CHUNK_MASK) * SLOT_SIZE, hash);
+            used++;
+        }
+
+        private void delete() {
+            FileUtil.deleteFile(file);
+        }
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.throttling;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Route;
+import org.apache.camel.support.RoutePolicySupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.RoutePolicy} which limits the number of concurrent inflight exchanges of the routes,
+ * where the limit is adjusted continuously based on the measured processing time and failure rate of the exchanges.
+ * <p/>
+ * The limit is increased while the processing time is stable, and decreased when the processing time increases compared
+ * to the baseline processing time, which is measured when the routes are not busy (the downstream services are queueing
+ * up work), which is a gradient based algorithm. When exchanges fail the limit is decreased multiplicatively by the
+ * backoff ratio (AIMD).
+ * <p/>
+ * When the limit is reached then new exchanges wait for up to the queue timeout (if there is room in the queue), and
+ * otherwise the exchanges are rejected with a {@link RejectedExecutionException}, and not routed.
+ * <p/>
+ * Notice that exchanges wait in the consumer thread, so this should be used with consumers which can be blocked, such
+ * as polling consumers or consumers with a thread pool. The limit is shared by all the routes using the same policy
+ * instance.
+ */
+public class AdaptiveConcurrencyRoutePolicy extends RoutePolicySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyRoutePolicy.class);
+
+    private static final String START_TIME = "CamelAdaptiveConcurrencyStartTime";
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final LongAdder rejected = new LongAdder();
+
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private int maxQueueSize;
+    private long queueTimeout = 1000;
+    private int sampleSize = 10;
+    private int baselineWindow = 100;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private double backoffRatio = 0.9;
+
+    // state guarded by the lock
+    private double limit = -1;
+    private int inflight;
+    private int queueSize;
+    private int samples;
+    private long sampleTime;
+    private boolean sampleFailed;
+    private int sampleMaxInflight;
+    private double shortTime;
+    private double baselineTime;
+
+    public AdaptiveConcurrencyRoutePolicy() {
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyRoutePolicy[" + getLimit() + " (" + minLimit + "-" + maxLimit + ")]";
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        boolean acquired;
+        try {
+            acquired = acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (acquired) {
+            exchange.setProperty(START_TIME, System.nanoTime());
+        } else {
+            rejected.increment();
+            exchange.setException(new RejectedExecutionException(
+                    "Concurrency limit of " + getLimit() + " exchanges exceeded on route: " + route.getId()));
+            // do not route the exchange
+            exchange.setRouteStop(true);
+        }
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        Long start = (Long) exchange.removeProperty(START_TIME);
+        if (start != null) {
+            release(System.nanoTime() - start, exchange.isFailed());
+        }
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the initial limit of concurrent inflight exchanges.
+     * <p/>
+     * Is default 20.
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the lower bound of the limit.
+     * <p/>
+     * Is default 1.
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the upper bound of the limit.
+     * <p/>
+     * Is default 200.
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of exchanges which can wait when the limit is reached. Any further exchanges are
+     * rejected.
+     * <p/>
+     * Is default 0, which rejects the exchanges immediately when the limit is reached.
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    /**
+     * Sets the maximum time in millis an exchange waits when the limit is reached, before it is rejected.
+     * <p/>
+     * Is default 1000.
+     */
+    public void setQueueTimeout(long queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Sets the number of completed exchanges which processing time is averaged for each adjustment of the limit.
+     * <p/>
+     * Is default 10.
+     */
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public int getBaselineWindow() {
+        return baselineWindow;
+    }
+
+    /**
+     * Sets the number of samples of the average baseline processing time, which the current processing time is compared
+     * with. The baseline is the lowest processing time, or the average processing time when the routes are not busy, so
+     * the baseline adapts when the downstream services become slower.
+     * <p/>
+     * Is default 100.
+     */
+    public void setBaselineWindow(int baselineWindow) {
+        this.baselineWindow = baselineWindow;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Sets how much the current processing time may increase compared to the baseline processing time, before the limit
+     * is decreased. For example 1.5 allows an increase of 50%.
+     * <p/>
+     * Is default 1.5.
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * Sets how fast the limit moves towards the new computed limit (between 0 and 1).
+     * <p/>
+     * Is default 0.2.
+     */
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the ratio the limit is multiplied with when exchanges fail (between 0 and 1).
+     * <p/>
+     * Is default 0.9.
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * The current limit of concurrent inflight exchanges
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current number of inflight exchanges
+     */
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current number of exchanges waiting because the limit is reached
+     */
+    public int getQueueSize() {
+        lock.lock();
+        try {
+            return queueSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The baseline processing time in millis, when the routes are not busy
+     */
+    public double getBaselineProcessingTime() {
+        lock.lock();
+        try {
+            return baselineTime / 1000000;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The average processing time in millis of the last sample
+     */
+    public double getShortProcessingTime() {
+        lock.lock();
+        try {
+            return shortTime / 1000000;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of exchanges rejected because the limit was reached
+     */
+    public long getRejectedExchanges() {
+        return rejected.sum();
+    }
+
+    /**
+     * Resets the limit to the initial limit, and forgets the measured processing times
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            limit = clamp(initialLimit);
+            samples = 0;
+            sampleTime = 0;
+            sampleFailed = false;
+            sampleMaxInflight = 0;
+            shortTime = 0;
+            baselineTime = 0;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        rejected.reset();
+    }
+
+    private boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inflight < currentLimit()) {
+                inflight++;
+                return true;
+            }
+            if (queueSize >= maxQueueSize) {
+                return false;
+            }
+            queueSize++;
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+                while (inflight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+                inflight++;
+                return true;
+            } finally {
+                queueSize--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long time, boolean failed) {
+        lock.lock();
+        try {
+            sampleMaxInflight = Math.max(sampleMaxInflight, inflight);
+            inflight--;
+            samples++;
+            sampleTime += time;
+            sampleFailed |= failed;
+            if (samples >= sampleSize) {
+                updateLimit();
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateLimit() {
+        // use the fractional limit so the limit can grow by less than one per sample
+        currentLimit();
+        double current = limit;
+        shortTime = (double) sampleTime / samples;
+        boolean busy = sampleMaxInflight >= current / 2;
+        if (baselineTime == 0 || shortTime < baselineTime) {
+            baselineTime = shortTime;
+        } else if (!busy) {
+            // only follow increasing processing times when not busy, as otherwise the baseline would follow the
+            // processing time which increases due to the load, and the limit would keep increasing
+            baselineTime += (shortTime - baselineTime) * 2 / (baselineWindow + 1);
+        }
+
+        double next;
+        if (sampleFailed) {
+            next = current * backoffRatio;
+        } else if (!busy) {
+            // keep the limit when it is not nearly reached, as the processing time does not tell anything about the limit
+            next = current;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineTime / shortTime));
+            next = current * gradient + Math.sqrt(current);
+            next = current * (1 - smoothing) + next * smoothing;
+        }
+        limit = clamp(next);
+        if (LOG.isDebugEnabled() && (int) limit != (int) current) {
+            LOG.debug("Concurrency limit changed from {} to {} (processing time {} ms / {} ms{})", (int) current, (int) limit,
+                    shortTime / 1000000, baselineTime / 1000000, sampleFailed ? ", failed" : "");
+        }
+
+        samples = 0;
+        sampleTime = 0;
+        sampleFailed = false;
+        sampleMaxInflight = 0;
+    }
+
+    private int currentLimit() {
+        if (limit < 0) {
+            limit = clamp(initialLimit);
+        }
+        return (int) limit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "MinLimit must be at least 1 and not above maxLimit, was: " + minLimit + " / " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("BackoffRatio must be between 0 and 1, was: " + backoffRatio);
+        }
+    }
+}
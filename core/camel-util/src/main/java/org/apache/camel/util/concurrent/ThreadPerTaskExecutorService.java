@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ExecutorService} facade for an executor which starts a new thread per task (such as virtual threads), where
+ * the number of tasks is limited by semaphores instead of by the size of a thread pool.
+ * <p/>
+ * The <tt>maxConcurrentTasks</tt> is the maximum number of tasks executing at the same time, any additional tasks waits
+ * (in their own thread) for a permit before executing. The <tt>maxPendingTasks</tt> is the maximum number of tasks
+ * waiting for a permit, any additional tasks are rejected according to the {@link ThreadPoolRejectedPolicy}. There is
+ * no queue of pending tasks, and therefore <tt>DiscardOldest</tt> works as <tt>Discard</tt>.
+ */
+public class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final int maxConcurrentTasks;
+    private final int maxPendingTasks;
+    private final Semaphore concurrent;
+    private final Semaphore admitted;
+    private final ThreadPoolRejectedPolicy rejectedPolicy;
+    private final String name;
+
+    /**
+     * Creates a new executor
+     *
+     * @param delegate           the executor which starts a new thread per task
+     * @param maxConcurrentTasks maximum number of tasks executing concurrently, or 0 or negative for no limit
+     * @param maxPendingTasks    maximum number of tasks waiting to be executed, or negative for no limit
+     * @param rejectedPolicy     policy for tasks which cannot be executed, or <tt>null</tt> for <tt>CallerRuns</tt>
+     * @param name               name used for logging
+     */
+    public ThreadPerTaskExecutorService(ExecutorService delegate, int maxConcurrentTasks, int maxPendingTasks,
+                                        ThreadPoolRejectedPolicy rejectedPolicy, String name) {
+        this.delegate = delegate;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.maxPendingTasks = maxPendingTasks;
+        this.concurrent = maxConcurrentTasks > 0 ? new Semaphore(maxConcurrentTasks) : null;
+        this.admitted = maxConcurrentTasks > 0 && maxPendingTasks >= 0
+                ? new Semaphore(maxConcurrentTasks + maxPendingTasks) : null;
+        this.rejectedPolicy = rejectedPolicy != null ? rejectedPolicy : ThreadPoolRejectedPolicy.CallerRuns;
+        this.name = name;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Number of tasks currently executing (only available when the number of concurrent tasks is limited)
+     */
+    public int getActiveCount() {
+        return concurrent != null ? maxConcurrentTasks - concurrent.availablePermits() : -1;
+    }
+
+    /**
+     * Number of tasks waiting to be executed (only available when the number of pending tasks is limited)
+     */
+    public int getPendingCount() {
+        if (admitted == null) {
+            return -1;
+        }
+        int inflight = maxConcurrentTasks + maxPendingTasks - admitted.availablePermits();
+        return Math.max(0, inflight - getActiveCount());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (delegate.isShutdown()) {
+            reject(task);
+            return;
+        }
+        if (admitted != null && !admitted.tryAcquire()) {
+            reject(task);
+            return;
+        }
+        try {
+            delegate.execute(() -> runTask(task));
+        } catch (RejectedExecutionException e) {
+            if (admitted != null) {
+                admitted.release();
+            }
+            reject(task);
+        }
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            if (concurrent != null) {
+                try {
+                    concurrent.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (task instanceof Rejectable) {
+                        ((Rejectable) task).reject();
+                    }
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } finally {
+                if (concurrent != null) {
+                    concurrent.release();
+                }
+            }
+        } finally {
+            if (admitted != null) {
+                admitted.release();
+            }
+        }
+    }
+
+    private void reject(Runnable task) {
+        if (rejectedPolicy == ThreadPoolRejectedPolicy.CallerRuns) {
+            if (!delegate.isShutdown()) {
+                task.run();
+            }
+        } else if (task instanceof Rejectable) {
+            ((Rejectable) task).reject();
+        } else if (rejectedPolicy == ThreadPoolRejectedPolicy.Abort) {
+            throw new RejectedExecutionException("Task " + task + " rejected from " + this);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadPerTaskExecutorService[" + name + ", maxConcurrentTasks=" + maxConcurrentTasks
+               + ", maxPendingTasks=" + maxPendingTasks + ", rejectedPolicy=" + rejectedPolicy + "]";
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPerTaskExecutorServiceTest {
+
+    @Test
+    public void testMaxConcurrentTasks() throws Exception {
+        ExecutorService service = new ThreadPerTaskExecutorService(Executors.newCachedThreadPool(), 2, 10, null, "test");
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            service.execute(() -> {
+                int num = active.incrementAndGet();
+                max.accumulateAndGet(num, Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+                active.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(max.get() <= 2, "Should execute at most 2 tasks concurrently, was: " + max.get());
+        service.shutdown();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCallerRunsWhenFull() throws Exception {
+        ThreadPerTaskExecutorService service
+                = new ThreadPerTaskExecutorService(Executors.newCachedThreadPool(), 1, 0, null, "test");
+
+        CountDownLatch block = new CountDownLatch(1);
+        service.execute(() -> {
+            try {
+                block.await();
+            } catch (InterruptedException e) {
+                // ignore
+            }
+        });
+
+        // no more room so the caller runs the task
+        String[] name = new String[1];
+        service.execute(() -> name[0] = Thread.currentThread().getName());
+        assertEquals(Thread.currentThread().getName(), name[0]);
+
+        block.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    public void testAbortWhenFull() throws Exception {
+        ThreadPerTaskExecutorService service = new ThreadPerTaskExecutorService(
+                Executors.newCachedThreadPool(), 1, 0, ThreadPoolRejectedPolicy.Abort, "test");
+
+        CountDownLatch block = new CountDownLatch(1);
+        service.execute(() -> {
+            try {
+                block.await();
+            } catch (InterruptedException e) {
+                // ignore
+            }
+        });
+        assertEquals(1, service.getActiveCount() + service.getPendingCount());
+
+        assertThrows(RejectedExecutionException.class, () -> service.execute(() -> {
+        }));
+
+        block.countDown();
+        service.shutdown();
+    }
+}
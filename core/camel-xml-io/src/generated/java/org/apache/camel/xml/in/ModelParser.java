@@ -99,6 +99,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
@@ -598,6 +599,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategy": def.setAggregationStrategy(val); break;
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); break;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
+                case "copyOnWrite": def.setCopyOnWrite(val); break;
                 case "executorService": def.setExecutorService(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
@@ -808,6 +810,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); break;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
                 case "cacheSize": def.setCacheSize(val); break;
+                case "copyOnWrite": def.setCopyOnWrite(val); break;
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorService": def.setExecutorService(val); break;
                 case "ignoreInvalidEndpoints": def.setIgnoreInvalidEndpoints(val); break;
@@ -1330,8 +1333,10 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategy": def.setAggregationStrategy(val); break;
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); break;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
+                case "copyOnWrite": def.setCopyOnWrite(val); break;
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "inflightWindowSize": def.setInflightWindowSize(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
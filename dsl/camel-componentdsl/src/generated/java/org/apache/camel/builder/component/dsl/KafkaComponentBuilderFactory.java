@@ -246,6 +246,44 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to route the polled records as a single exchange, where the
+         * message body is a list of exchanges, one for each record, with the
+         * record headers. The offsets are committed when the exchange has been
+         * processed. The number of records in a batch is limited by
+         * maxPollRecords. This cannot be used together with allowManualCommit
+         * or recordProcessingThreads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The time in millis to collect records from several polls into a batch
+         * when using batching, before the batch is routed, unless the batch is
+         * full (maxPollRecords) before. If not set, the records of each poll
+         * are routed as a batch.
+         * 
+         * The option is a: &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchingIntervalMs(
+                java.lang.Integer batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -517,6 +555,25 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * The maximum number of records of each consumer which are waiting for
+         * or being processed when using recordProcessingThreads. When the limit
+         * is reached the consumer pauses fetching records until records have
+         * been processed.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param maxInFlightRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder maxInFlightRecords(
+                int maxInFlightRecords) {
+            doSetProperty("maxInFlightRecords", maxInFlightRecords);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -653,6 +710,50 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * Which records are processed in order when using
+         * recordProcessingThreads. With key, the records with the same key are
+         * processed in order, and with partition, all the records of a
+         * partition are processed in order. Records without a key are processed
+         * in order of their partition.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param recordProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder recordProcessingOrdering(
+                java.lang.String recordProcessingOrdering) {
+            doSetProperty("recordProcessingOrdering", recordProcessingOrdering);
+            return this;
+        }
+        /**
+         * The number of threads which process the records of each consumer,
+         * which allows processing the records of a partition in parallel, while
+         * the records with the same key (or of the same partition, see
+         * recordProcessingOrdering) are processed in order. The offsets are
+         * committed up to the last record where all the previous records of the
+         * partition have been processed, as the records may complete out of
+         * order. The default 0 processes the records on the consumer thread.
+         * This cannot be used together with allowManualCommit or
+         * breakOnFirstError.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder recordProcessingThreads(
+                int recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * SeekPolicy.BEGINNING: read from beginning. SeekPolicy.END: read from
@@ -1088,6 +1189,27 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("maxBlockMs", maxBlockMs);
             return this;
         }
+        /**
+         * The maximum number of exchanges which the producer is sending, and
+         * waiting for the acknowledgement of the broker, when using
+         * asynchronous processing. When the limit is reached then new exchanges
+         * are blocked until sends have completed, which slows down the routes
+         * (backpressure) instead of buffering an unbounded number of records.
+         * The default 0 does not limit the number of exchanges.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder maxInFlightExchanges(
+                int maxInFlightExchanges) {
+            doSetProperty("maxInFlightExchanges", maxInFlightExchanges);
+            return this;
+        }
         /**
          * The maximum number of unacknowledged requests the client will send on
          * a single connection before blocking. Note that if this setting is set
@@ -2061,6 +2183,8 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitEnable": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitEnable((boolean) value); return true;
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
+            case "batchingIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setBatchingIntervalMs((java.lang.Integer) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
@@ -2075,6 +2199,7 @@ public interface KafkaComponentBuilderFactory {
             case "headerDeserializer": getOrCreateConfiguration((KafkaComponent) component).setHeaderDeserializer((org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer) value); return true;
             case "heartbeatIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setHeartbeatIntervalMs((java.lang.Integer) value); return true;
             case "keyDeserializer": getOrCreateConfiguration((KafkaComponent) component).setKeyDeserializer((java.lang.String) value); return true;
+            case "maxInFlightRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxInFlightRecords((int) value); return true;
             case "maxPartitionFetchBytes": getOrCreateConfiguration((KafkaComponent) component).setMaxPartitionFetchBytes((java.lang.Integer) value); return true;
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Long) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
@@ -2082,6 +2207,8 @@ public interface KafkaComponentBuilderFactory {
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
+            case "recordProcessingOrdering": getOrCreateConfiguration((KafkaComponent) component).setRecordProcessingOrdering((java.lang.String) value); return true;
+            case "recordProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setRecordProcessingThreads((int) value); return true;
             case "seekTo": getOrCreateConfiguration((KafkaComponent) component).setSeekTo((org.apache.camel.component.kafka.SeekPolicy) value); return true;
             case "sessionTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setSessionTimeoutMs((java.lang.Integer) value); return true;
             case "specificAvroReader": getOrCreateConfiguration((KafkaComponent) component).setSpecificAvroReader((boolean) value); return true;
@@ -2104,6 +2231,7 @@ public interface KafkaComponentBuilderFactory {
             case "lazyStartProducer": ((KafkaComponent) component).setLazyStartProducer((boolean) value); return true;
             case "lingerMs": getOrCreateConfiguration((KafkaComponent) component).setLingerMs((java.lang.Integer) value); return true;
             case "maxBlockMs": getOrCreateConfiguration((KafkaComponent) component).setMaxBlockMs((java.lang.Integer) value); return true;
+            case "maxInFlightExchanges": getOrCreateConfiguration((KafkaComponent) component).setMaxInFlightExchanges((int) value); return true;
             case "maxInFlightRequest": getOrCreateConfiguration((KafkaComponent) component).setMaxInFlightRequest((java.lang.Integer) value); return true;
             case "maxRequestSize": getOrCreateConfiguration((KafkaComponent) component).setMaxRequestSize((java.lang.Integer) value); return true;
             case "metadataMaxAgeMs": getOrCreateConfiguration((KafkaComponent) component).setMetadataMaxAgeMs((java.lang.Integer) value); return true;
@@ -2217,6 +2217,49 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("inProgressRepository", inProgressRepository);
             return this;
         }
+        /**
+         * Whether to list the files in the directory lazily using a
+         * java.nio.file.DirectoryStream, which stops listing as soon as
+         * maxMessagesPerPoll files have been found (when eagerMaxMessagesPerPoll
+         * is enabled), instead of listing all the files in the directory on
+         * every poll. This is recommended for directories with a large number of
+         * files. This option is not in use together with preSort.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param lazyListing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder lazyListing(
+                boolean lazyListing) {
+            doSetProperty("lazyListing", lazyListing);
+            return this;
+        }
+        /**
+         * Whether to list the files in the directory lazily using a
+         * java.nio.file.DirectoryStream, which stops listing as soon as
+         * maxMessagesPerPoll files have been found (when eagerMaxMessagesPerPoll
+         * is enabled), instead of listing all the files in the directory on
+         * every poll. This is recommended for directories with a large number of
+         * files. This option is not in use together with preSort.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param lazyListing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder lazyListing(
+                String lazyListing) {
+            doSetProperty("lazyListing", lazyListing);
+            return this;
+        }
         /**
          * When consuming, a local work directory can be used to store the
          * remote file content directly in local files, to avoid loading the
@@ -368,6 +368,84 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to route the polled records as a single exchange, where the
+         * message body is a list of exchanges, one for each record, with the
+         * record headers. The offsets are committed when the exchange has been
+         * processed. The number of records in a batch is limited by
+         * maxPollRecords. This cannot be used together with allowManualCommit
+         * or recordProcessingThreads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to route the polled records as a single exchange, where the
+         * message body is a list of exchanges, one for each record, with the
+         * record headers. The offsets are committed when the exchange has been
+         * processed. The number of records in a batch is limited by
+         * maxPollRecords. This cannot be used together with allowManualCommit
+         * or recordProcessingThreads.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The time in millis to collect records from several polls into a batch
+         * when using batching, before the batch is routed, unless the batch is
+         * full (maxPollRecords) before. If not set, the records of each poll
+         * are routed as a batch.
+         * 
+         * The option is a: &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                Integer batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
+        /**
+         * The time in millis to collect records from several polls into a batch
+         * when using batching, before the batch is routed, unless the batch is
+         * full (maxPollRecords) before. If not set, the records of each poll
+         * are routed as a batch.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                String batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -860,6 +938,44 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * The maximum number of records of each consumer which are waiting for
+         * or being processed when using recordProcessingThreads. When the limit
+         * is reached the consumer pauses fetching records until records have
+         * been processed.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param maxInFlightRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxInFlightRecords(
+                int maxInFlightRecords) {
+            doSetProperty("maxInFlightRecords", maxInFlightRecords);
+            return this;
+        }
+        /**
+         * The maximum number of records of each consumer which are waiting for
+         * or being processed when using recordProcessingThreads. When the limit
+         * is reached the consumer pauses fetching records until records have
+         * been processed.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param maxInFlightRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxInFlightRecords(
+                String maxInFlightRecords) {
+            doSetProperty("maxInFlightRecords", maxInFlightRecords);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -1117,6 +1233,74 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * Which records are processed in order when using
+         * recordProcessingThreads. With key, the records with the same key are
+         * processed in order, and with partition, all the records of a
+         * partition are processed in order. Records without a key are processed
+         * in order of their partition.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param recordProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingOrdering(
+                String recordProcessingOrdering) {
+            doSetProperty("recordProcessingOrdering", recordProcessingOrdering);
+            return this;
+        }
+        /**
+         * The number of threads which process the records of each consumer,
+         * which allows processing the records of a partition in parallel, while
+         * the records with the same key (or of the same partition, see
+         * recordProcessingOrdering) are processed in order. The offsets are
+         * committed up to the last record where all the previous records of the
+         * partition have been processed, as the records may complete out of
+         * order. The default 0 processes the records on the consumer thread.
+         * This cannot be used together with allowManualCommit or
+         * breakOnFirstError.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingThreads(
+                int recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
+        /**
+         * The number of threads which process the records of each consumer,
+         * which allows processing the records of a partition in parallel, while
+         * the records with the same key (or of the same partition, see
+         * recordProcessingOrdering) are processed in order. The offsets are
+         * committed up to the last record where all the previous records of the
+         * partition have been processed, as the records may complete out of
+         * order. The default 0 processes the records on the consumer thread.
+         * This cannot be used together with allowManualCommit or
+         * breakOnFirstError.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingThreads(
+                String recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * SeekPolicy.BEGINNING: read from beginning. SeekPolicy.END: read from
@@ -2607,6 +2791,48 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("maxBlockMs", maxBlockMs);
             return this;
         }
+        /**
+         * The maximum number of exchanges which the producer is sending, and
+         * waiting for the acknowledgement of the broker, when using
+         * asynchronous processing. When the limit is reached then new exchanges
+         * are blocked until sends have completed, which slows down the routes
+         * (backpressure) instead of buffering an unbounded number of records.
+         * The default 0 does not limit the number of exchanges.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightExchanges(
+                int maxInFlightExchanges) {
+            doSetProperty("maxInFlightExchanges", maxInFlightExchanges);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges which the producer is sending, and
+         * waiting for the acknowledgement of the broker, when using
+         * asynchronous processing. When the limit is reached then new exchanges
+         * are blocked until sends have completed, which slows down the routes
+         * (backpressure) instead of buffering an unbounded number of records.
+         * The default 0 does not limit the number of exchanges.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightExchanges(
+                String maxInFlightExchanges) {
+            doSetProperty("maxInFlightExchanges", maxInFlightExchanges);
+            return this;
+        }
         /**
          * The maximum number of unacknowledged requests the client will send on
          * a single connection before blocking. Note that if this setting is set
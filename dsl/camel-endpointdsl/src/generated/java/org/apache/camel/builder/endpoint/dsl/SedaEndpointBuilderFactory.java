@@ -165,6 +165,45 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of messages the consumer takes from the queue at
+         * once, which are processed one after the other by the consumer thread.
+         * Taking a batch of messages at once reduces the contention on the
+         * queue. The messages have the exchange properties CamelBatchIndex,
+         * CamelBatchSize and CamelBatchComplete set.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages the consumer takes from the queue at
+         * once, which are processed one after the other by the consumer thread.
+         * Taking a batch of messages at once reduces the contention on the
+         * queue. The messages have the exchange properties CamelBatchIndex,
+         * CamelBatchSize and CamelBatchComplete set.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(
+                String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -235,6 +274,45 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * When using batchSize, whether to deliver the messages taken from the
+         * queue at once as a single exchange, which has a java.util.List of the
+         * exchanges as message body. This is intended for one-way messaging, the
+         * grouped exchanges are completed when the single exchange is done.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupBatch the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupBatch(
+                boolean groupBatch) {
+            doSetProperty("groupBatch", groupBatch);
+            return this;
+        }
+        /**
+         * When using batchSize, whether to deliver the messages taken from the
+         * queue at once as a single exchange, which has a java.util.List of the
+         * exchanges as message body. This is intended for one-way messaging, the
+         * grouped exchanges are completed when the single exchange is done.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupBatch the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupBatch(
+                String groupBatch) {
+            doSetProperty("groupBatch", groupBatch);
+            return this;
+        }
         /**
          * Whether to limit the number of concurrentConsumers to the maximum of
          * 500. By default, an exception will be thrown if an endpoint is
@@ -1634,6 +1634,114 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batch", batch);
             return this;
         }
+        /**
+         * If set greater than zero, then the producer buffers the statements
+         * from many exchanges and executes them as a single JDBC batch when this
+         * number of statements has been buffered, or when the batchTimeout has
+         * elapsed. Each exchange is completed when its batch has been executed,
+         * with its own update count in the CamelSqlUpdateCount header. The query
+         * must be an insert, update or delete statement. Notice this should not
+         * be used in transacted routes.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * If set greater than zero, then the producer buffers the statements
+         * from many exchanges and executes them as a single JDBC batch when this
+         * number of statements has been buffered, or when the batchTimeout has
+         * elapsed. Each exchange is completed when its batch has been executed,
+         * with its own update count in the CamelSqlUpdateCount header. The query
+         * must be an insert, update or delete statement. Notice this should not
+         * be used in transacted routes.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * Interval in millis for executing the statements buffered when using
+         * batchSize, so exchanges are not waiting for a batch to be full.
+         * The timeout must be greater than zero.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchTimeout(long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * Interval in millis for executing the statements buffered when using
+         * batchSize, so exchanges are not waiting for a batch to be full.
+         * The timeout must be greater than zero.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchTimeout(String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * If set greater than zero, then the number of rows to fetch from the
+         * database at a time (JDBC fetch size) when executing queries. This is
+         * especially useful with outputType=StreamList, to stream large result
+         * sets without loading all the rows into memory at once.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param fetchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder fetchSize(int fetchSize) {
+            doSetProperty("fetchSize", fetchSize);
+            return this;
+        }
+        /**
+         * If set greater than zero, then the number of rows to fetch from the
+         * database at a time (JDBC fetch size) when executing queries. This is
+         * especially useful with outputType=StreamList, to stream large result
+         * sets without loading all the rows into memory at once.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param fetchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder fetchSize(String fetchSize) {
+            doSetProperty("fetchSize", fetchSize);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
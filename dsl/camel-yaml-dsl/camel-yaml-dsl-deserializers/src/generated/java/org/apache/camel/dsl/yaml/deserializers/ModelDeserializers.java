@@ -321,6 +321,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "ignore-invalid-correlation-keys", type = "boolean"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "lock-stripes", type = "number"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -462,6 +463,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "lock-stripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimistic-lock-retry-policy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -8426,6 +8432,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "aggregation-strategy", type = "string"),
                     @YamlProperty(name = "aggregation-strategy-method-allow-null", type = "boolean"),
                     @YamlProperty(name = "aggregation-strategy-method-name", type = "string"),
+                    @YamlProperty(name = "copy-on-write", type = "boolean"),
                     @YamlProperty(name = "description", type = "string"),
                     @YamlProperty(name = "executor-service", type = "string"),
                     @YamlProperty(name = "id", type = "string"),
@@ -8469,6 +8476,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setAggregationStrategyMethodName(val);
                     break;
                 }
+                case "copy-on-write": {
+                    String val = asText(node);
+                    target.setCopyOnWrite(val);
+                    break;
+                }
                 case "executor-service": {
                     String val = asText(node);
                     target.setExecutorService(val);
@@ -10728,6 +10740,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "aggregation-strategy-method-allow-null", type = "boolean"),
                     @YamlProperty(name = "aggregation-strategy-method-name", type = "string"),
                     @YamlProperty(name = "cache-size", type = "number"),
+                    @YamlProperty(name = "copy-on-write", type = "boolean"),
                     @YamlProperty(name = "delimiter", type = "string"),
                     @YamlProperty(name = "description", type = "string"),
                     @YamlProperty(name = "executor-service", type = "string"),
@@ -10778,6 +10791,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setCacheSize(val);
                     break;
                 }
+                case "copy-on-write": {
+                    String val = asText(node);
+                    target.setCopyOnWrite(val);
+                    break;
+                }
                 case "delimiter": {
                     String val = asText(node);
                     target.setDelimiter(val);
@@ -14437,11 +14455,13 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "aggregation-strategy", type = "string"),
                     @YamlProperty(name = "aggregation-strategy-method-allow-null", type = "boolean"),
                     @YamlProperty(name = "aggregation-strategy-method-name", type = "string"),
+                    @YamlProperty(name = "copy-on-write", type = "boolean"),
                     @YamlProperty(name = "delimiter", type = "string"),
                     @YamlProperty(name = "description", type = "string"),
                     @YamlProperty(name = "executor-service", type = "string"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "inflight-window-size", type = "number"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
                     @YamlProperty(name = "on-prepare", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
@@ -14482,6 +14502,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setAggregationStrategyMethodName(val);
                     break;
                 }
+                case "copy-on-write": {
+                    String val = asText(node);
+                    target.setCopyOnWrite(val);
+                    break;
+                }
                 case "delimiter": {
                     String val = asText(node);
                     target.setDelimiter(val);
@@ -14497,6 +14522,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "inflight-window-size": {
+                    String val = asText(node);
+                    target.setInflightWindowSize(val);
+                    break;
+                }
                 case "inherit-error-handler": {
                     String val = asText(node);
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
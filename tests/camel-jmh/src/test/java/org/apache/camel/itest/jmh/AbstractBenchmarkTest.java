@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Base class for the JMH benchmarks, which are launched as JUnit tests so they can be run with plain Maven.
+ * <p/>
+ * Each benchmark runs with the GC profiler, so the results include the allocation rate per operation
+ * (<tt>gc.alloc.rate.norm</tt>) next to the throughput. The results are written in a machine-readable format (JSON by
+ * default) to <tt>target/jmh-result/&lt;benchmark&gt;.json</tt> so they can be compared between commits.
+ * <p/>
+ * The number of iterations, forks and the result format can be configured with the <tt>jmh.warmupIterations</tt>,
+ * <tt>jmh.measurementIterations</tt>, <tt>jmh.forks</tt> and <tt>jmh.resultFormat</tt> system properties.
+ */
+public abstract class AbstractBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        ResultFormatType format = ResultFormatType.valueOf(System.getProperty("jmh.resultFormat", "JSON"));
+        File dir = new File(System.getProperty("jmh.resultDir", "target/jmh-result"));
+        dir.mkdirs();
+        File result = new File(dir, getClass().getSimpleName() + "." + format.name().toLowerCase());
+
+        Options opt = new OptionsBuilder()
+                // only run the benchmarks from this class
+                .include(getClass().getName() + ".*")
+                .warmupIterations(Integer.getInteger("jmh.warmupIterations", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("jmh.measurementIterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .threads(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(format)
+                .result(result.getPath())
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+        assertFalse(results.isEmpty(), "No benchmark results");
+    }
+
+    /**
+     * Creates a {@link CamelContext} using either the <tt>prototype</tt> (default) or <tt>pooled</tt> exchange factory.
+     */
+    protected static CamelContext createCamelContext(String exchangeFactory) {
+        CamelContext context = new DefaultCamelContext();
+        context.disableJMX();
+        if ("pooled".equals(exchangeFactory)) {
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            ecc.setExchangeFactory(new PooledExchangeFactory());
+            ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        }
+        return context;
+    }
+
+}
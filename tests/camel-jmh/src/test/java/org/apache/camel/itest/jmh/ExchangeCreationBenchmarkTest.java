@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks creating exchanges, either directly as a {@link DefaultExchange} or from the prototype and pooled
+ * {@link org.apache.camel.spi.ExchangeFactory} of a route consumer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeCreationBenchmarkTest extends AbstractBenchmarkTest {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        CamelContext context;
+        DefaultConsumer consumer;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = createCamelContext(exchangeFactory);
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").routeId("start").to("log:out");
+                }
+            });
+            context.start();
+            // use the exchange factory from the route consumer
+            consumer = (DefaultConsumer) context.getRoute("start").getConsumer();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void newDefaultExchange(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        bh.consume(exchange);
+    }
+
+    @Benchmark
+    public void createAndRelease(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        bh.consume(exchange);
+        state.consumer.releaseExchange(exchange, false);
+    }
+
+    @Benchmark
+    public void copyExchange(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        bh.consume(ExchangeHelper.createCopy(exchange, true));
+        state.consumer.releaseExchange(exchange, false);
+    }
+
+}
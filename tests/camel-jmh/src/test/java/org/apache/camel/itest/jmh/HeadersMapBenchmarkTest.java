@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks header lookups and copying of the headers map created by the {@link HeadersMapFactory} implementations,
+ * using a number of headers typical for HTTP, JMS and Kafka messages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeadersMapBenchmarkTest extends AbstractBenchmarkTest {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "default", "hash" })
+        String factory;
+
+        @Param({ "40" })
+        int headers;
+
+        HeadersMapFactory headersMapFactory;
+        Map<String, Object> map;
+        String[] keys;
+        int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            headersMapFactory = "hash".equals(factory)
+                    ? new CaseInsensitiveHashMapHeadersMapFactory() : new DefaultHeadersMapFactory();
+            map = headersMapFactory.newMap();
+            keys = new String[headers];
+            for (int i = 0; i < headers; i++) {
+                keys[i] = "X-Custom-Header-" + i;
+                map.put(keys[i], i);
+            }
+            map.put(Exchange.HTTP_METHOD, "POST");
+            map.put(Exchange.CONTENT_TYPE, "application/json");
+        }
+
+        String nextKey() {
+            index = (index + 1) % keys.length;
+            return keys[index];
+        }
+    }
+
+    @Benchmark
+    public void get(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.map.get(state.nextKey()));
+    }
+
+    @Benchmark
+    public void getOtherCase(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.map.get("x-custom-header-7"));
+    }
+
+    @Benchmark
+    public void getWellKnown(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.map.get(Exchange.CONTENT_TYPE));
+    }
+
+    @Benchmark
+    public void getMissing(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.map.get(Exchange.FILE_NAME));
+    }
+
+    @Benchmark
+    public void copy(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headersMapFactory.newMap(state.map));
+    }
+
+    @Benchmark
+    public void copyAndPut(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> copy = state.headersMapFactory.newMap(state.map);
+        copy.put("Beer", "Carlsberg");
+        bh.consume(copy);
+    }
+
+}
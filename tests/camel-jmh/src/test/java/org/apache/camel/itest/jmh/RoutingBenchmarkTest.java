@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks routing an exchange through a route, which covers the {@link org.apache.camel.processor.Pipeline},
+ * {@link org.apache.camel.impl.engine.CamelInternalProcessor} and {@link org.apache.camel.impl.engine.DefaultChannel}
+ * hot paths, using the prototype and pooled exchange factories.
+ * <p/>
+ * The exchanges are created and released by the route consumer, the same way a polling consumer does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutingBenchmarkTest extends AbstractBenchmarkTest {
+
+    private static final AsyncCallback NOOP_CALLBACK = doneSync -> {
+        // noop
+    };
+
+    public static class MyBean {
+
+        public String hello(String body) {
+            return "Hello " + body;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        CamelContext context;
+        DefaultConsumer simple;
+        DefaultConsumer contentBased;
+        DefaultConsumer bean;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = createCamelContext(exchangeFactory);
+            context.getRegistry().bind("myBean", new MyBean());
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:simple").routeId("simple")
+                            .setHeader("foo", constant("bar"))
+                            .process(e -> e.getMessage().setBody("Bye World"));
+
+                    from("direct:contentBased").routeId("contentBased")
+                            .setHeader("foo", constant("bar"))
+                            .filter(simple("${header.foo} == 'bar'"))
+                                .convertBodyTo(String.class)
+                                .choice()
+                                    .when(simple("${body} contains 'Camel'"))
+                                        .transform(simple("Bye ${body}"))
+                                    .otherwise()
+                                        .to("direct:sub")
+                                .end()
+                            .end()
+                            .removeHeader("foo");
+
+                    from("direct:bean").routeId("bean")
+                            .bean("myBean", "hello")
+                            .to("log:bench?level=OFF");
+
+                    from("direct:sub").routeId("sub")
+                            .setProperty("routed", constant(true))
+                            .transform(simple("Hello ${body}"));
+                }
+            });
+            context.start();
+
+            simple = (DefaultConsumer) context.getRoute("simple").getConsumer();
+            contentBased = (DefaultConsumer) context.getRoute("contentBased").getConsumer();
+            bean = (DefaultConsumer) context.getRoute("bean").getConsumer();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void simpleRoute(BenchmarkState state, Blackhole bh) {
+        route(state.simple, "Hello World", bh);
+    }
+
+    @Benchmark
+    public void contentBasedRoute(BenchmarkState state, Blackhole bh) {
+        route(state.contentBased, "World", bh);
+    }
+
+    @Benchmark
+    public void beanRoute(BenchmarkState state, Blackhole bh) {
+        route(state.bean, "World", bh);
+    }
+
+    private static void route(DefaultConsumer consumer, Object body, Blackhole bh) {
+        Exchange exchange = consumer.createExchange(false);
+        exchange.getMessage().setBody(body);
+        // the routes only use synchronous processors so the exchange is done when process returns
+        consumer.getAsyncProcessor().process(exchange, NOOP_CALLBACK);
+        bh.consume(exchange.getMessage().getBody());
+        consumer.releaseExchange(exchange, false);
+    }
+
+}
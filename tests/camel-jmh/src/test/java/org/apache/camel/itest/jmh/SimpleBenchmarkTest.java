@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks evaluating Simple expressions and predicates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimpleBenchmarkTest extends AbstractBenchmarkTest {
+
+    private static final String TEMPLATE = "Hello ${body} from ${header.foo} with id ${exchangeId}";
+    private static final String PREDICATE = "${header.num} > 10 && ${body} contains 'World'";
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        Language simple;
+        Exchange exchange;
+        Expression header;
+        Expression template;
+        Predicate predicate;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = new DefaultCamelContext();
+            context.start();
+            simple = context.resolveLanguage("simple");
+            header = simple.createExpression("${header.foo}");
+            header.init(context);
+            template = simple.createExpression(TEMPLATE);
+            template.init(context);
+            predicate = simple.createPredicate(PREDICATE);
+            predicate.init(context);
+
+            exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody("World");
+            exchange.getMessage().setHeader("foo", "Camel");
+            exchange.getMessage().setHeader("num", 42);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void header(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.header.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void template(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void predicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    public void createAndEvaluate(BenchmarkState state, Blackhole bh) {
+        // resolves the expression from the language cache on each call, as dynamic endpoints and templates do
+        Expression exp = state.simple.createExpression(TEMPLATE);
+        exp.init(state.context);
+        bh.consume(exp.evaluate(state.exchange, String.class));
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks type converter lookups and conversions in the
+ * {@link org.apache.camel.impl.converter.BaseTypeConverterRegistry}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeConverterBenchmarkTest extends AbstractBenchmarkTest {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        TypeConverterRegistry registry;
+        TypeConverter converter;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = new DefaultCamelContext();
+            context.start();
+            registry = context.getTypeConverterRegistry();
+            converter = context.getTypeConverter();
+            exchange = new DefaultExchange(context);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void lookup(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.registry.lookup(Integer.class, String.class));
+    }
+
+    @Benchmark
+    public void integerToString(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(String.class, 123));
+    }
+
+    @Benchmark
+    public void stringToInteger(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(Integer.class, "123"));
+    }
+
+    @Benchmark
+    public void stringToBytes(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(byte[].class, state.exchange, "Hello World"));
+    }
+
+    @Benchmark
+    public void sameType(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(String.class, "Hello World"));
+    }
+
+    @Benchmark
+    public void noConverter(BenchmarkState state, Blackhole bh) {
+        // a miss, which is a common path when probing for optional conversions
+        bh.consume(state.converter.tryConvertTo(CamelContext.class, state.exchange, "Hello World"));
+    }
+
+}